@@ -1,9 +1,12 @@
 package br.com.microservices.orchestrated.inventoryservice;
 
+import br.com.microservices.orchestrated.inventoryservice.config.aot.InventoryRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(InventoryRuntimeHints.class)
 public class InventoryServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,42 @@
+package br.com.microservices.orchestrated.inventoryservice.config.aot;
+
+import br.com.microservices.orchestrated.inventoryservice.config.exception.ExceptionDetails;
+import br.com.microservices.orchestrated.inventoryservice.core.consumer.InventoryConsumer;
+import br.com.microservices.orchestrated.inventoryservice.core.dto.Event;
+import br.com.microservices.orchestrated.inventoryservice.core.dto.History;
+import br.com.microservices.orchestrated.inventoryservice.core.dto.Order;
+import br.com.microservices.orchestrated.inventoryservice.core.dto.OrderProducts;
+import br.com.microservices.orchestrated.inventoryservice.core.dto.Product;
+import br.com.microservices.orchestrated.inventoryservice.core.model.Inventory;
+import br.com.microservices.orchestrated.inventoryservice.core.model.OrderInventory;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class InventoryRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                Event.class,
+                History.class,
+                Order.class,
+                OrderProducts.class,
+                Product.class,
+                ExceptionDetails.class
+        );
+        hints.reflection().registerType(Inventory.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(OrderInventory.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(InventoryConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
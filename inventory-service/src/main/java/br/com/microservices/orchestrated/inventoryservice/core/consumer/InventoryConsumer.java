@@ -1,7 +1,11 @@
 package br.com.microservices.orchestrated.inventoryservice.core.consumer;
 
+import br.com.microservices.orchestrated.inventoryservice.core.dto.Event;
+import br.com.microservices.orchestrated.inventoryservice.core.producer.KafkaProducer;
 import br.com.microservices.orchestrated.inventoryservice.core.service.InventoryService;
 import br.com.microservices.orchestrated.inventoryservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.idempotency.IdempotencyGuard;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -14,25 +18,51 @@ public class InventoryConsumer {
 
     private final JsonUtil jsonUtil;
     private final InventoryService service;
+    private final StepTimer stepTimer;
+    private final IdempotencyGuard idempotencyGuard;
+    private final KafkaProducer producer;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.inventory-success}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.inventory-success-high}"
+    )
     public void consumeSuccessEvent(String playload) {
         log.info("Consuming notify ending event {} inventory-success", playload);
         var event = jsonUtil.toEvent(playload);
-        service.updateInventory(event);
+        stepTimer.record("inventory-success", () -> idempotencyGuard.runOnce(
+                "inventory-success", event.getTransactionId(), () -> service.updateInventory(event),
+                reply -> publish(reply, event)
+        ));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.inventory-fail}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.inventory-fail-high}"
+    )
     public void consumeFailEvent(String playload) {
         log.info("Consuming notify ending event {} inventory-fail", playload);
         var event = jsonUtil.toEvent(playload);
-        service.rollbackInventory(event);
+        if (event.isRepair()) {
+            stepTimer.record("inventory-fail", () -> service.rollbackInventory(event));
+            return;
+        }
+        stepTimer.record("inventory-fail", () -> idempotencyGuard.runOnce(
+                "inventory-fail", event.getTransactionId(), () -> service.rollbackInventory(event),
+                reply -> publish(reply, event)
+        ));
+    }
+
+    private String publish(String reply, Event event) {
+        producer.sendEvent(reply, event.getTransactionId(), event.getPriority());
+        return reply;
     }
 
 }
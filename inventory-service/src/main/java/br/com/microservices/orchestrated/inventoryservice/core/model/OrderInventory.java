@@ -39,6 +39,9 @@ public class OrderInventory {
     @Column(nullable = false)
     private Integer newQuantity;
 
+    @Column(nullable = false)
+    private boolean success;
+
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
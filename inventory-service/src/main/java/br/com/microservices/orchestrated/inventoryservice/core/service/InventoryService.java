@@ -17,6 +17,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Slf4j
 @Service
@@ -30,20 +31,33 @@ public class InventoryService {
     private final InventoryRepository inventoryRepository;
     private final OrderInventoryRepository orderInventoryRepository;
 
-    public void updateInventory(Event event) {
+    public String updateInventory(Event event) {
+        executeInventoryUpdate(event);
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        producer.sendEvent(payload, event.getTransactionId(), event.getPriority());
+        return payload;
+    }
+
+    public Event executeInventoryUpdate(Event event) {
         try {
-            checkCurrentValidation(event);
-            createOrderInventory(event);
+            var currentOrderInventories = findCurrentOrderInventories(event);
+            if (!currentOrderInventories.isEmpty()) {
+                handleCurrentOrderInventories(event, currentOrderInventories);
+                return event;
+            }
+            var orderInventories = createOrderInventory(event);
             updateInventory(event.getPayload());
+            markOrderInventories(orderInventories, true);
             handleSuccess(event);
         } catch (Exception e) {
             log.error("Error realize update inventory: ", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        return event;
     }
 
-    public void rollbackInventory(Event event) {
+    public String rollbackInventory(Event event) {
         event.setStatus(ESagaStatus.FAIL);
         event.setSource(CURRENT_SOURCE);
         try {
@@ -52,17 +66,21 @@ public class InventoryService {
         } catch (Exception e) {
             addHistory(event, "Inventory not rollback".concat(e.getMessage()));
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        producer.sendEvent(payload, event.getTransactionId(), event.getPriority());
+        return payload;
     }
 
     private void returnInvenotyToPreviousValues(Event event) {
-        var order = orderInventoryRepository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId());
+        var order = findCurrentOrderInventories(event);
         order.forEach(orderInventory -> {
             var inventory = orderInventory.getInventory();
             inventory.setAvailable(orderInventory.getOldQuantity());
             inventoryRepository.save(inventory);
             log.info("Restored inventory for order {} from {} to {}", orderInventory.getOrderId(), orderInventory.getNewQuantity(), inventory.getAvailable());
         });
+        markOrderInventories(order, false);
     }
 
     private void updateInventory(Order order) {
@@ -93,20 +111,30 @@ public class InventoryService {
                 .source(event.getSource())
                 .status(event.getStatus())
                 .message(message)
+                .receivedAt(event.getReceivedAt())
+                .processingMicros(event.processingMicros())
                 .createdAt(LocalDateTime.now())
                 .build();
 
         event.addHistory(history);
     }
 
-    private void createOrderInventory(Event event) {
-        event.getPayload()
+    private List<OrderInventory> createOrderInventory(Event event) {
+        return event.getPayload()
                 .getProducts()
-                .forEach(product -> {
+                .stream()
+                .map(product -> {
                     var inventory = findByInventoryByProductCode(product.getProduct().getCode());
                     var orderInventory = createOrderInventory(event, product, inventory);
-                    orderInventoryRepository.save(orderInventory);
-                });
+                    return orderInventoryRepository.save(orderInventory);
+                })
+                .toList();
+    }
+
+    // The rows are written before the inventory changes, so the rollback can restore a partial update; success marks the ones that completed.
+    private void markOrderInventories(List<OrderInventory> orderInventories, boolean success) {
+        orderInventories.forEach(orderInventory -> orderInventory.setSuccess(success));
+        orderInventoryRepository.saveAll(orderInventories);
     }
 
     private OrderInventory createOrderInventory(Event event, OrderProducts product, Inventory inventory) {
@@ -127,10 +155,18 @@ public class InventoryService {
                 .orElseThrow(() -> new ValidationException("Product code not found"));
     }
 
-    private void checkCurrentValidation(Event event) {
-        if (orderInventoryRepository.existsByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId())) {
+    private List<OrderInventory> findCurrentOrderInventories(Event event) {
+        return orderInventoryRepository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId());
+    }
+
+    // A step re-driven after this service lost its in-memory replies gets the outcome it stored the first time.
+    private void handleCurrentOrderInventories(Event event, List<OrderInventory> orderInventories) {
+        if (!orderInventories.stream().allMatch(OrderInventory::isSuccess)) {
             throw new ValidationException("Current validation already exists");
         }
+        event.setStatus(ESagaStatus.SUCCESS);
+        event.setSource(CURRENT_SOURCE);
+        addHistory(event, "Inventory was already updated");
     }
 
     private void handleFailCurrentNotExecuted(Event event, String message) {
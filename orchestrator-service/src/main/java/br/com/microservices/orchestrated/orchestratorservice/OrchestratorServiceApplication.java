@@ -1,9 +1,12 @@
 package br.com.microservices.orchestrated.orchestratorservice;
 
+import br.com.microservices.orchestrated.orchestratorservice.config.aot.OrchestratorRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(OrchestratorRuntimeHints.class)
 public class OrchestratorServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,40 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.aot;
+
+import br.com.microservices.orchestrated.orchestratorservice.config.exception.ExceptionDetails;
+import br.com.microservices.orchestrated.orchestratorservice.core.consumer.SagaOrchestratorConsumer;
+import br.com.microservices.orchestrated.orchestratorservice.core.consumer.SagaShardedConsumer;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Order;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.OrderProducts;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Product;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStatePage;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStateSnapshot;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class OrchestratorRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                Event.class,
+                History.class,
+                Order.class,
+                OrderProducts.class,
+                Product.class,
+                SagaState.class,
+                SagaStatePage.class,
+                SagaStateSnapshot.class,
+                ExceptionDetails.class
+        );
+        hints.reflection().registerType(SagaOrchestratorConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(SagaShardedConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
@@ -1,20 +1,19 @@
 package br.com.microservices.orchestrated.orchestratorservice.config.kafka;
 
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.sagaruntime.consumer.SagaKafkaConfigurer;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringDeserializer;
-import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 
-import java.util.HashMap;
+import java.util.Arrays;
 import java.util.Map;
 
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
@@ -24,9 +23,10 @@ import static br.com.microservices.orchestrated.orchestratorservice.core.enums.E
 @RequiredArgsConstructor
 public class KafkaConfig {
 
-    private static final Integer PARTITION_COUNT = 1;
     private static final Integer REPLICA_COUNT = 1;
 
+    private final SagaKafkaConfigurer kafkaConfigurer;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapAddress;
 
@@ -36,19 +36,16 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.auto-offset-reset}")
     private String autoOffsetReset;
 
+    @Value("${saga.shard.partitions}")
+    private int partitions;
+
     @Bean
     public ConsumerFactory<String, String> consumerFactory() {
         return new DefaultKafkaConsumerFactory<>(consumerProps());
     }
 
     private Map<String, Object> consumerProps() {
-        var props = new HashMap<String, Object>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
-        return props;
+        return kafkaConfigurer.consumerProps(bootstrapAddress, groupId, autoOffsetReset);
     }
 
     @Bean
@@ -57,11 +54,7 @@ public class KafkaConfig {
     }
 
     private Map<String, Object> procuderProps() {
-        var props = new HashMap<String, Object>();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return props;
+        return kafkaConfigurer.producerProps(bootstrapAddress);
     }
 
     @Bean
@@ -69,11 +62,17 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        return kafkaConfigurer.listenerContainerFactory(consumerFactory);
+    }
+
     private NewTopic buildTopic(String name) {
         return TopicBuilder
                 .name(name)
                 .replicas(REPLICA_COUNT)
-                .partitions(PARTITION_COUNT)
+                .partitions(partitions)
                 .build();
     }
 
@@ -132,4 +131,12 @@ public class KafkaConfig {
         return buildTopic(NOTIFY_ENDING.getTopic());
     }
 
+    @Bean
+    public KafkaAdmin.NewTopics highPriorityTopics() {
+        return new KafkaAdmin.NewTopics(Arrays
+                .stream(ETopics.values())
+                .map(topic -> buildTopic(ESagaPriority.HIGH.topic(topic.getTopic())))
+                .toArray(NewTopic[]::new));
+    }
+
 }
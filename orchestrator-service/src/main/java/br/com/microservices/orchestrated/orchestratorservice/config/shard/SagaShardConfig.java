@@ -0,0 +1,75 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.shard;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaShardCoordinator;
+import br.com.microservices.orchestrated.sagaruntime.consumer.SagaKafkaConfigurer;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.RangeAssignor;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${saga.engine}' == 'listener' and ${saga.shard.enabled}")
+public class SagaShardConfig {
+
+    private static final Integer REPLICA_COUNT = 1;
+
+    private final SagaKafkaConfigurer kafkaConfigurer;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapAddress;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${spring.kafka.consumer.auto-offset-reset}")
+    private String autoOffsetReset;
+
+    @Value("${saga.shard.partitions}")
+    private int partitions;
+
+    @Value("${saga.shard.changelog-topic}")
+    private String changelogTopic;
+
+    // Compaction only: a time based delete would drop sagas still running, so finished ones are
+    // removed by the tombstones the purge of SagaStateSweeper writes.
+    @Bean
+    public NewTopic sagaStateChangelogTopic() {
+        return TopicBuilder
+                .name(changelogTopic)
+                .replicas(REPLICA_COUNT)
+                .partitions(partitions)
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, TopicConfig.CLEANUP_POLICY_COMPACT)
+                .build();
+    }
+
+    // A single subscription to every orchestrator topic with the range assignor gives each consumer
+    // the same partition numbers of all of them, which is what makes a partition a saga shard.
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> shardedListenerContainerFactory(
+            SagaShardCoordinator shardCoordinator) {
+        var props = kafkaConfigurer.consumerProps(bootstrapAddress, groupId, autoOffsetReset);
+        props.put(ConsumerConfig.PARTITION_ASSIGNMENT_STRATEGY_CONFIG, RangeAssignor.class.getName());
+        var factory = kafkaConfigurer.listenerContainerFactory(new DefaultKafkaConsumerFactory<>(props));
+        factory.getContainerProperties().setConsumerRebalanceListener(shardCoordinator);
+        return factory;
+    }
+
+    // Retry topics would move a failed record off its shard; excluding the orchestrator topics keeps
+    // the container's in-place retries, which also preserve the order of the partition.
+    @Bean
+    public RetryTopicConfiguration sagaRetryTopicConfiguration(KafkaTemplate<String, String> kafkaTemplate) {
+        return kafkaConfigurer.retryTopicConfiguration(kafkaTemplate, SagaShardCoordinator.SHARD_TOPICS);
+    }
+
+}
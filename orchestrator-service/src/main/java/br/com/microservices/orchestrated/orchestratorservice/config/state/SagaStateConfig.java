@@ -0,0 +1,51 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.state;
+
+import lombok.extern.slf4j.Slf4j;
+import org.h2.mvstore.MVStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+public class SagaStateConfig {
+
+    @Value("${saga.state.path}")
+    private String path;
+
+    @Value("${saga.state.auto-commit-delay-ms}")
+    private int autoCommitDelayMs;
+
+    @Value("${saga.state.cache-size-mb}")
+    private int cacheSizeMb;
+
+    @Value("${saga.shard.enabled}")
+    private boolean sharded;
+
+    @Bean(destroyMethod = "close")
+    public MVStore sagaStateStore() throws IOException {
+        var builder = new MVStore.Builder().cacheSize(cacheSizeMb);
+        if (sharded) {
+            log.info("Saga state kept in memory and rebuilt from the changelog of the owned shards");
+        } else if (isEmpty(path)) {
+            log.info("Saga state kept in memory only");
+        } else {
+            var file = Path.of(path).toAbsolutePath();
+            Files.createDirectories(file.getParent());
+            builder.fileName(file.toString());
+            log.info("Saga state stored at {}", file);
+        }
+        var store = builder.open();
+        store.setAutoCommitDelay(autoCommitDelayMs);
+        return store;
+    }
+
+}
@@ -0,0 +1,133 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.streams;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
+import br.com.microservices.orchestrated.orchestratorservice.core.streams.SagaRoute;
+import br.com.microservices.orchestrated.orchestratorservice.core.streams.SagaStreamsTopology;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.kstream.KStream;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafkaStreams;
+import org.springframework.kafka.annotation.KafkaStreamsDefaultConfiguration;
+import org.springframework.kafka.config.KafkaStreamsConfiguration;
+
+import java.nio.file.Path;
+import java.util.HashMap;
+
+@EnableKafkaStreams
+@Configuration
+@ConditionalOnProperty(name = "saga.engine", havingValue = "streams")
+public class SagaStreamsConfig {
+
+    private static final String SEQUENTIAL_COMPENSATION = "sequential";
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapAddress;
+
+    @Value("${spring.kafka.consumer.auto-offset-reset}")
+    private String autoOffsetReset;
+
+    @Value("${saga.streams.application-id}")
+    private String applicationId;
+
+    @Value("${saga.streams.state-dir}")
+    private String stateDir;
+
+    @Value("${saga.streams.threads}")
+    private int threads;
+
+    @Value("${saga.streams.processing-guarantee}")
+    private String processingGuarantee;
+
+    @Value("${saga.streams.commit-interval-ms}")
+    private long commitIntervalMs;
+
+    @Value("${saga.runtime.producer.linger-ms}")
+    private int lingerMs;
+
+    @Value("${saga.timeout.enabled}")
+    private boolean timeoutEnabled;
+
+    @Value("${saga.timeout.step-timeout-ms}")
+    private long stepTimeoutMs;
+
+    @Value("${saga.timeout.max-redrives}")
+    private int maxRedrives;
+
+    @Value("${saga.timeout.tick-ms}")
+    private long tickMs;
+
+    @Value("${saga.state.finished-retention-ms}")
+    private long finishedRetentionMs;
+
+    @Value("${saga.state.purge-interval-ms}")
+    private long purgeIntervalMs;
+
+    @Value("${saga.compensation.mode}")
+    private String compensationMode;
+
+    @Value("${saga.fast-lane.enabled}")
+    private boolean fastLaneEnabled;
+
+    @Value("${saga.shard.enabled}")
+    private boolean shardEnabled;
+
+    @Bean(name = KafkaStreamsDefaultConfiguration.DEFAULT_STREAMS_CONFIG_BEAN_NAME)
+    public KafkaStreamsConfiguration sagaStreamsConfig() {
+        var props = new HashMap<String, Object>();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, applicationId);
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
+        props.put(StreamsConfig.STATE_DIR_CONFIG, Path.of(stateDir).toAbsolutePath().toString());
+        props.put(StreamsConfig.NUM_STREAM_THREADS_CONFIG, threads);
+        props.put(StreamsConfig.PROCESSING_GUARANTEE_CONFIG, processingGuarantee);
+        props.put(StreamsConfig.COMMIT_INTERVAL_MS_CONFIG, commitIntervalMs);
+        props.put(StreamsConfig.DEFAULT_KEY_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        props.put(StreamsConfig.DEFAULT_VALUE_SERDE_CLASS_CONFIG, Serdes.StringSerde.class);
+        props.put(StreamsConfig.consumerPrefix(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG), autoOffsetReset);
+        props.put(StreamsConfig.producerPrefix(ProducerConfig.LINGER_MS_CONFIG), lingerMs);
+        return new KafkaStreamsConfiguration(props);
+    }
+
+    @Bean
+    public SagaStreamsTopology sagaStreamsTopology(SagaExecutionController controller,
+                                                   JsonUtil jsonUtil,
+                                                   SagaSerdeFactory serdeFactory,
+                                                   QuarantineStore quarantineStore) {
+        rejectListenerOnlyOptions();
+        var settings = new SagaStreamsTopology.Settings(
+                timeoutEnabled, stepTimeoutMs, maxRedrives, tickMs, finishedRetentionMs, purgeIntervalMs
+        );
+        return new SagaStreamsTopology(settings, controller, jsonUtil, serdeFactory, quarantineStore);
+    }
+
+    @Bean
+    public KStream<String, SagaRoute> sagaRoutes(StreamsBuilder streamsBuilder, SagaStreamsTopology topology) {
+        return topology.addTo(streamsBuilder);
+    }
+
+    // These options only exist in the listener engine; failing here beats silently ignoring them.
+    private void rejectListenerOnlyOptions() {
+        if (!SEQUENTIAL_COMPENSATION.equalsIgnoreCase(compensationMode)) {
+            throw new IllegalStateException("saga.compensation.mode (SAGA_COMPENSATION_MODE) must be sequential "
+                    + "with saga.engine=streams, which only compensates in sequence");
+        }
+        if (fastLaneEnabled) {
+            throw new IllegalStateException("saga.fast-lane.enabled (SAGA_FAST_LANE_ENABLED) is only supported "
+                    + "by saga.engine=listener");
+        }
+        if (shardEnabled) {
+            throw new IllegalStateException("saga.shard.enabled (SAGA_SHARD_ENABLED) is only supported by "
+                    + "saga.engine=listener; the streams engine is partitioned by Kafka Streams itself");
+        }
+    }
+
+}
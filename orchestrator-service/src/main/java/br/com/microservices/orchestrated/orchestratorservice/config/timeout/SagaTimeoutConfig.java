@@ -0,0 +1,24 @@
+package br.com.microservices.orchestrated.orchestratorservice.config.timeout;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.HierarchicalTimingWheel;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+public class SagaTimeoutConfig {
+
+    private static final int WHEEL_BITS = 6;
+    private static final int WHEEL_LEVELS = 4;
+
+    @Value("${saga.timeout.tick-ms}")
+    private long tickMs;
+
+    @Bean
+    public HierarchicalTimingWheel<String> sagaTimeoutWheel() {
+        return new HierarchicalTimingWheel<>(tickMs, WHEEL_BITS, WHEEL_LEVELS, System.currentTimeMillis());
+    }
+
+}
@@ -0,0 +1,84 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.client;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
+
+/**
+ * Calls the forward steps directly on the workers over one pooled HTTP/2 client. Any error,
+ * timeout or non 200 answer comes back empty so the caller can fall back to Kafka.
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("'${saga.engine}' == 'listener' and ${saga.fast-lane.enabled}")
+public class SagaFastLaneClient {
+
+    private static final String FAST_LANE_PATH = "/api/saga/fast-lane";
+
+    private final JsonUtil jsonUtil;
+    private final HttpClient client;
+    private final Duration timeout;
+    private final Map<ETopics, URI> stepUris;
+
+    public SagaFastLaneClient(JsonUtil jsonUtil,
+                              @Value("${saga.fast-lane.timeout-ms}") long timeoutMs,
+                              @Value("${saga.fast-lane.connect-timeout-ms}") long connectTimeoutMs,
+                              @Value("${saga.fast-lane.product-validation-url}") String productValidationUrl,
+                              @Value("${saga.fast-lane.payment-url}") String paymentUrl,
+                              @Value("${saga.fast-lane.inventory-url}") String inventoryUrl) {
+        this.jsonUtil = jsonUtil;
+        this.timeout = Duration.ofMillis(timeoutMs);
+        this.client = HttpClient
+                .newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .build();
+        this.stepUris = Map.of(
+                PRODUCT_VALIDATION_SUCCESS, URI.create(productValidationUrl.concat(FAST_LANE_PATH)),
+                PAYMENT_SUCCESS, URI.create(paymentUrl.concat(FAST_LANE_PATH)),
+                INVENTORY_SUCCESS, URI.create(inventoryUrl.concat(FAST_LANE_PATH))
+        );
+    }
+
+    public boolean supports(ETopics step) {
+        return stepUris.containsKey(step);
+    }
+
+    public Optional<Event> execute(ETopics step, String payload) {
+        try {
+            var request = HttpRequest
+                    .newBuilder(stepUris.get(step))
+                    .timeout(timeout)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(payload))
+                    .build();
+            var response = client.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != 200) {
+                log.warn("Fast lane step {} answered {}, falling back to kafka", step, response.statusCode());
+                return Optional.empty();
+            }
+            return Optional.of(jsonUtil.toEvent(response.body()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        } catch (Exception e) {
+            log.warn("Fast lane step {} failed, falling back to kafka: {}", step, e.toString());
+            return Optional.empty();
+        }
+    }
+
+}
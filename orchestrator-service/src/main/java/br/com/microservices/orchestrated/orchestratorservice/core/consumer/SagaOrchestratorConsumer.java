@@ -2,57 +2,77 @@ package br.com.microservices.orchestrated.orchestratorservice.core.consumer;
 
 import br.com.microservices.orchestrated.orchestratorservice.core.service.OrchestratorService;
 import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @AllArgsConstructor
+@ConditionalOnExpression("'${saga.engine}' == 'listener' and !${saga.shard.enabled}")
 public class SagaOrchestratorConsumer {
 
     private final JsonUtil jsonUtil;
     private final OrchestratorService orchestratorService;
+    private final StepTimer stepTimer;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.start-saga}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.start-saga-high}"
+    )
     public void consumeStartSagaEvent(String playload) {
         log.info("Consuming notify ending event {} start-saga", playload);
         var event = jsonUtil.toEvent(playload);
-        orchestratorService.startSaga(event);
+        stepTimer.record("start-saga", () -> orchestratorService.startSaga(event));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.orchestrator}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.orchestrator-high}"
+    )
     public void consumeOrchestratorEvent(String playload) {
         log.info("Consuming notify ending event {} orchestrator", playload);
         var event = jsonUtil.toEvent(playload);
-        orchestratorService.continueSaga(event);
+        stepTimer.record("orchestrator", () -> orchestratorService.continueSaga(event));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.finish-success}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.finish-success-high}"
+    )
     public void consumeFinishSuccessEvent(String playload) {
         log.info("Consuming notify ending event {} finish-success", playload);
         var event = jsonUtil.toEvent(playload);
-        orchestratorService.finishSagaSucsess(event);
+        stepTimer.record("finish-success", () -> orchestratorService.finishSagaSucsess(event));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.finish-fail}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.finish-fail-high}"
+    )
     public void consumeFinishFailEvent(String playload) {
         log.info("Consuming notify ending event {} finish-fail", playload);
         var event = jsonUtil.toEvent(playload);
-        orchestratorService.finishSagaFail(event);
+        stepTimer.record("finish-fail", () -> orchestratorService.finishSagaFail(event));
     }
 
 }
@@ -0,0 +1,75 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.consumer;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.service.OrchestratorService;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${saga.engine}' == 'listener' and ${saga.shard.enabled}")
+public class SagaShardedConsumer {
+
+    private final JsonUtil jsonUtil;
+    private final OrchestratorService orchestratorService;
+    private final StepTimer stepTimer;
+
+    @Value("${spring.kafka.topic.start-saga}")
+    private String startSagaTopic;
+
+    @Value("${spring.kafka.topic.orchestrator}")
+    private String orchestratorTopic;
+
+    @Value("${spring.kafka.topic.finish-success}")
+    private String finishSuccessTopic;
+
+    @Value("${spring.kafka.topic.finish-fail}")
+    private String finishFailTopic;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            containerFactory = "shardedListenerContainerFactory",
+            topics = {
+                    "${spring.kafka.topic.start-saga}",
+                    "${spring.kafka.topic.start-saga-high}",
+                    "${spring.kafka.topic.orchestrator}",
+                    "${spring.kafka.topic.orchestrator-high}",
+                    "${spring.kafka.topic.finish-success}",
+                    "${spring.kafka.topic.finish-success-high}",
+                    "${spring.kafka.topic.finish-fail}",
+                    "${spring.kafka.topic.finish-fail-high}"
+            }
+    )
+    public void consumeShardEvent(@Payload String playload, @Header(KafkaHeaders.RECEIVED_TOPIC) String topic) {
+        log.info("Consuming event {} {}", playload, topic);
+        var baseTopic = baseTopic(topic);
+        var event = jsonUtil.toEvent(playload);
+        if (startSagaTopic.equals(baseTopic)) {
+            stepTimer.record(baseTopic, () -> orchestratorService.startSaga(event));
+        } else if (orchestratorTopic.equals(baseTopic)) {
+            stepTimer.record(baseTopic, () -> orchestratorService.continueSaga(event));
+        } else if (finishSuccessTopic.equals(baseTopic)) {
+            stepTimer.record(baseTopic, () -> orchestratorService.finishSagaSucsess(event));
+        } else if (finishFailTopic.equals(baseTopic)) {
+            stepTimer.record(baseTopic, () -> orchestratorService.finishSagaFail(event));
+        } else {
+            log.warn("Ignoring event from unexpected topic {}", topic);
+        }
+    }
+
+    private String baseTopic(String topic) {
+        var suffix = ESagaPriority.HIGH.getTopicSuffix();
+        return topic.endsWith(suffix) ? topic.substring(0, topic.length() - suffix.length()) : topic;
+    }
+
+}
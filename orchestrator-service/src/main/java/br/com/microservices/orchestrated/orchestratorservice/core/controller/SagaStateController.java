@@ -0,0 +1,35 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.controller;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStatePage;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.service.SagaStateService;
+import lombok.AllArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/saga")
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+public class SagaStateController {
+
+    private final SagaStateService sagaStateService;
+
+    @GetMapping("{transactionId}")
+    public SagaState findByTransactionId(@PathVariable String transactionId) {
+        return sagaStateService.findByTransactionId(transactionId);
+    }
+
+    @GetMapping
+    public SagaStatePage findByState(@RequestParam ESagaState state,
+                                     @RequestParam(defaultValue = "0") int page,
+                                     @RequestParam(defaultValue = "20") int size) {
+        return sagaStateService.findByState(state, page, size);
+    }
+
+}
@@ -2,6 +2,9 @@ package br.com.microservices.orchestrated.orchestratorservice.core.dto;
 
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -10,6 +13,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 
@@ -25,8 +29,16 @@ public class Event {
     private Order payload;
     private EEventSource source;
     private ESagaStatus status;
+    private ESagaPriority priority;
     private List<History> eventHistory;
     private LocalDateTime createdAt;
+    // Carried by the reply to a reconciler repair, which never moves the saga.
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean repair;
+    @JsonIgnore
+    private LocalDateTime receivedAt;
+    @JsonIgnore
+    private long receivedNanos;
 
     public void addHistory(History history) {
         if (eventHistory == null) {
@@ -38,4 +50,23 @@ public class Event {
         eventHistory.add(history);
     }
 
+    public void markReceived() {
+        receivedAt = LocalDateTime.now();
+        receivedNanos = System.nanoTime();
+    }
+
+    public Long processingMicros() {
+        return receivedNanos == 0 ? null : TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - receivedNanos);
+    }
+
+    public void markSent() {
+        if (isEmpty(eventHistory)) {
+            return;
+        }
+        var last = eventHistory.get(eventHistory.size() - 1);
+        if (last.getSentAt() == null) {
+            last.setSentAt(LocalDateTime.now());
+        }
+    }
+
 }
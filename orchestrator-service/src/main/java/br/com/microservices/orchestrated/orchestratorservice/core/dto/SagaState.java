@@ -0,0 +1,36 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.dto;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SagaState {
+
+    private String transactionId;
+    private String orderId;
+    private String eventId;
+    private ESagaState state;
+    private EEventSource source;
+    private ESagaStatus stepStatus;
+    private ETopics currentStep;
+    private List<ETopics> pendingCompensations;
+    private ESagaPriority priority;
+    private int retries;
+    private LocalDateTime startedAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime finishedAt;
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.dto;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SagaStatePage {
+
+    private ESagaState state;
+    private int page;
+    private int size;
+    private long total;
+    private List<SagaState> content;
+
+}
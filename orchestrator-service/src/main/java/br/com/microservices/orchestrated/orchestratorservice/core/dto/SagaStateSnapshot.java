@@ -0,0 +1,17 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SagaStateSnapshot {
+
+    private SagaState state;
+    private String lastEvent;
+
+}
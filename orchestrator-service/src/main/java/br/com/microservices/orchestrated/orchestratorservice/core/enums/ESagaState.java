@@ -0,0 +1,17 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.enums;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ESagaState {
+
+    RUNNING(false),
+    COMPENSATING(false),
+    COMPLETED(true),
+    FAILED(true);
+
+    private boolean finished;
+
+}
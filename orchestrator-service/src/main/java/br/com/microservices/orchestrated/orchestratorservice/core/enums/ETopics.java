@@ -3,22 +3,26 @@ package br.com.microservices.orchestrated.orchestratorservice.core.enums;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
+
 @Getter
 @AllArgsConstructor
 public enum ETopics {
 
-    START_SAGA("start-saga"),
-    BASE_ORCHESTRATOR("orchestrator"),
-    FINISH_SUCCESS("finish-success"),
-    FINISH_FAIL("finish-fail"),
-    PRODUCT_VALIDATION_SUCCESS("product-validation-success"),
-    PRODUCT_VALIDATION_FAIL("product-validation-fail"),
-    PAYMENT_SUCCESS("payment-success"),
-    PAYMENT_FAIL("payment-fail"),
-    INVENTORY_SUCCESS("inventory-success"),
-    INVENTORY_FAIL("inventory-fail"),
-    NOTIFY_ENDING("notify-ending");
+    START_SAGA("start-saga", ORCHESTRATOR, false),
+    BASE_ORCHESTRATOR("orchestrator", ORCHESTRATOR, false),
+    FINISH_SUCCESS("finish-success", ORCHESTRATOR, false),
+    FINISH_FAIL("finish-fail", ORCHESTRATOR, false),
+    PRODUCT_VALIDATION_SUCCESS("product-validation-success", PRODUCT_VALIDATION_SERVICE, false),
+    PRODUCT_VALIDATION_FAIL("product-validation-fail", PRODUCT_VALIDATION_SERVICE, true),
+    PAYMENT_SUCCESS("payment-success", PAYMENT_SERVICE, false),
+    PAYMENT_FAIL("payment-fail", PAYMENT_SERVICE, true),
+    INVENTORY_SUCCESS("inventory-success", INVENTORY_SERVICE, false),
+    INVENTORY_FAIL("inventory-fail", INVENTORY_SERVICE, true),
+    NOTIFY_ENDING("notify-ending", ORCHESTRATOR, false);
 
     private String topic;
+    private EEventSource owner;
+    private boolean compensation;
 
 }
@@ -1,23 +1,24 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.producer;
 
+import br.com.microservices.orchestrated.sagaruntime.producer.SagaEventPublisher;
 import lombok.AllArgsConstructor;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @AllArgsConstructor
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
 public class SagaOrchestratorProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SagaEventPublisher eventPublisher;
 
-    public void sendEvent(String playload, String topic) {
+    public void sendEvent(String playload, String key, String topic) {
         try {
             log.info("Sending event to kafka {} with payload {}", topic, playload);
-            kafkaTemplate.send(topic, playload);
+            eventPublisher.send(topic, key, playload);
         } catch (Exception e) {
             log.error("Error sending event to kafka", e);
         }
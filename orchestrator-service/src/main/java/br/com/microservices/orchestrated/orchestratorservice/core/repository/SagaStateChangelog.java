@@ -0,0 +1,125 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.repository;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStateSnapshot;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.SagaPartitioner;
+import br.com.microservices.orchestrated.sagaruntime.producer.SagaEventPublisher;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaJsonSerde;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.KafkaConsumer;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Compacted topic holding the latest state (and last event sent) of every saga, keyed by
+ * transactionId. It has as many partitions as the orchestrator topics, so changelog partition N
+ * holds exactly the sagas of shard N and can be replayed by whichever instance takes it over.
+ * Purged sagas are written as tombstones, so compaction eventually drops them from the topic too.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+public class SagaStateChangelog {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final SagaEventPublisher eventPublisher;
+    private final SagaJsonSerde<SagaStateSnapshot> serde;
+
+    @Value("${saga.shard.enabled}")
+    private boolean enabled;
+
+    @Value("${saga.shard.partitions}")
+    private int partitions;
+
+    @Value("${saga.shard.changelog-topic}")
+    private String topic;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapAddress;
+
+    public SagaStateChangelog(SagaEventPublisher eventPublisher, SagaSerdeFactory serdeFactory) {
+        this.eventPublisher = eventPublisher;
+        this.serde = serdeFactory.forType(SagaStateSnapshot.class);
+    }
+
+    public void publish(SagaState sagaState, String lastEvent) {
+        if (!enabled) {
+            return;
+        }
+        var snapshot = SagaStateSnapshot
+                .builder()
+                .state(sagaState)
+                .lastEvent(lastEvent)
+                .build();
+        eventPublisher.send(topic, sagaState.getTransactionId(), serde.toJson(snapshot));
+    }
+
+    public void publishRemoval(String transactionId) {
+        if (enabled) {
+            eventPublisher.send(topic, transactionId, null);
+        }
+    }
+
+    public void flush() {
+        if (enabled) {
+            eventPublisher.flush();
+        }
+    }
+
+    public int partitionOf(String transactionId) {
+        return SagaPartitioner.partitionOf(transactionId, partitions);
+    }
+
+    public long replay(Collection<Integer> shards, Consumer<SagaStateSnapshot> restore, Consumer<String> remove) {
+        var topicPartitions = shards
+                .stream()
+                .map(shard -> new TopicPartition(topic, shard))
+                .toList();
+        var restored = 0L;
+        try (var consumer = new KafkaConsumer<String, String>(restoreProps())) {
+            consumer.assign(topicPartitions);
+            consumer.seekToBeginning(topicPartitions);
+            var endOffsets = consumer.endOffsets(topicPartitions);
+            while (!reachedEnd(consumer, endOffsets)) {
+                for (var record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.value() == null) {
+                        remove.accept(record.key());
+                    } else {
+                        restore.accept(serde.fromJson(record.value()));
+                        restored++;
+                    }
+                }
+            }
+        }
+        return restored;
+    }
+
+    private boolean reachedEnd(KafkaConsumer<String, String> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets
+                .entrySet()
+                .stream()
+                .allMatch(entry -> consumer.position(entry.getKey()) >= entry.getValue());
+    }
+
+    private Map<String, Object> restoreProps() {
+        var props = new HashMap<String, Object>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        props.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        return props;
+    }
+
+}
@@ -0,0 +1,147 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.repository;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaJsonSerde;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
+import org.h2.mvstore.MVMap;
+import org.h2.mvstore.MVStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Saga states kept in an embedded MVStore. The store is log-structured: every commit appends a
+ * new chunk to the file, so writes never leave the process and a restart reopens the last commit.
+ * A secondary map keyed by {@code state|transactionId} serves the paged listing by state, and the
+ * last event sent for each unfinished saga is kept so a timed out step can be re-driven.
+ * <p>
+ * Writers of different sagas run concurrently, so the index is only changed and read holding its
+ * monitor: a page is resolved from one consistent index instead of positions that moved under it.
+ * The store commits in the background every {@code saga.state.auto-commit-delay-ms}, so a crash
+ * loses the transitions of at most that window.
+ */
+@Component
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+public class SagaStateRepository {
+
+    private static final String STATES_MAP = "saga-states";
+    private static final String STATE_BY_ID_MAP = "saga-state-by-id";
+    private static final String ID_BY_STATE_MAP = "saga-id-by-state";
+    private static final String LAST_EVENT_MAP = "saga-last-event";
+    private static final char SEPARATOR = '|';
+    private static final char LAST_CHAR = Character.MAX_VALUE;
+
+    private final MVMap<String, byte[]> states;
+    private final MVMap<String, String> stateById;
+    private final MVMap<String, String> idByState;
+    private final MVMap<String, String> lastEvents;
+    private final SagaJsonSerde<SagaState> serde;
+
+    public SagaStateRepository(MVStore store, SagaSerdeFactory serdeFactory) {
+        this.states = store.openMap(STATES_MAP);
+        this.stateById = store.openMap(STATE_BY_ID_MAP);
+        this.idByState = store.openMap(ID_BY_STATE_MAP);
+        this.lastEvents = store.openMap(LAST_EVENT_MAP);
+        this.serde = serdeFactory.forType(SagaState.class);
+    }
+
+    public Optional<SagaState> findById(String transactionId) {
+        return Optional
+                .ofNullable(states.get(transactionId))
+                .map(serde::fromBytes);
+    }
+
+    public void save(SagaState sagaState) {
+        var transactionId = sagaState.getTransactionId();
+        var state = sagaState.getState().name();
+        states.put(transactionId, serde.toBytes(sagaState));
+        synchronized (idByState) {
+            var previous = stateById.put(transactionId, state);
+            if (!state.equals(previous)) {
+                if (previous != null) {
+                    idByState.remove(indexKey(previous, transactionId));
+                }
+                idByState.put(indexKey(state, transactionId), transactionId);
+            }
+        }
+    }
+
+    public void remove(String transactionId) {
+        states.remove(transactionId);
+        lastEvents.remove(transactionId);
+        synchronized (idByState) {
+            var previous = stateById.remove(transactionId);
+            if (previous != null) {
+                idByState.remove(indexKey(previous, transactionId));
+            }
+        }
+    }
+
+    public List<String> removeIf(Predicate<String> transactionIdFilter) {
+        var removed = new ArrayList<String>();
+        for (var keys = states.keyIterator(null); keys.hasNext(); ) {
+            var transactionId = keys.next();
+            if (transactionIdFilter.test(transactionId)) {
+                removed.add(transactionId);
+            }
+        }
+        removed.forEach(this::remove);
+        return removed;
+    }
+
+    public Optional<String> findLastEvent(String transactionId) {
+        return Optional.ofNullable(lastEvents.get(transactionId));
+    }
+
+    public void saveLastEvent(String transactionId, String payload) {
+        lastEvents.put(transactionId, payload);
+    }
+
+    public void removeLastEvent(String transactionId) {
+        lastEvents.remove(transactionId);
+    }
+
+    public List<SagaState> findByState(ESagaState state, int page, int size) {
+        var transactionIds = new ArrayList<String>();
+        synchronized (idByState) {
+            var last = upperBound(state);
+            var from = Math.min(lowerBound(state) + (long) page * size, last);
+            var to = Math.min(from + size, last);
+            for (var index = from; index < to; index++) {
+                transactionIds.add(idByState.get(idByState.getKey(index)));
+            }
+        }
+        var result = new ArrayList<SagaState>(transactionIds.size());
+        transactionIds.forEach(transactionId -> findById(transactionId).ifPresent(result::add));
+        return result;
+    }
+
+    public long countByState(ESagaState state) {
+        synchronized (idByState) {
+            return upperBound(state) - lowerBound(state);
+        }
+    }
+
+    private long lowerBound(ESagaState state) {
+        return insertionIndex(state.name() + SEPARATOR);
+    }
+
+    private long upperBound(ESagaState state) {
+        return insertionIndex(state.name() + SEPARATOR + LAST_CHAR);
+    }
+
+    private long insertionIndex(String key) {
+        var index = idByState.getKeyIndex(key);
+        return index < 0 ? -index - 1 : index;
+    }
+
+    private String indexKey(String state, String transactionId) {
+        return state + SEPARATOR + transactionId;
+    }
+
+}
@@ -2,43 +2,91 @@ package br.com.microservices.orchestrated.orchestratorservice.core.saga;
 
 import br.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
 import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
 
 import static br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaHandler.*;
 import static org.springframework.util.ObjectUtils.isEmpty;
 
 @Slf4j
 @Component
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class SagaExecutionController {
 
+    @Value("${saga.compensation.skip-uncommitted}")
+    private boolean skipUncommitted;
+
     public ETopics getNextTopic(Event event) {
         if (isEmpty(event.getStatus()) || isEmpty(event.getSource())) {
             throw new ValidationException("Source and status must be informed !");
         }
 
-        var topic = findTopicBySourceAndStatus(event);
+        var topic = findTopicBySourceAndStatus(event.getSource(), event.getStatus());
+        if (skipUncommitted) {
+            topic = skipUncommittedCompensations(event, topic);
+        }
         logCurrentSaga(event, topic);
         return topic;
     }
 
-    private ETopics findTopicBySourceAndStatus(Event event) {
+    public List<ETopics> getCompensationTopics(Event event) {
+        var committed = findCommittedSteps(event);
+        var compensations = new ArrayList<ETopics>();
+        for (var topic : COMPENSATION_CHAIN) {
+            if (!skipUncommitted || committed.contains(topic.getOwner())) {
+                compensations.add(topic);
+            }
+            if (topic.getOwner().equals(event.getSource())) {
+                return compensations;
+            }
+        }
+        throw new ValidationException("No compensation found for source ".concat(String.valueOf(event.getSource())));
+    }
+
+    private ETopics skipUncommittedCompensations(Event event, ETopics topic) {
+        var committed = findCommittedSteps(event);
+        while (topic.isCompensation() && !committed.contains(topic.getOwner())) {
+            log.info("### SKIPPING {}: {} NEVER COMMITTED | {}", topic, topic.getOwner(), createSagaId(event));
+            topic = findTopicBySourceAndStatus(topic.getOwner(), ESagaStatus.FAIL);
+        }
+        return topic;
+    }
+
+    private Set<EEventSource> findCommittedSteps(Event event) {
+        var committed = EnumSet.noneOf(EEventSource.class);
+        if (!isEmpty(event.getEventHistory())) {
+            event.getEventHistory()
+                    .stream()
+                    .filter(history -> ESagaStatus.SUCCESS.equals(history.getStatus()))
+                    .forEach(history -> committed.add(history.getSource()));
+        }
+        if (ESagaStatus.ROLLBACK_PENDING.equals(event.getStatus()) && FAILURE_SIDE_EFFECTS.contains(event.getSource())) {
+            committed.add(event.getSource());
+        }
+        return committed;
+    }
+
+    private ETopics findTopicBySourceAndStatus(EEventSource source, ESagaStatus status) {
         return (ETopics) (Arrays.stream(SAGA_HANDLER)
-                .filter(row -> isEventSourceAndStatusValid(event, row))
+                .filter(row -> isEventSourceAndStatusValid(source, status, row))
                 .map(i -> i[TOPIC_INDEX])
                 .findFirst()
                 .orElseThrow(() -> new ValidationException("Topic not found")));
     }
 
-    private boolean isEventSourceAndStatusValid(Event event, Object[] row) {
-        var source = row[EVENT_SOURCE_INDEX];
-        var status = row[SAGA_STATUS_INDEX];
-        return event.getSource().equals(source) && event.getStatus().equals(status);
+    private boolean isEventSourceAndStatusValid(EEventSource source, ESagaStatus status, Object[] row) {
+        return source.equals(row[EVENT_SOURCE_INDEX]) && status.equals(row[SAGA_STATUS_INDEX]);
     }
 
     private void logCurrentSaga(Event event, ETopics topic) {
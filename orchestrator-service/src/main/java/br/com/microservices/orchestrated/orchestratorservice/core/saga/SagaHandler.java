@@ -1,5 +1,11 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.saga;
 
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+
+import java.util.EnumSet;
+import java.util.Set;
+
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource.*;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus.*;
 import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
@@ -25,6 +31,16 @@ public final class SagaHandler {
             { INVENTORY_SERVICE, SUCCESS, FINISH_SUCCESS },
     };
 
+    public static final ETopics[] COMPENSATION_CHAIN = {
+            PRODUCT_VALIDATION_FAIL, PAYMENT_FAIL, INVENTORY_FAIL
+    };
+
+    // Steps that may already have written when they report ROLLBACK_PENDING (the pending payment,
+    // a partially updated inventory), so they compensate themselves even without a SUCCESS.
+    public static final Set<EEventSource> FAILURE_SIDE_EFFECTS = EnumSet.of(
+            PAYMENT_SERVICE, INVENTORY_SERVICE
+    );
+
     public static final int EVENT_SOURCE_INDEX = 0;
     public static final int SAGA_STATUS_INDEX = 1;
     public static final int TOPIC_INDEX = 2;
@@ -0,0 +1,110 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.repository.SagaStateChangelog;
+import br.com.microservices.orchestrated.orchestratorservice.core.service.SagaStateService;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
+
+/**
+ * Keeps the local saga state in line with the partitions this instance owns. All orchestrator
+ * topics are co-partitioned by transactionId, so partition N of any of them is shard N. Ownership
+ * changes are only applied once the new assignment is known: shards that stayed are left alone,
+ * shards that left are dropped and shards that arrived are replayed from the changelog before the
+ * first record of the new assignment is delivered.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnExpression("'${saga.engine}' == 'listener' and ${saga.shard.enabled}")
+public class SagaShardCoordinator implements ConsumerAwareRebalanceListener {
+
+    public static final Set<String> SHARD_TOPICS = Stream
+            .of(START_SAGA, BASE_ORCHESTRATOR, FINISH_SUCCESS, FINISH_FAIL)
+            .flatMap(topic -> Arrays.stream(ESagaPriority.values()).map(priority -> priority.topic(topic.getTopic())))
+            .collect(Collectors.toSet());
+
+    private final SagaStateService sagaStateService;
+    private final SagaStateChangelog changelog;
+
+    private final Map<Consumer<?, ?>, Set<Integer>> assignments = new IdentityHashMap<>();
+    private Set<Integer> owned = new TreeSet<>();
+
+    @Override
+    public void onPartitionsRevokedBeforeCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        changelog.flush();
+    }
+
+    @Override
+    public synchronized void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        var shards = assignments.get(consumer);
+        if (shards != null) {
+            shards.removeAll(shardsOf(partitions));
+        }
+    }
+
+    @Override
+    public synchronized void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        onPartitionsRevokedAfterCommit(consumer, partitions);
+        rebalance();
+    }
+
+    @Override
+    public synchronized void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        assignments
+                .computeIfAbsent(consumer, ignored -> new TreeSet<>())
+                .addAll(shardsOf(partitions));
+        rebalance();
+    }
+
+    private void rebalance() {
+        var current = assignments
+                .values()
+                .stream()
+                .flatMap(Set::stream)
+                .collect(Collectors.toCollection(TreeSet::new));
+        var dropped = difference(owned, current);
+        var added = difference(current, owned);
+        if (!dropped.isEmpty()) {
+            var count = sagaStateService.dropPartitions(dropped);
+            log.info("Dropped {} sagas of shards {}", count, dropped);
+        }
+        if (!added.isEmpty()) {
+            var startedAt = System.currentTimeMillis();
+            var count = sagaStateService.restorePartitions(added);
+            log.info("Restored {} saga states of shards {} in {} ms", count, added, System.currentTimeMillis() - startedAt);
+        }
+        owned = current;
+    }
+
+    private Set<Integer> shardsOf(Collection<TopicPartition> partitions) {
+        return partitions
+                .stream()
+                .filter(partition -> SHARD_TOPICS.contains(partition.topic()))
+                .map(TopicPartition::partition)
+                .collect(Collectors.toSet());
+    }
+
+    private Set<Integer> difference(Set<Integer> from, Set<Integer> remove) {
+        var result = new TreeSet<>(from);
+        result.removeAll(remove);
+        return result;
+    }
+
+}
@@ -0,0 +1,71 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.service.SagaStateService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Purges finished sagas once they are older than {@code saga.state.finished-retention-ms}. The
+ * grace period keeps them queryable; after it they leave the store and a tombstone is written to
+ * the changelog, which is compacted only. Late replies of a purged saga are dropped as unknown.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+public class SagaStateSweeper implements SmartLifecycle {
+
+    private final SagaStateService sagaStateService;
+
+    private ScheduledExecutorService sweeper;
+
+    @Value("${saga.state.finished-retention-ms}")
+    private long finishedRetentionMs;
+
+    @Value("${saga.state.purge-interval-ms}")
+    private long purgeIntervalMs;
+
+    @Override
+    public void start() {
+        if (finishedRetentionMs <= 0) {
+            return;
+        }
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "saga-state-sweeper"));
+        sweeper.scheduleWithFixedDelay(this::purge, purgeIntervalMs, purgeIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (sweeper != null) {
+            sweeper.shutdownNow();
+            sweeper = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return sweeper != null;
+    }
+
+    private void purge() {
+        try {
+            var purged = sagaStateService.purgeFinished(LocalDateTime.now().minus(finishedRetentionMs, ChronoUnit.MILLIS));
+            if (purged > 0) {
+                log.info("Purged {} finished sagas", purged);
+            }
+        } catch (Exception e) {
+            log.error("Error purging finished sagas: ", e);
+        }
+    }
+
+}
@@ -0,0 +1,91 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/**
+ * How a saga state moves when the orchestrator routes an event, shared by both engines so the
+ * listener store and the streams store hold the same states.
+ */
+public final class SagaStateTransitions {
+
+    private SagaStateTransitions() {
+    }
+
+    public static SagaState next(SagaState current, Event event, ETopics nextTopic, LocalDateTime now) {
+        var sagaState = current != null ? current : SagaState
+                .builder()
+                .transactionId(event.getTransactionId())
+                .orderId(event.getOrderId())
+                .startedAt(now)
+                .build();
+
+        sagaState.setRetries(current != null && isSameStep(sagaState, event, nextTopic)
+                ? sagaState.getRetries() + 1
+                : 0);
+        var state = toSagaState(event.getStatus(), nextTopic);
+        sagaState.setEventId(event.getId());
+        sagaState.setState(state);
+        sagaState.setSource(event.getSource());
+        sagaState.setStepStatus(event.getStatus());
+        sagaState.setCurrentStep(nextTopic);
+        sagaState.setPendingCompensations(null);
+        sagaState.setPriority(event.getPriority());
+        sagaState.setUpdatedAt(now);
+        if (state.isFinished()) {
+            sagaState.setFinishedAt(now);
+        }
+        return sagaState;
+    }
+
+    /**
+     * A reply is stale when it answers a reconciler repair, when its saga is unknown (never started
+     * here, or already purged), when the saga already finished, when it comes from a service other
+     * than the owner of the current step, or when the current step is a compensation and the reply
+     * is not its {@code FAIL} (a late forward reply, or the duplicate of the reply that started
+     * compensating). Workers publish their stored reply again on a duplicate delivery, so this is
+     * what keeps a re-driven or redelivered step from advancing the saga twice.
+     */
+    public static boolean isStale(SagaState sagaState, Event event) {
+        if (event.isRepair() || sagaState == null) {
+            return true;
+        }
+        var currentStep = sagaState.getCurrentStep();
+        if (!isEmpty(sagaState.getPendingCompensations())) {
+            return false;
+        }
+        return sagaState.getState().isFinished()
+                || currentStep.getOwner() != event.getSource()
+                || currentStep.isCompensation() && !ESagaStatus.FAIL.equals(event.getStatus());
+    }
+
+    public static long deadlineOf(SagaState sagaState, long stepTimeoutMs) {
+        return sagaState
+                .getUpdatedAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli() + stepTimeoutMs;
+    }
+
+    private static boolean isSameStep(SagaState sagaState, Event event, ETopics nextTopic) {
+        return sagaState.getSource() == event.getSource()
+                && sagaState.getStepStatus() == event.getStatus()
+                && sagaState.getCurrentStep() == nextTopic;
+    }
+
+    private static ESagaState toSagaState(ESagaStatus status, ETopics nextTopic) {
+        if (ETopics.NOTIFY_ENDING.equals(nextTopic)) {
+            return ESagaStatus.SUCCESS.equals(status) ? ESagaState.COMPLETED : ESagaState.FAILED;
+        }
+        return ESagaStatus.SUCCESS.equals(status) ? ESagaState.RUNNING : ESagaState.COMPENSATING;
+    }
+
+}
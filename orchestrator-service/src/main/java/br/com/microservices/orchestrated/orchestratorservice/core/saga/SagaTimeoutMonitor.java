@@ -0,0 +1,136 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.saga;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.producer.SagaOrchestratorProducer;
+import br.com.microservices.orchestrated.orchestratorservice.core.service.OrchestratorService;
+import br.com.microservices.orchestrated.orchestratorservice.core.service.SagaStateService;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.HierarchicalTimingWheel;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/**
+ * Drives the step deadlines kept in the timing wheel. An expired step (or the unacknowledged part
+ * of a parallel compensation) is re-sent up to {@code saga.timeout.max-redrives} times and then
+ * handed to compensation; on start the wheel is rebuilt from the unfinished sagas of the store.
+ * The state is read and acted on holding the saga lock, so a reply the listener tracks meanwhile
+ * either lands first (and the new deadline is honoured) or sees the re-drive or compensation.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+public class SagaTimeoutMonitor implements SmartLifecycle {
+
+    private static final int REBUILD_PAGE_SIZE = 500;
+    private static final List<ESagaState> UNFINISHED = List.of(ESagaState.RUNNING, ESagaState.COMPENSATING);
+
+    private final HierarchicalTimingWheel<String> timeoutWheel;
+    private final SagaStateService sagaStateService;
+    private final OrchestratorService orchestratorService;
+    private final SagaOrchestratorProducer producer;
+    private final JsonUtil jsonUtil;
+
+    private ScheduledExecutorService ticker;
+
+    @Value("${saga.timeout.enabled}")
+    private boolean enabled;
+
+    @Value("${saga.timeout.tick-ms}")
+    private long tickMs;
+
+    @Value("${saga.timeout.max-redrives}")
+    private int maxRedrives;
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        rebuild();
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "saga-timeouts"));
+        ticker.scheduleWithFixedDelay(this::expire, tickMs, tickMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (ticker != null) {
+            ticker.shutdownNow();
+            ticker = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return ticker != null;
+    }
+
+    private void rebuild() {
+        for (var state : UNFINISHED) {
+            for (var page = 0; ; page++) {
+                var sagaStates = sagaStateService.findByState(state, page, REBUILD_PAGE_SIZE).getContent();
+                sagaStates.forEach(sagaState -> timeoutWheel.schedule(sagaState.getTransactionId(), sagaStateService.deadlineOf(sagaState)));
+                if (sagaStates.size() < REBUILD_PAGE_SIZE) {
+                    break;
+                }
+            }
+        }
+        log.info("Rebuilt {} saga step deadlines from the state store", timeoutWheel.size());
+    }
+
+    private void expire() {
+        var now = System.currentTimeMillis();
+        for (var transactionId : timeoutWheel.advance(now)) {
+            try {
+                sagaStateService.locked(transactionId, () -> sagaStateService
+                        .findById(transactionId)
+                        .filter(sagaState -> !sagaState.getState().isFinished())
+                        .ifPresent(sagaState -> handleExpired(sagaState, now)));
+            } catch (Exception e) {
+                log.error("Error handling timeout of saga {}: ", transactionId, e);
+            }
+        }
+    }
+
+    private void handleExpired(SagaState sagaState, long now) {
+        var deadline = sagaStateService.deadlineOf(sagaState);
+        if (deadline > now) {
+            timeoutWheel.schedule(sagaState.getTransactionId(), deadline);
+            return;
+        }
+        var payload = sagaStateService.findLastEvent(sagaState.getTransactionId()).orElse(null);
+        if (payload == null) {
+            log.warn("Saga {} timed out at {} but its last event is not stored", sagaState.getTransactionId(), sagaState.getCurrentStep());
+            return;
+        }
+        var step = sagaState.getCurrentStep();
+        var pending = sagaState.getPendingCompensations();
+        if (sagaState.getRetries() < maxRedrives) {
+            var steps = isEmpty(pending) ? List.of(step) : pending;
+            log.info("Re-driving saga {} at {}", sagaState.getTransactionId(), steps);
+            steps.forEach(topic -> producer.sendEvent(payload, sagaState.getTransactionId(), ESagaPriority.topic(sagaState.getPriority(), topic.getTopic())));
+            sagaStateService.trackRedrive(sagaState);
+        } else if (!isEmpty(pending)) {
+            orchestratorService.finishCompensation(jsonUtil.toEvent(payload), "Compensations timed out: ".concat(pending.toString()));
+        } else if (step.getOwner() != EEventSource.ORCHESTRATOR) {
+            orchestratorService.timeoutStep(jsonUtil.toEvent(payload), step);
+        } else {
+            log.warn("Saga {} stuck at {} after {} re-drives", sagaState.getTransactionId(), step, sagaState.getRetries());
+        }
+    }
+
+}
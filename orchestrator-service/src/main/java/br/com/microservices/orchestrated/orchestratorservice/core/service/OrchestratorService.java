@@ -1,5 +1,6 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.service;
 
+import br.com.microservices.orchestrated.orchestratorservice.core.client.SagaFastLaneClient;
 import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
 import br.com.microservices.orchestrated.orchestratorservice.core.dto.History;
 import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
@@ -8,20 +9,32 @@ import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
 import br.com.microservices.orchestrated.orchestratorservice.core.producer.SagaOrchestratorProducer;
 import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
 import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 
 @Slf4j
 @Service
-@AllArgsConstructor
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+@RequiredArgsConstructor
 public class OrchestratorService {
 
+    private static final String PARALLEL_COMPENSATION = "parallel";
+
     private final JsonUtil jsonUtil;
     private final SagaOrchestratorProducer producer;
     private final SagaExecutionController controller;
+    private final SagaStateService sagaStateService;
+    private final ObjectProvider<SagaFastLaneClient> fastLaneClient;
+
+    @Value("${saga.compensation.mode}")
+    private String compensationMode;
 
     public void startSaga(Event event) {
         event.setSource(EEventSource.ORCHESTRATOR);
@@ -30,6 +43,11 @@ public class OrchestratorService {
 
         log.info("SAGA STARTED !");
         addHistory(event, "Start saga !!");
+        var fastLane = fastLaneClient.getIfAvailable();
+        if (fastLane != null && fastLane.supports(topic)) {
+            runFastLane(fastLane, event, topic);
+            return;
+        }
         sendProducer(event, topic);
     }
 
@@ -52,11 +70,104 @@ public class OrchestratorService {
     }
 
     public void continueSaga(Event event) {
+        sagaStateService.locked(event.getTransactionId(), () -> continueSagaLocked(event));
+    }
+
+    public void timeoutStep(Event event, ETopics step) {
+        event.setSource(step.getOwner());
+        event.setStatus(step.isCompensation() ? ESagaStatus.FAIL : ESagaStatus.ROLLBACK_PENDING);
+
+        log.info("SAGA STEP {} TIMED OUT FOR EVENT {} !", step, event.getId());
+        addHistory(event, "Step timed out: ".concat(step.getTopic()));
+        // Answered as if the owner had replied, so only the steps that committed are compensated.
+        if (!step.isCompensation() && PARALLEL_COMPENSATION.equalsIgnoreCase(compensationMode)) {
+            fanOutCompensation(event);
+            return;
+        }
+        sendProducer(event, getTopic(event));
+    }
+
+    public void finishCompensation(Event event, String message) {
+        event.setSource(EEventSource.ORCHESTRATOR);
+        event.setStatus(ESagaStatus.FAIL);
+
+        log.info("SAGA COMPENSATION FINISHED FOR EVENT {}: {} !", event.getId(), message);
+        addHistory(event, message);
+        sendProducer(event, getTopic(event));
+    }
+
+    private void continueSagaLocked(Event event) {
+        if (sagaStateService.isStale(event)) {
+            log.info("IGNORING STALE {} {} FOR EVENT {} !", event.getSource(), event.getStatus(), event.getId());
+            return;
+        }
+        if (PARALLEL_COMPENSATION.equalsIgnoreCase(compensationMode) && handleParallelCompensation(event)) {
+            return;
+        }
         var topic = getTopic(event);
         log.info("SAGA CONTINUE FOR EVENT {} !", event.getId());
         sendProducer(event, topic);
     }
 
+    private boolean handleParallelCompensation(Event event) {
+        var pending = sagaStateService.findPendingCompensations(event);
+        if (pending.isPresent()) {
+            if (ESagaStatus.FAIL.equals(event.getStatus())) {
+                sagaStateService
+                        .ackCompensation(event)
+                        .ifPresent(merged -> finishCompensation(merged, "Parallel compensation finished"));
+            } else {
+                log.info("IGNORING {} {} WHILE COMPENSATING EVENT {} !", event.getSource(), event.getStatus(), event.getId());
+            }
+            return true;
+        }
+        if (ESagaStatus.ROLLBACK_PENDING.equals(event.getStatus())) {
+            fanOutCompensation(event);
+            return true;
+        }
+        return false;
+    }
+
+    private void fanOutCompensation(Event event) {
+        var compensations = controller.getCompensationTopics(event);
+        if (compensations.isEmpty()) {
+            finishCompensation(event, "No committed step to compensate");
+            return;
+        }
+        var payload = jsonUtil.toJson(event);
+
+        log.info("SAGA COMPENSATING {} IN PARALLEL FOR EVENT {} !", compensations, event.getId());
+        sagaStateService.trackCompensations(event, compensations, payload);
+        compensations.forEach(topic -> producer.sendEvent(payload, event.getTransactionId(), ESagaPriority.topic(event.getPriority(), topic.getTopic())));
+    }
+
+    private void runFastLane(SagaFastLaneClient fastLane, Event event, ETopics step) {
+        var current = event;
+        var topic = step;
+        while (fastLane.supports(topic)) {
+            current.markSent();
+            var payload = jsonUtil.toJson(current);
+            sagaStateService.track(current, topic, payload);
+            var result = fastLane.execute(topic, payload);
+            if (result.isEmpty()) {
+                log.info("SAGA FAST LANE FALLING BACK TO KAFKA ON {} FOR EVENT {} !", topic, current.getId());
+                producer.sendEvent(payload, current.getTransactionId(), ESagaPriority.topic(current.getPriority(), topic.getTopic()));
+                return;
+            }
+            current = result.get();
+            if (!ESagaStatus.SUCCESS.equals(current.getStatus())) {
+                continueSaga(current);
+                return;
+            }
+            topic = getTopic(current);
+        }
+        if (ETopics.FINISH_SUCCESS.equals(topic)) {
+            finishSagaSucsess(current);
+            return;
+        }
+        sendProducer(current, topic);
+    }
+
     private ETopics getTopic(Event event) {
         return controller.getNextTopic(event);
     }
@@ -67,6 +178,8 @@ public class OrchestratorService {
                 .source(event.getSource())
                 .status(event.getStatus())
                 .message(message)
+                .receivedAt(event.getReceivedAt())
+                .processingMicros(event.processingMicros())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -78,7 +191,10 @@ public class OrchestratorService {
     }
 
     private void sendProducer(Event event, ETopics topic) {
-        producer.sendEvent(jsonUtil.toJson(event), topic.getTopic());
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        sagaStateService.track(event, topic, payload);
+        producer.sendEvent(payload, event.getTransactionId(), ESagaPriority.topic(event.getPriority(), topic.getTopic()));
     }
 
 }
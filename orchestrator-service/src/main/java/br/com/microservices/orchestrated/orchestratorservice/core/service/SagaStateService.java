@@ -0,0 +1,281 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.service;
+
+import br.com.microservices.orchestrated.orchestratorservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStatePage;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStateSnapshot;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.repository.SagaStateChangelog;
+import br.com.microservices.orchestrated.orchestratorservice.core.repository.SagaStateRepository;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaStateTransitions;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.HierarchicalTimingWheel;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.KeyedLock;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "saga.engine", havingValue = "listener")
+@RequiredArgsConstructor
+public class SagaStateService {
+
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final List<ESagaState> FINISHED = List.of(ESagaState.COMPLETED, ESagaState.FAILED);
+
+    private final SagaStateRepository repository;
+    private final SagaStateChangelog changelog;
+    private final HierarchicalTimingWheel<String> timeoutWheel;
+    private final JsonUtil jsonUtil;
+    private final KeyedLock<String> sagaLocks = new KeyedLock<>();
+
+    @Value("${saga.timeout.enabled}")
+    private boolean timeoutEnabled;
+
+    @Value("${saga.timeout.step-timeout-ms}")
+    private long stepTimeoutMs;
+
+    /**
+     * Runs the action holding the lock of the saga, so the listener and the timeout monitor never
+     * interleave the read and the write of the same saga state. The lock is reentrant.
+     */
+    public void locked(String transactionId, Runnable action) {
+        locked(transactionId, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T locked(String transactionId, Supplier<T> action) {
+        return isEmpty(transactionId) ? action.get() : sagaLocks.call(transactionId, action);
+    }
+
+    public void track(Event event, ETopics nextTopic, String payload) {
+        if (isEmpty(event.getTransactionId())) {
+            return;
+        }
+        try {
+            locked(event.getTransactionId(), () -> {
+                var sagaState = nextState(event, nextTopic);
+                repository.save(sagaState);
+                scheduleTimeout(sagaState, payload);
+                publish(sagaState);
+            });
+        } catch (Exception e) {
+            log.error("Error tracking saga state for transaction {}: ", event.getTransactionId(), e);
+        }
+    }
+
+    public void trackCompensations(Event event, List<ETopics> compensations, String payload) {
+        locked(event.getTransactionId(), () -> {
+            var sagaState = nextState(event, compensations.get(compensations.size() - 1));
+            sagaState.setPendingCompensations(new ArrayList<>(compensations));
+            repository.save(sagaState);
+            repository.saveLastEvent(sagaState.getTransactionId(), payload);
+            if (timeoutEnabled) {
+                timeoutWheel.schedule(sagaState.getTransactionId(), deadlineOf(sagaState));
+            }
+            publish(sagaState);
+        });
+    }
+
+    public Optional<List<ETopics>> findPendingCompensations(Event event) {
+        if (isEmpty(event.getTransactionId())) {
+            return Optional.empty();
+        }
+        return repository
+                .findById(event.getTransactionId())
+                .map(SagaState::getPendingCompensations)
+                .filter(pending -> !pending.isEmpty());
+    }
+
+    /**
+     * Records the acknowledgement of one compensation of a fan-out, merging the history entry the
+     * service added into the stored event. Returns the merged event once every ack has arrived.
+     */
+    public Optional<Event> ackCompensation(Event ack) {
+        return locked(ack.getTransactionId(), () -> {
+            var transactionId = ack.getTransactionId();
+            var sagaState = findByTransactionId(transactionId);
+            var pending = sagaState.getPendingCompensations();
+            if (isEmpty(pending) || !pending.removeIf(topic -> topic.getOwner().equals(ack.getSource()))) {
+                return Optional.empty();
+            }
+            var merged = repository
+                    .findLastEvent(transactionId)
+                    .map(jsonUtil::toEvent)
+                    .orElse(null);
+            if (merged == null) {
+                merged = ack;
+            } else if (!isEmpty(ack.getEventHistory())) {
+                merged.addHistory(ack.getEventHistory().get(ack.getEventHistory().size() - 1));
+                repository.saveLastEvent(transactionId, jsonUtil.toJson(merged));
+            }
+            sagaState.setUpdatedAt(LocalDateTime.now());
+            repository.save(sagaState);
+            publish(sagaState);
+            return pending.isEmpty() ? Optional.of(merged) : Optional.empty();
+        });
+    }
+
+    public void trackRedrive(SagaState sagaState) {
+        locked(sagaState.getTransactionId(), () -> {
+            sagaState.setRetries(sagaState.getRetries() + 1);
+            sagaState.setUpdatedAt(LocalDateTime.now());
+            repository.save(sagaState);
+            timeoutWheel.schedule(sagaState.getTransactionId(), deadlineOf(sagaState));
+            publish(sagaState);
+        });
+    }
+
+    public long restorePartitions(Set<Integer> partitions) {
+        return changelog.replay(partitions, this::restore, this::forget);
+    }
+
+    public int dropPartitions(Set<Integer> partitions) {
+        var dropped = repository.removeIf(transactionId -> partitions.contains(changelog.partitionOf(transactionId)));
+        dropped.forEach(timeoutWheel::cancel);
+        return dropped.size();
+    }
+
+    /**
+     * Removes the sagas that finished before the given instant from the store and writes their
+     * tombstones to the changelog. Each one is re-checked under its lock, so a late reply tracked
+     * meanwhile is not lost.
+     */
+    public int purgeFinished(LocalDateTime finishedBefore) {
+        var expired = new ArrayList<String>();
+        for (var state : FINISHED) {
+            for (var page = 0; ; page++) {
+                var sagaStates = repository.findByState(state, page, MAX_PAGE_SIZE);
+                sagaStates
+                        .stream()
+                        .filter(sagaState -> isFinishedBefore(sagaState, finishedBefore))
+                        .map(SagaState::getTransactionId)
+                        .forEach(expired::add);
+                if (sagaStates.size() < MAX_PAGE_SIZE) {
+                    break;
+                }
+            }
+        }
+        var purged = 0;
+        for (var transactionId : expired) {
+            var removed = locked(transactionId, () -> repository
+                    .findById(transactionId)
+                    .filter(sagaState -> isFinishedBefore(sagaState, finishedBefore))
+                    .map(sagaState -> {
+                        forget(transactionId);
+                        changelog.publishRemoval(transactionId);
+                        return true;
+                    })
+                    .orElse(false));
+            if (removed) {
+                purged++;
+            }
+        }
+        return purged;
+    }
+
+    public boolean isStale(Event event) {
+        if (isEmpty(event.getTransactionId())) {
+            return false;
+        }
+        var sagaState = repository.findById(event.getTransactionId()).orElse(null);
+        return SagaStateTransitions.isStale(sagaState, event);
+    }
+
+    public Optional<SagaState> findById(String transactionId) {
+        return repository.findById(transactionId);
+    }
+
+    public Optional<String> findLastEvent(String transactionId) {
+        return repository.findLastEvent(transactionId);
+    }
+
+    public long deadlineOf(SagaState sagaState) {
+        return SagaStateTransitions.deadlineOf(sagaState, stepTimeoutMs);
+    }
+
+    public SagaState findByTransactionId(String transactionId) {
+        return repository
+                .findById(transactionId)
+                .orElseThrow(() -> new ValidationException("Saga not found for transactionId ".concat(transactionId)));
+    }
+
+    public SagaStatePage findByState(ESagaState state, int page, int size) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page must be positive and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        return SagaStatePage
+                .builder()
+                .state(state)
+                .page(page)
+                .size(size)
+                .total(repository.countByState(state))
+                .content(repository.findByState(state, page, size))
+                .build();
+    }
+
+    private void restore(SagaStateSnapshot snapshot) {
+        var sagaState = snapshot.getState();
+        var transactionId = sagaState.getTransactionId();
+        repository.save(sagaState);
+        if (isEmpty(snapshot.getLastEvent())) {
+            repository.removeLastEvent(transactionId);
+        } else {
+            repository.saveLastEvent(transactionId, snapshot.getLastEvent());
+        }
+        if (sagaState.getState().isFinished()) {
+            timeoutWheel.cancel(transactionId);
+        } else if (timeoutEnabled) {
+            timeoutWheel.schedule(transactionId, deadlineOf(sagaState));
+        }
+    }
+
+    private void forget(String transactionId) {
+        repository.remove(transactionId);
+        timeoutWheel.cancel(transactionId);
+    }
+
+    private boolean isFinishedBefore(SagaState sagaState, LocalDateTime instant) {
+        return sagaState.getState().isFinished()
+                && sagaState.getFinishedAt() != null
+                && sagaState.getFinishedAt().isBefore(instant);
+    }
+
+    private void publish(SagaState sagaState) {
+        var transactionId = sagaState.getTransactionId();
+        changelog.publish(sagaState, repository.findLastEvent(transactionId).orElse(null));
+    }
+
+    private void scheduleTimeout(SagaState sagaState, String payload) {
+        var transactionId = sagaState.getTransactionId();
+        if (sagaState.getState().isFinished()) {
+            timeoutWheel.cancel(transactionId);
+            repository.removeLastEvent(transactionId);
+        } else if (timeoutEnabled) {
+            repository.saveLastEvent(transactionId, payload);
+            timeoutWheel.schedule(transactionId, deadlineOf(sagaState));
+        }
+    }
+
+    private SagaState nextState(Event event, ETopics nextTopic) {
+        var current = repository.findById(event.getTransactionId()).orElse(null);
+        return SagaStateTransitions.next(current, event, nextTopic, LocalDateTime.now());
+    }
+
+}
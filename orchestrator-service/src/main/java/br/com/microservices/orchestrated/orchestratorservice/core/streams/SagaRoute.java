@@ -0,0 +1,5 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.streams;
+
+public record SagaRoute(String topic, String payload) {
+
+}
@@ -0,0 +1,310 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.streams;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStateSnapshot;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaStateTransitions;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaJsonSerde;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.streams.KeyValue;
+import org.apache.kafka.streams.processor.PunctuationType;
+import org.apache.kafka.streams.processor.api.Processor;
+import org.apache.kafka.streams.processor.api.ProcessorContext;
+import org.apache.kafka.streams.processor.api.Record;
+import org.apache.kafka.streams.processor.api.RecordMetadata;
+import org.apache.kafka.streams.state.KeyValueStore;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+/**
+ * The {@code SagaHandler} transitions as a stream processor. The state of every saga lives in a
+ * local store keyed by transactionId, so routing, stale reply filtering and finishing never leave
+ * the task; a second store ordered by deadline lets a wall-clock punctuation find the expired steps
+ * with one range scan, and a third one ordered by purge time does the same for finished sagas past
+ * their retention. Outputs are {@link SagaRoute}s written to the topic they name; a record that
+ * cannot be read is quarantined instead of failing the stream thread.
+ */
+@Slf4j
+public class SagaStreamsProcessor implements Processor<String, String, String, SagaRoute> {
+
+    private static final String TIME_KEY_FORMAT = "%013d|%s";
+    private static final char LAST_CHAR = Character.MAX_VALUE;
+
+    private final SagaStreamsTopology.Settings settings;
+    private final SagaExecutionController controller;
+    private final JsonUtil jsonUtil;
+    private final SagaJsonSerde<SagaStateSnapshot> snapshotSerde;
+    private final QuarantineStore quarantineStore;
+
+    private ProcessorContext<String, SagaRoute> context;
+    private KeyValueStore<String, String> states;
+    private KeyValueStore<String, String> deadlines;
+    private KeyValueStore<String, String> purges;
+
+    public SagaStreamsProcessor(SagaStreamsTopology.Settings settings,
+                                SagaExecutionController controller,
+                                JsonUtil jsonUtil,
+                                SagaJsonSerde<SagaStateSnapshot> snapshotSerde,
+                                QuarantineStore quarantineStore) {
+        this.settings = settings;
+        this.controller = controller;
+        this.jsonUtil = jsonUtil;
+        this.snapshotSerde = snapshotSerde;
+        this.quarantineStore = quarantineStore;
+    }
+
+    @Override
+    public void init(ProcessorContext<String, SagaRoute> context) {
+        this.context = context;
+        this.states = context.getStateStore(SagaStreamsTopology.STATE_STORE);
+        this.deadlines = context.getStateStore(SagaStreamsTopology.DEADLINE_STORE);
+        this.purges = context.getStateStore(SagaStreamsTopology.PURGE_STORE);
+        if (settings.timeoutEnabled()) {
+            context.schedule(Duration.ofMillis(settings.tickMs()), PunctuationType.WALL_CLOCK_TIME, this::expire);
+        }
+        if (settings.finishedRetentionMs() > 0) {
+            context.schedule(Duration.ofMillis(settings.purgeIntervalMs()), PunctuationType.WALL_CLOCK_TIME, this::purge);
+        }
+    }
+
+    @Override
+    public void process(Record<String, String> record) {
+        var topic = context
+                .recordMetadata()
+                .map(RecordMetadata::topic)
+                .map(this::baseTopic)
+                .orElse("");
+        Event event;
+        try {
+            event = jsonUtil.toEvent(record.value());
+        } catch (SagaSerdeException e) {
+            quarantine(record, e);
+            return;
+        }
+        if (isEmpty(event.getTransactionId())) {
+            log.warn("Ignoring event {} without transactionId from {}", event.getId(), topic);
+            return;
+        }
+        if (ETopics.START_SAGA.getTopic().equals(topic)) {
+            event.setSource(EEventSource.ORCHESTRATOR);
+            event.setStatus(ESagaStatus.SUCCESS);
+            var nextTopic = controller.getNextTopic(event);
+            addHistory(event, "Start saga !!");
+            route(event, nextTopic);
+        } else if (ETopics.BASE_ORCHESTRATOR.getTopic().equals(topic)) {
+            continueSaga(event);
+        } else if (ETopics.FINISH_SUCCESS.getTopic().equals(topic)) {
+            finish(event, ESagaStatus.SUCCESS);
+        } else if (ETopics.FINISH_FAIL.getTopic().equals(topic)) {
+            finish(event, ESagaStatus.FAIL);
+        }
+    }
+
+    private void continueSaga(Event event) {
+        var current = findState(event.getTransactionId());
+        if (SagaStateTransitions.isStale(current == null ? null : current.getState(), event)) {
+            log.info("IGNORING STALE {} {} FOR EVENT {} !", event.getSource(), event.getStatus(), event.getId());
+            return;
+        }
+        route(event, controller.getNextTopic(event));
+    }
+
+    // Finishing runs in the same task instead of a round trip through finish-success/finish-fail.
+    private void route(Event event, ETopics topic) {
+        if (ETopics.FINISH_SUCCESS.equals(topic)) {
+            finish(event, ESagaStatus.SUCCESS);
+        } else if (ETopics.FINISH_FAIL.equals(topic)) {
+            finish(event, ESagaStatus.FAIL);
+        } else {
+            send(event, topic);
+        }
+    }
+
+    private void finish(Event event, ESagaStatus status) {
+        event.setSource(EEventSource.ORCHESTRATOR);
+        event.setStatus(status);
+        addHistory(event, ESagaStatus.SUCCESS.equals(status) ? "Start finished success !!" : "Start finished with erros !!");
+        send(event, ETopics.NOTIFY_ENDING);
+    }
+
+    private void send(Event event, ETopics topic) {
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        var current = findState(event.getTransactionId());
+        var previous = current == null ? null : current.getState();
+        if (previous != null) {
+            deadlines.delete(deadlineKey(previous));
+            if (previous.getFinishedAt() != null) {
+                purges.delete(purgeKey(previous));
+            }
+        }
+        var sagaState = SagaStateTransitions.next(previous, event, topic, now());
+        save(sagaState, sagaState.getState().isFinished() ? null : payload);
+        forward(event.getTransactionId(), ESagaPriority.topic(event.getPriority(), topic.getTopic()), payload);
+    }
+
+    private void expire(long now) {
+        var expired = due(deadlines, now);
+        for (var entry : expired) {
+            var snapshot = findState(entry.value);
+            if (snapshot == null
+                    || snapshot.getState().getState().isFinished()
+                    || !entry.key.equals(deadlineKey(snapshot.getState()))) {
+                deadlines.delete(entry.key);
+                continue;
+            }
+            try {
+                handleExpired(snapshot);
+            } catch (Exception e) {
+                log.error("Error handling timeout of saga {}: ", entry.value, e);
+            }
+        }
+    }
+
+    // Deleting the state writes a tombstone to its changelog, which is then compacted away.
+    private void purge(long now) {
+        var purged = 0;
+        for (var entry : due(purges, now)) {
+            purges.delete(entry.key);
+            var snapshot = findState(entry.value);
+            if (snapshot != null
+                    && snapshot.getState().getState().isFinished()
+                    && entry.key.equals(purgeKey(snapshot.getState()))) {
+                states.delete(entry.value);
+                purged++;
+            }
+        }
+        if (purged > 0) {
+            log.info("Purged {} finished sagas", purged);
+        }
+    }
+
+    private List<KeyValue<String, String>> due(KeyValueStore<String, String> store, long now) {
+        var due = new ArrayList<KeyValue<String, String>>();
+        try (var iterator = store.range(null, timeKey(now, String.valueOf(LAST_CHAR)))) {
+            iterator.forEachRemaining(due::add);
+        }
+        return due;
+    }
+
+    private void quarantine(Record<String, String> record, Exception e) {
+        var metadata = context.recordMetadata();
+        var quarantined = quarantineStore.add(
+                metadata.map(RecordMetadata::topic).orElse(null),
+                metadata.map(RecordMetadata::partition).orElse(-1),
+                metadata.map(RecordMetadata::offset).orElse(-1L),
+                record.key(),
+                record.value(),
+                e.getClass().getName(),
+                e.getMessage()
+        );
+        log.error("Quarantined unreadable event {} from topic {} offset {}",
+                quarantined.id(), quarantined.topic(), quarantined.offset(), e);
+    }
+
+    private void handleExpired(SagaStateSnapshot snapshot) {
+        var sagaState = snapshot.getState();
+        var step = sagaState.getCurrentStep();
+        if (sagaState.getRetries() < settings.maxRedrives()) {
+            log.info("Re-driving saga {} at {}", sagaState.getTransactionId(), step);
+            deadlines.delete(deadlineKey(sagaState));
+            sagaState.setRetries(sagaState.getRetries() + 1);
+            sagaState.setUpdatedAt(now());
+            save(sagaState, snapshot.getLastEvent());
+            forward(sagaState.getTransactionId(), ESagaPriority.topic(sagaState.getPriority(), step.getTopic()), snapshot.getLastEvent());
+        } else if (step.getOwner() != EEventSource.ORCHESTRATOR) {
+            var event = jsonUtil.toEvent(snapshot.getLastEvent());
+            event.setSource(step.getOwner());
+            event.setStatus(step.isCompensation() ? ESagaStatus.FAIL : ESagaStatus.ROLLBACK_PENDING);
+            log.info("SAGA STEP {} TIMED OUT FOR EVENT {} !", step, event.getId());
+            addHistory(event, "Step timed out: ".concat(step.getTopic()));
+            route(event, controller.getNextTopic(event));
+        } else {
+            log.warn("Saga {} stuck at {} after {} re-drives", sagaState.getTransactionId(), step, sagaState.getRetries());
+            deadlines.delete(deadlineKey(sagaState));
+        }
+    }
+
+    private void save(SagaState sagaState, String lastEvent) {
+        var transactionId = sagaState.getTransactionId();
+        if (settings.timeoutEnabled() && !sagaState.getState().isFinished()) {
+            deadlines.put(deadlineKey(sagaState), transactionId);
+        }
+        if (settings.finishedRetentionMs() > 0 && sagaState.getState().isFinished()) {
+            purges.put(purgeKey(sagaState), transactionId);
+        }
+        var snapshot = SagaStateSnapshot
+                .builder()
+                .state(sagaState)
+                .lastEvent(lastEvent)
+                .build();
+        states.put(transactionId, snapshotSerde.toJson(snapshot));
+    }
+
+    private SagaStateSnapshot findState(String transactionId) {
+        var json = states.get(transactionId);
+        return json == null ? null : snapshotSerde.fromJson(json);
+    }
+
+    private void forward(String transactionId, String topic, String payload) {
+        context.forward(new Record<>(transactionId, new SagaRoute(topic, payload), context.currentSystemTimeMs()));
+    }
+
+    // The wall clock of the task, which is what punctuations see, so deadlines also line up under a test driver.
+    private LocalDateTime now() {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(context.currentSystemTimeMs()), ZoneId.systemDefault());
+    }
+
+    private void addHistory(Event event, String message) {
+        var history = History
+                .builder()
+                .source(event.getSource())
+                .status(event.getStatus())
+                .message(message)
+                .receivedAt(event.getReceivedAt())
+                .processingMicros(event.processingMicros())
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        event.addHistory(history);
+    }
+
+    private String deadlineKey(SagaState sagaState) {
+        return timeKey(SagaStateTransitions.deadlineOf(sagaState, settings.stepTimeoutMs()), sagaState.getTransactionId());
+    }
+
+    private String purgeKey(SagaState sagaState) {
+        var finishedAt = sagaState
+                .getFinishedAt()
+                .atZone(ZoneId.systemDefault())
+                .toInstant()
+                .toEpochMilli();
+        return timeKey(finishedAt + settings.finishedRetentionMs(), sagaState.getTransactionId());
+    }
+
+    private String timeKey(long time, String transactionId) {
+        return String.format(TIME_KEY_FORMAT, time, transactionId);
+    }
+
+    private String baseTopic(String topic) {
+        var suffix = ESagaPriority.HIGH.getTopicSuffix();
+        return topic.endsWith(suffix) ? topic.substring(0, topic.length() - suffix.length()) : topic;
+    }
+
+}
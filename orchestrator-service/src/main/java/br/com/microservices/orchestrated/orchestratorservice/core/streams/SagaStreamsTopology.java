@@ -0,0 +1,85 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.streams;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStateSnapshot;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaJsonSerde;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
+import org.apache.kafka.common.serialization.Serde;
+import org.apache.kafka.common.serialization.Serdes;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.kstream.Consumed;
+import org.apache.kafka.streams.kstream.KStream;
+import org.apache.kafka.streams.kstream.Produced;
+import org.apache.kafka.streams.state.Stores;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics.*;
+
+/**
+ * Wires {@link SagaStreamsProcessor} between the orchestrator topics and the service topics. It
+ * only needs a {@link StreamsBuilder}, so the same topology runs under Spring or in a
+ * {@code TopologyTestDriver} without a broker.
+ */
+public class SagaStreamsTopology {
+
+    public static final String STATE_STORE = "saga-state-store";
+    public static final String DEADLINE_STORE = "saga-deadline-store";
+    public static final String PURGE_STORE = "saga-purge-store";
+
+    private static final List<String> INPUT_TOPICS = Stream
+            .of(START_SAGA, BASE_ORCHESTRATOR, FINISH_SUCCESS, FINISH_FAIL)
+            .flatMap(topic -> Arrays.stream(ESagaPriority.values()).map(priority -> priority.topic(topic.getTopic())))
+            .toList();
+
+    private static final Serde<SagaRoute> ROUTE_SERDE = Serdes.serdeFrom(
+            (topic, route) -> route == null ? null : route.payload().getBytes(StandardCharsets.UTF_8),
+            (topic, payload) -> payload == null ? null : new SagaRoute(topic, new String(payload, StandardCharsets.UTF_8))
+    );
+
+    private final Settings settings;
+    private final SagaExecutionController controller;
+    private final JsonUtil jsonUtil;
+    private final SagaJsonSerde<SagaStateSnapshot> snapshotSerde;
+    private final QuarantineStore quarantineStore;
+
+    public SagaStreamsTopology(Settings settings,
+                               SagaExecutionController controller,
+                               JsonUtil jsonUtil,
+                               SagaSerdeFactory serdeFactory,
+                               QuarantineStore quarantineStore) {
+        this.settings = settings;
+        this.controller = controller;
+        this.jsonUtil = jsonUtil;
+        this.snapshotSerde = serdeFactory.forType(SagaStateSnapshot.class);
+        this.quarantineStore = quarantineStore;
+    }
+
+    public KStream<String, SagaRoute> addTo(StreamsBuilder builder) {
+        builder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(STATE_STORE), Serdes.String(), Serdes.String()));
+        builder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(DEADLINE_STORE), Serdes.String(), Serdes.String()));
+        builder.addStateStore(Stores.keyValueStoreBuilder(
+                Stores.persistentKeyValueStore(PURGE_STORE), Serdes.String(), Serdes.String()));
+
+        var routes = builder
+                .stream(INPUT_TOPICS, Consumed.with(Serdes.String(), Serdes.String()))
+                .process(() -> new SagaStreamsProcessor(settings, controller, jsonUtil, snapshotSerde, quarantineStore),
+                        STATE_STORE, DEADLINE_STORE, PURGE_STORE);
+        routes.to((transactionId, route, recordContext) -> route.topic(), Produced.with(Serdes.String(), ROUTE_SERDE));
+        return routes;
+    }
+
+    public record Settings(boolean timeoutEnabled, long stepTimeoutMs, int maxRedrives, long tickMs,
+                           long finishedRetentionMs, long purgeIntervalMs) {
+
+    }
+
+}
@@ -0,0 +1,148 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical timing wheel (Varghese &amp; Lauck): scheduling, rescheduling and cancelling a key
+ * are O(1), and timers far in the future sit in coarser wheels until they cascade down. Each key
+ * has at most one pending deadline; scheduling it again replaces the previous one.
+ */
+public class HierarchicalTimingWheel<K> {
+
+    private final long tickMs;
+    private final int wheelBits;
+    private final int mask;
+    private final long maxDelta;
+    private final Bucket<K>[][] wheels;
+    private final Map<K, Timer<K>> timers = new HashMap<>();
+    private long currentTick;
+
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimingWheel(long tickMs, int wheelBits, int levels, long startMs) {
+        this.tickMs = tickMs;
+        this.wheelBits = wheelBits;
+        this.mask = (1 << wheelBits) - 1;
+        this.maxDelta = (1L << (wheelBits * levels)) - 1;
+        this.wheels = new Bucket[levels][1 << wheelBits];
+        for (var level : wheels) {
+            for (var slot = 0; slot < level.length; slot++) {
+                level[slot] = new Bucket<>();
+            }
+        }
+        this.currentTick = startMs / tickMs;
+    }
+
+    public synchronized void schedule(K key, long deadlineMs) {
+        var timer = timers.get(key);
+        if (timer == null) {
+            timer = new Timer<>(key);
+            timers.put(key, timer);
+        } else {
+            timer.unlink();
+        }
+        timer.expiresTick = (deadlineMs + tickMs - 1) / tickMs;
+        place(timer);
+    }
+
+    public synchronized void cancel(K key) {
+        var timer = timers.remove(key);
+        if (timer != null) {
+            timer.unlink();
+        }
+    }
+
+    public synchronized List<K> advance(long nowMs) {
+        var expired = new ArrayList<K>();
+        var targetTick = nowMs / tickMs;
+        while (currentTick <= targetTick) {
+            tick(expired);
+        }
+        return expired;
+    }
+
+    public synchronized int size() {
+        return timers.size();
+    }
+
+    private void tick(List<K> expired) {
+        var index = (int) (currentTick & mask);
+        var cascaded = index;
+        for (var level = 1; cascaded == 0 && level < wheels.length; level++) {
+            cascaded = cascade(level);
+        }
+        currentTick++;
+        var bucket = wheels[0][index];
+        for (var timer = bucket.head.next; timer != bucket.head; timer = bucket.head.next) {
+            timer.unlink();
+            timers.remove(timer.key);
+            expired.add(timer.key);
+        }
+    }
+
+    private int cascade(int level) {
+        var index = (int) ((currentTick >> (wheelBits * level)) & mask);
+        var bucket = wheels[level][index];
+        var pending = new ArrayList<Timer<K>>();
+        for (var timer = bucket.head.next; timer != bucket.head; timer = bucket.head.next) {
+            timer.unlink();
+            pending.add(timer);
+        }
+        pending.forEach(this::place);
+        return index;
+    }
+
+    private void place(Timer<K> timer) {
+        var expires = Math.max(timer.expiresTick, currentTick);
+        var delta = Math.min(expires - currentTick, maxDelta);
+        expires = currentTick + delta;
+        var level = 0;
+        while (delta >> (wheelBits * (level + 1)) != 0) {
+            level++;
+        }
+        wheels[level][(int) ((expires >> (wheelBits * level)) & mask)].add(timer);
+    }
+
+    private static final class Bucket<K> {
+
+        private final Timer<K> head = new Timer<>(null);
+
+        private Bucket() {
+            head.next = head;
+            head.prev = head;
+        }
+
+        private void add(Timer<K> timer) {
+            timer.prev = head.prev;
+            timer.next = head;
+            head.prev.next = timer;
+            head.prev = timer;
+        }
+
+    }
+
+    private static final class Timer<K> {
+
+        private final K key;
+        private long expiresTick;
+        private Timer<K> prev;
+        private Timer<K> next;
+
+        private Timer(K key) {
+            this.key = key;
+        }
+
+        private void unlink() {
+            if (prev != null) {
+                prev.next = next;
+                next.prev = prev;
+                prev = null;
+                next = null;
+            }
+        }
+
+    }
+
+}
@@ -1,31 +1,32 @@
 package br.com.microservices.orchestrated.orchestratorservice.core.utils;
 
 import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaJsonSerde;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
 import org.springframework.stereotype.Component;
 
 
 @Component
-@AllArgsConstructor
 public class JsonUtil {
 
-    private final ObjectMapper objectMapper;
+    private final SagaJsonSerde<Event> eventSerde;
+
+    public JsonUtil(SagaSerdeFactory serdeFactory) {
+        this.eventSerde = serdeFactory.forType(Event.class);
+    }
 
     public String toJson(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            return eventSerde.toJson(object);
         } catch (Exception e) {
             return "";
         }
     }
 
     public Event toEvent(String json) {
-        try {
-            return objectMapper.readValue(json, Event.class);
-        } catch (Exception e) {
-            return null;
-        }
+        var event = eventSerde.fromJson(json);
+        event.markReceived();
+        return event;
     }
 
 
@@ -0,0 +1,49 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.utils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * One reentrant lock per key, created on first use and dropped once no thread holds or waits for
+ * it, so memory follows the keys currently in use instead of every key ever seen.
+ */
+public class KeyedLock<K> {
+
+    private final Map<K, Entry> locks = new ConcurrentHashMap<>();
+
+    public void run(K key, Runnable action) {
+        call(key, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T call(K key, Supplier<T> action) {
+        var entry = locks.compute(key, (ignored, current) -> {
+            var acquired = current != null ? current : new Entry();
+            acquired.users++;
+            return acquired;
+        });
+        entry.lock.lock();
+        try {
+            return action.get();
+        } finally {
+            entry.lock.unlock();
+            locks.computeIfPresent(key, (ignored, current) -> --current.users == 0 ? null : current);
+        }
+    }
+
+    public int size() {
+        return locks.size();
+    }
+
+    private static final class Entry {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int users;
+
+    }
+
+}
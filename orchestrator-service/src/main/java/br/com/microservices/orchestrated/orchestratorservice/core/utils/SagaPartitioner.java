@@ -0,0 +1,20 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.utils;
+
+import org.apache.kafka.common.utils.Utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Same hash the Kafka producer applies to keyed records, so the partition (and therefore the
+ * orchestrator shard) of a transactionId is known locally.
+ */
+public final class SagaPartitioner {
+
+    private SagaPartitioner() {
+    }
+
+    public static int partitionOf(String transactionId, int partitions) {
+        return Utils.toPositive(Utils.murmur2(transactionId.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+}
@@ -0,0 +1,127 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.service;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.SagaStateSnapshot;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaState;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.repository.SagaStateChangelog;
+import br.com.microservices.orchestrated.orchestratorservice.core.repository.SagaStateRepository;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.HierarchicalTimingWheel;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.config.SagaRuntimeProperties;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.h2.mvstore.MVStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SagaStateServiceTest {
+
+    private MVStore store;
+    private SagaStateRepository repository;
+    private SagaStateChangelog changelog;
+    private SagaStateService service;
+
+    @BeforeEach
+    void setUp() {
+        var serdeFactory = new SagaSerdeFactory(JsonMapper.builder().findAndAddModules().build(), new SagaRuntimeProperties());
+        store = new MVStore.Builder().open();
+        repository = new SagaStateRepository(store, serdeFactory);
+        changelog = mock(SagaStateChangelog.class);
+        service = new SagaStateService(repository, changelog, new HierarchicalTimingWheel<>(100, 6, 4, 0), new JsonUtil(serdeFactory));
+    }
+
+    @AfterEach
+    void tearDown() {
+        store.close();
+    }
+
+    @Test
+    void purgesOnlySagasFinishedBeforeTheGracePeriod() {
+        var now = LocalDateTime.now();
+        repository.save(sagaState("old-completed", ESagaState.COMPLETED, now.minusHours(2)));
+        repository.save(sagaState("old-failed", ESagaState.FAILED, now.minusHours(3)));
+        repository.save(sagaState("recent", ESagaState.COMPLETED, now.minusMinutes(1)));
+        repository.save(sagaState("running", ESagaState.RUNNING, null));
+
+        var purged = service.purgeFinished(now.minusHours(1));
+
+        assertThat(purged).isEqualTo(2);
+        assertThat(repository.findById("old-completed")).isEmpty();
+        assertThat(repository.findById("old-failed")).isEmpty();
+        assertThat(repository.findById("recent")).isPresent();
+        assertThat(repository.findById("running")).isPresent();
+        assertThat(repository.countByState(ESagaState.COMPLETED)).isEqualTo(1);
+        verify(changelog).publishRemoval("old-completed");
+        verify(changelog).publishRemoval("old-failed");
+        verify(changelog, never()).publishRemoval("recent");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void replayAppliesTombstonesAsRemovals() {
+        repository.save(sagaState("purged", ESagaState.COMPLETED, LocalDateTime.now()));
+        var restored = sagaState("restored", ESagaState.RUNNING, null);
+        doAnswer(invocation -> {
+            invocation.<Consumer<SagaStateSnapshot>>getArgument(1).accept(SagaStateSnapshot.builder().state(restored).build());
+            invocation.<Consumer<String>>getArgument(2).accept("purged");
+            return 1L;
+        }).when(changelog).replay(any(), any(Consumer.class), any(Consumer.class));
+
+        service.restorePartitions(Set.of(0));
+
+        assertThat(repository.findById("restored")).isPresent();
+        assertThat(repository.findById("purged")).isEmpty();
+        verify(changelog, never()).publishRemoval(anyString());
+    }
+
+    @Test
+    void treatsRepairRepliesAndUnknownSagasAsStale() {
+        repository.save(SagaState
+                .builder()
+                .transactionId("running")
+                .state(ESagaState.RUNNING)
+                .currentStep(ETopics.PAYMENT_SUCCESS)
+                .build());
+        var reply = Event
+                .builder()
+                .transactionId("running")
+                .source(EEventSource.PAYMENT_SERVICE)
+                .status(ESagaStatus.SUCCESS)
+                .build();
+
+        assertThat(service.isStale(reply)).isFalse();
+        reply.setRepair(true);
+        assertThat(service.isStale(reply)).isTrue();
+        reply.setRepair(false);
+        reply.setTransactionId("unknown");
+        assertThat(service.isStale(reply)).isTrue();
+    }
+
+    private SagaState sagaState(String transactionId, ESagaState state, LocalDateTime finishedAt) {
+        return SagaState
+                .builder()
+                .transactionId(transactionId)
+                .state(state)
+                .startedAt(LocalDateTime.now().minusHours(4))
+                .finishedAt(finishedAt)
+                .build();
+    }
+
+}
@@ -0,0 +1,247 @@
+package br.com.microservices.orchestrated.orchestratorservice.core.streams;
+
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.Event;
+import br.com.microservices.orchestrated.orchestratorservice.core.dto.History;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.EEventSource;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.orchestratorservice.core.enums.ETopics;
+import br.com.microservices.orchestrated.orchestratorservice.core.saga.SagaExecutionController;
+import br.com.microservices.orchestrated.orchestratorservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.config.SagaRuntimeProperties;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeException;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.streams.StreamsBuilder;
+import org.apache.kafka.streams.StreamsConfig;
+import org.apache.kafka.streams.TestInputTopic;
+import org.apache.kafka.streams.TestOutputTopic;
+import org.apache.kafka.streams.TopologyTestDriver;
+import org.apache.kafka.streams.state.KeyValueStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Properties;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SagaStreamsTopologyTest {
+
+    private static final String TRANSACTION_ID = "0DYCNX8D80QQ4";
+    private static final long STEP_TIMEOUT_MS = 1000;
+    private static final long TICK_MS = 100;
+    private static final long FINISHED_RETENTION_MS = 60000;
+
+    @TempDir
+    Path stateDir;
+
+    private final SagaSerdeFactory serdeFactory = new SagaSerdeFactory(JsonMapper.builder().findAndAddModules().build(), new SagaRuntimeProperties());
+    private final JsonUtil jsonUtil = new JsonUtil(serdeFactory);
+    private final QuarantineStore quarantineStore = new QuarantineStore(100);
+
+    private TopologyTestDriver driver;
+
+    @AfterEach
+    void tearDown() {
+        if (driver != null) {
+            driver.close();
+        }
+    }
+
+    @Test
+    void runsTheSagaFromStartToSuccess() {
+        start(false);
+
+        var productValidation = next(ETopics.PRODUCT_VALIDATION_SUCCESS);
+        reply(productValidation, EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+        var payment = next(ETopics.PAYMENT_SUCCESS);
+        reply(payment, EEventSource.PAYMENT_SERVICE, ESagaStatus.SUCCESS);
+        var inventory = next(ETopics.INVENTORY_SUCCESS);
+        reply(inventory, EEventSource.INVENTORY_SERVICE, ESagaStatus.SUCCESS);
+
+        var ending = next(ETopics.NOTIFY_ENDING);
+        assertThat(ending.getStatus()).isEqualTo(ESagaStatus.SUCCESS);
+        assertThat(ending.getEventHistory()).hasSize(5);
+        assertNoOtherOutput();
+    }
+
+    @Test
+    void compensatesTheCommittedStepsOnFailure() {
+        start(false);
+
+        reply(next(ETopics.PRODUCT_VALIDATION_SUCCESS), EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+        reply(next(ETopics.PAYMENT_SUCCESS), EEventSource.PAYMENT_SERVICE, ESagaStatus.ROLLBACK_PENDING);
+        reply(next(ETopics.PAYMENT_FAIL), EEventSource.PAYMENT_SERVICE, ESagaStatus.FAIL);
+        reply(next(ETopics.PRODUCT_VALIDATION_FAIL), EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.FAIL);
+
+        assertThat(next(ETopics.NOTIFY_ENDING).getStatus()).isEqualTo(ESagaStatus.FAIL);
+        assertNoOtherOutput();
+    }
+
+    @Test
+    void dropsLateAndDuplicateReplies() {
+        start(false);
+
+        var productValidation = next(ETopics.PRODUCT_VALIDATION_SUCCESS);
+        reply(productValidation, EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+        next(ETopics.PAYMENT_SUCCESS);
+
+        reply(productValidation, EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+        reply(productValidation, EEventSource.INVENTORY_SERVICE, ESagaStatus.SUCCESS);
+        assertNoOtherOutput();
+    }
+
+    @Test
+    void dropsRepairRepliesAndRepliesOfUnknownSagas() {
+        start(false);
+        var productValidation = next(ETopics.PRODUCT_VALIDATION_SUCCESS);
+
+        productValidation.setRepair(true);
+        reply(productValidation, EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+        productValidation.setRepair(false);
+        productValidation.setTransactionId("UNKNOWN");
+        reply(productValidation, EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+
+        assertNoOtherOutput();
+    }
+
+    @Test
+    void redrivesAndThenCompensatesAnExpiredStep() {
+        start(true);
+        reply(next(ETopics.PRODUCT_VALIDATION_SUCCESS), EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+        var payment = next(ETopics.PAYMENT_SUCCESS);
+
+        driver.advanceWallClockTime(Duration.ofMillis(STEP_TIMEOUT_MS / 2));
+        assertNoOtherOutput();
+
+        driver.advanceWallClockTime(Duration.ofMillis(STEP_TIMEOUT_MS));
+        var redriven = next(ETopics.PAYMENT_SUCCESS);
+        assertThat(redriven.getId()).isEqualTo(payment.getId());
+
+        driver.advanceWallClockTime(Duration.ofMillis(STEP_TIMEOUT_MS + TICK_MS));
+        var compensation = next(ETopics.PAYMENT_FAIL);
+        assertThat(compensation.getSource()).isEqualTo(EEventSource.PAYMENT_SERVICE);
+        assertThat(compensation.getStatus()).isEqualTo(ESagaStatus.ROLLBACK_PENDING);
+        assertNoOtherOutput();
+    }
+
+    @Test
+    void finishesWithoutCompensationWhenAnUncommittedStepExpires() {
+        start(true);
+        next(ETopics.PRODUCT_VALIDATION_SUCCESS);
+
+        driver.advanceWallClockTime(Duration.ofMillis(STEP_TIMEOUT_MS + TICK_MS));
+        next(ETopics.PRODUCT_VALIDATION_SUCCESS);
+        driver.advanceWallClockTime(Duration.ofMillis(STEP_TIMEOUT_MS + TICK_MS));
+
+        assertThat(next(ETopics.NOTIFY_ENDING).getStatus()).isEqualTo(ESagaStatus.FAIL);
+        assertNoOtherOutput();
+    }
+
+    @Test
+    void quarantinesUnreadableRecordsAndKeepsProcessing() {
+        start(false);
+        var productValidation = next(ETopics.PRODUCT_VALIDATION_SUCCESS);
+
+        input(ETopics.BASE_ORCHESTRATOR).pipeInput(TRANSACTION_ID, "{not json");
+        input(ETopics.BASE_ORCHESTRATOR).pipeInput(TRANSACTION_ID, (String) null);
+        assertNoOtherOutput();
+        assertThat(quarantineStore.list(ETopics.BASE_ORCHESTRATOR.getTopic(), 10))
+                .hasSize(2)
+                .allSatisfy(record -> {
+                    assertThat(record.key()).isEqualTo(TRANSACTION_ID);
+                    assertThat(record.exception()).isEqualTo(SagaSerdeException.class.getName());
+                })
+                .extracting(QuarantineStore.QuarantinedRecord::offset)
+                .containsExactly(0L, 1L);
+
+        reply(productValidation, EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.SUCCESS);
+        next(ETopics.PAYMENT_SUCCESS);
+    }
+
+    @Test
+    void purgesFinishedSagasOnceTheirRetentionExpires() {
+        start(false);
+        reply(next(ETopics.PRODUCT_VALIDATION_SUCCESS), EEventSource.PRODUCT_VALIDATION_SERVICE, ESagaStatus.ROLLBACK_PENDING);
+        next(ETopics.NOTIFY_ENDING);
+        KeyValueStore<String, String> states = driver.getKeyValueStore(SagaStreamsTopology.STATE_STORE);
+
+        driver.advanceWallClockTime(Duration.ofMillis(FINISHED_RETENTION_MS / 2));
+        assertThat(states.get(TRANSACTION_ID)).isNotNull();
+
+        driver.advanceWallClockTime(Duration.ofMillis(FINISHED_RETENTION_MS));
+        assertThat(states.get(TRANSACTION_ID)).isNull();
+        assertThat(driver.<String, String>getKeyValueStore(SagaStreamsTopology.PURGE_STORE).approximateNumEntries()).isZero();
+        assertNoOtherOutput();
+    }
+
+    private void start(boolean timeoutEnabled) {
+        var controller = new SagaExecutionController();
+        ReflectionTestUtils.setField(controller, "skipUncommitted", true);
+        var settings = new SagaStreamsTopology.Settings(
+                timeoutEnabled, STEP_TIMEOUT_MS, 1, TICK_MS, FINISHED_RETENTION_MS, TICK_MS
+        );
+        var builder = new StreamsBuilder();
+        new SagaStreamsTopology(settings, controller, jsonUtil, serdeFactory, quarantineStore).addTo(builder);
+
+        var props = new Properties();
+        props.put(StreamsConfig.APPLICATION_ID_CONFIG, "saga-streams-test");
+        props.put(StreamsConfig.BOOTSTRAP_SERVERS_CONFIG, "dummy:9092");
+        props.put(StreamsConfig.STATE_DIR_CONFIG, stateDir.toString());
+        driver = new TopologyTestDriver(builder.build(), props, Instant.now());
+
+        var event = Event
+                .builder()
+                .id("64429e987a8b646915b3735f")
+                .transactionId(TRANSACTION_ID)
+                .orderId("64429e987a8b646915b3735e")
+                .createdAt(LocalDateTime.now())
+                .build();
+        input(ETopics.START_SAGA).pipeInput(TRANSACTION_ID, jsonUtil.toJson(event));
+    }
+
+    // What a service does with a step: record the outcome in the history and answer on the orchestrator topic.
+    private void reply(Event event, EEventSource source, ESagaStatus status) {
+        event.setSource(source);
+        event.setStatus(status);
+        event.addHistory(History
+                .builder()
+                .source(source)
+                .status(status)
+                .message("Replied by test")
+                .createdAt(LocalDateTime.now())
+                .build());
+        input(ETopics.BASE_ORCHESTRATOR).pipeInput(event.getTransactionId(), jsonUtil.toJson(event));
+    }
+
+    private Event next(ETopics topic) {
+        var output = output(topic);
+        assertThat(output.isEmpty()).as("event routed to %s", topic.getTopic()).isFalse();
+        var record = output.readKeyValue();
+        assertThat(record.key).isEqualTo(TRANSACTION_ID);
+        return jsonUtil.toEvent(record.value);
+    }
+
+    private void assertNoOtherOutput() {
+        for (var topic : ETopics.values()) {
+            assertThat(output(topic).isEmpty()).as("nothing routed to %s", topic.getTopic()).isTrue();
+        }
+    }
+
+    private TestInputTopic<String, String> input(ETopics topic) {
+        return driver.createInputTopic(topic.getTopic(), new StringSerializer(), new StringSerializer());
+    }
+
+    private TestOutputTopic<String, String> output(ETopics topic) {
+        return driver.createOutputTopic(topic.getTopic(), new StringDeserializer(), new StringDeserializer());
+    }
+
+}
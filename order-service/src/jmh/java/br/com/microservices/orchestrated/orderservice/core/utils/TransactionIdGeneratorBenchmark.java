@@ -0,0 +1,30 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TransactionIdGeneratorBenchmark {
+
+    private final TransactionIdGenerator uuid = new UuidTransactionIdGenerator();
+    private final TransactionIdGenerator snowflake = new SnowflakeTransactionIdGenerator(1);
+
+    @Benchmark
+    public String uuid() {
+        return uuid.generate();
+    }
+
+    @Benchmark
+    public String snowflake() {
+        return snowflake.generate();
+    }
+
+}
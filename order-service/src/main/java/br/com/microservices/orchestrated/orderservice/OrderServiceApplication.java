@@ -1,9 +1,12 @@
 package br.com.microservices.orchestrated.orderservice;
 
+import br.com.microservices.orchestrated.orderservice.config.aot.OrderRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(OrderRuntimeHints.class)
 public class OrderServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,71 @@
+package br.com.microservices.orchestrated.orderservice.config.admission;
+
+import br.com.microservices.orchestrated.orderservice.core.utils.AdmissionLimit;
+import br.com.microservices.orchestrated.orderservice.core.utils.FixedAdmissionLimit;
+import br.com.microservices.orchestrated.orderservice.core.utils.GradientAdmissionLimit;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaAdmissionService;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.MessageListener;
+
+import java.util.Properties;
+import java.util.UUID;
+
+import static br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority.HIGH;
+
+@Slf4j
+@Configuration
+public class AdmissionConfig {
+
+    private static final String ADAPTIVE_MODE = "adaptive";
+
+    @Value("${order.admission.mode}")
+    private String mode;
+
+    @Value("${order.admission.max-in-flight}")
+    private int maxInFlight;
+
+    @Value("${order.admission.min-in-flight}")
+    private int minInFlight;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${spring.kafka.topic.notify-ending}")
+    private String notifyEndingTopic;
+
+    @Bean
+    public AdmissionLimit admissionLimit() {
+        if (ADAPTIVE_MODE.equalsIgnoreCase(mode)) {
+            var initial = Math.max(minInFlight, maxInFlight / 4);
+            log.info("Using adaptive admission limit between {} and {} sagas in flight", minInFlight, maxInFlight);
+            return new GradientAdmissionLimit(initial, minInFlight, maxInFlight);
+        }
+        return new FixedAdmissionLimit(maxInFlight);
+    }
+
+    // Every instance reads notify-ending in its own consumer group, so a saga admitted here is released
+    // even when the notify-ending listener of another instance persisted its result. Only the key (the
+    // transactionId) is used, and the container is created outside the @KafkaListener registry so it
+    // gets no retry topics and is never paused by the lane coordinator.
+    @Bean
+    @ConditionalOnExpression("${order.admission.enabled} and ${order.admission.broadcast-completion}")
+    public ConcurrentMessageListenerContainer<String, String> admissionCompletionContainer(
+            ConsumerFactory<String, String> consumerFactory, SagaAdmissionService admissionService) {
+        var consumerProperties = new Properties();
+        consumerProperties.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
+        var containerProperties = new ContainerProperties(notifyEndingTopic, HIGH.topic(notifyEndingTopic));
+        containerProperties.setGroupId(groupId.concat("-admission-").concat(UUID.randomUUID().toString()));
+        containerProperties.setKafkaConsumerProperties(consumerProperties);
+        containerProperties.setMessageListener((MessageListener<String, String>) record -> admissionService.complete(record.key()));
+        return new ConcurrentMessageListenerContainer<>(consumerFactory, containerProperties);
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.com.microservices.orchestrated.orderservice.config.aot;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ExceptionDetails;
+import br.com.microservices.orchestrated.orderservice.core.consumer.EventConsumer;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.document.Product;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaTimeline;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaTransition;
+import br.com.microservices.orchestrated.orderservice.core.dto.AdmissionSnapshot;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderResponse;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderResult;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.SagaTimelineResponse;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class OrderRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                Event.class,
+                History.class,
+                Order.class,
+                OrderProducts.class,
+                Product.class,
+                AdmissionSnapshot.class,
+                BatchOrderRequest.class,
+                BatchOrderResponse.class,
+                BatchOrderResult.class,
+                EventFilters.class,
+                OrderRequest.class,
+                SagaTimelineResponse.class,
+                ExceptionDetails.class
+        );
+        hints.reflection().registerType(Event.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(Order.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(SagaTimeline.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(SagaTransition.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(EventConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
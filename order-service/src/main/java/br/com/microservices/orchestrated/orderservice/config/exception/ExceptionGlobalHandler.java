@@ -1,5 +1,7 @@
 package br.com.microservices.orchestrated.orderservice.config.exception;
 
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,4 +14,12 @@ public class ExceptionGlobalHandler {
         return ResponseEntity.badRequest().body(new ExceptionDetails(400, exception.getMessage()));
     }
 
+    @ExceptionHandler(OverloadException.class)
+    public ResponseEntity<?> handleOverloadException(OverloadException exception) {
+        return ResponseEntity
+                .status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()))
+                .body(new ExceptionDetails(429, exception.getMessage()));
+    }
+
 }
@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.orderservice.config.exception;
+
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@Getter
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class OverloadException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public OverloadException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+}
@@ -1,21 +1,20 @@
 package br.com.microservices.orchestrated.orderservice.config.kafka;
 
+import br.com.microservices.orchestrated.sagaruntime.consumer.SagaKafkaConfigurer;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
-import org.apache.kafka.clients.consumer.ConsumerConfig;
-import org.apache.kafka.clients.producer.ProducerConfig;
-import org.apache.kafka.common.serialization.StringDeserializer;
-import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
 
-import java.util.HashMap;
 import java.util.Map;
 
+import static br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority.HIGH;
+
 @EnableKafka
 @Configuration
 @RequiredArgsConstructor
@@ -24,6 +23,8 @@ public class KafkaConfig {
     private static final Integer PARTITION_COUNT = 1;
     private static final Integer REPLICA_COUNT = 1;
 
+    private final SagaKafkaConfigurer kafkaConfigurer;
+
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapAddress;
 
@@ -45,13 +46,7 @@ public class KafkaConfig {
     }
 
     private Map<String, Object> consumerProps() {
-        var props = new HashMap<String, Object>();
-        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
-        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
-        return props;
+        return kafkaConfigurer.consumerProps(bootstrapAddress, groupId, autoOffsetReset);
     }
 
     @Bean
@@ -60,11 +55,7 @@ public class KafkaConfig {
     }
 
     private Map<String, Object> procuderProps() {
-        var props = new HashMap<String, Object>();
-        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
-        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        return props;
+        return kafkaConfigurer.producerProps(bootstrapAddress);
     }
 
     @Bean
@@ -72,6 +63,12 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory);
     }
 
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> kafkaListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        return kafkaConfigurer.listenerContainerFactory(consumerFactory);
+    }
+
     private NewTopic buildTopic(String name) {
         return TopicBuilder
                 .name(name)
@@ -90,4 +87,12 @@ public class KafkaConfig {
         return buildTopic(notifyEndingTopic);
     }
 
+    @Bean
+    public KafkaAdmin.NewTopics highPriorityTopics() {
+        return new KafkaAdmin.NewTopics(
+                buildTopic(HIGH.topic(startSagaTopic)),
+                buildTopic(HIGH.topic(notifyEndingTopic))
+        );
+    }
+
 }
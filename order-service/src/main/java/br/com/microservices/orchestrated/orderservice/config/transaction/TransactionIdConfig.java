@@ -0,0 +1,66 @@
+package br.com.microservices.orchestrated.orderservice.config.transaction;
+
+import br.com.microservices.orchestrated.orderservice.core.utils.SnowflakeTransactionIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.utils.TransactionIdCheckpoint;
+import br.com.microservices.orchestrated.orderservice.core.utils.TransactionIdGenerator;
+import br.com.microservices.orchestrated.orderservice.core.utils.UuidTransactionIdGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Configuration
+public class TransactionIdConfig {
+
+    private static final String UUID_GENERATOR = "uuid";
+
+    @Value("${order.transaction-id.generator}")
+    private String generator;
+
+    @Value("${order.transaction-id.clustered}")
+    private boolean clustered;
+
+    @Value("${order.transaction-id.node-id}")
+    private Long nodeId;
+
+    @Value("${order.transaction-id.state-path}")
+    private String statePath;
+
+    @Value("${order.transaction-id.checkpoint-interval-ms}")
+    private long checkpointIntervalMs;
+
+    @Bean
+    public TransactionIdCheckpoint transactionIdCheckpoint() {
+        return new TransactionIdCheckpoint(isEmpty(statePath) ? null : Path.of(statePath), checkpointIntervalMs);
+    }
+
+    @Bean
+    public TransactionIdGenerator transactionIdGenerator(TransactionIdCheckpoint checkpoint) {
+        if (UUID_GENERATOR.equalsIgnoreCase(generator)) {
+            return new UuidTransactionIdGenerator();
+        }
+        var resolvedNodeId = resolveNodeId();
+        var snowflake = new SnowflakeTransactionIdGenerator(resolvedNodeId, checkpoint.restore());
+        checkpoint.track(snowflake::lastTimestamp);
+        log.info("Using snowflake transaction id generator with node id {}", resolvedNodeId);
+        return snowflake;
+    }
+
+    // A single instance can always use node 0; with several instances a shared default would hand out duplicate ids.
+    private long resolveNodeId() {
+        if (!isEmpty(nodeId)) {
+            return nodeId;
+        }
+        if (clustered) {
+            throw new IllegalStateException("order.transaction-id.node-id (TRANSACTION_ID_NODE_ID) must be set to "
+                    + "a node id unique to this instance when order.transaction-id.clustered is enabled");
+        }
+        return 0;
+    }
+
+}
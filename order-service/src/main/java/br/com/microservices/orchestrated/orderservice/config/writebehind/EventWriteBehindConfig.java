@@ -0,0 +1,46 @@
+package br.com.microservices.orchestrated.orderservice.config.writebehind;
+
+import br.com.microservices.orchestrated.sagaruntime.consumer.SagaKafkaConfigurer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+
+import java.util.List;
+
+import static br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority.HIGH;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.event-store.write-behind.enabled", havingValue = "true")
+public class EventWriteBehindConfig {
+
+    private final SagaKafkaConfigurer kafkaConfigurer;
+
+    @Value("${spring.kafka.topic.notify-ending}")
+    private String notifyEndingTopic;
+
+    // Offsets are acknowledged by the write-behind buffer once the bulk write of their batch is done,
+    // so the container must not commit them after the listener returns.
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        var factory = kafkaConfigurer.batchListenerContainerFactory(consumerFactory);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL);
+        return factory;
+    }
+
+    // Retry topics do not support batch listeners; the notify-ending topics keep the container's
+    // in-place retries of the whole batch instead.
+    @Bean
+    public RetryTopicConfiguration sagaRetryTopicConfiguration(KafkaTemplate<String, String> kafkaTemplate) {
+        return kafkaConfigurer.retryTopicConfiguration(kafkaTemplate, List.of(notifyEndingTopic, HIGH.topic(notifyEndingTopic)));
+    }
+
+}
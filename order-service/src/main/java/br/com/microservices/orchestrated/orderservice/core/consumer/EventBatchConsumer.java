@@ -0,0 +1,57 @@
+package br.com.microservices.orchestrated.orderservice.core.consumer;
+
+import br.com.microservices.orchestrated.orderservice.core.service.EventWriteBehindService;
+import br.com.microservices.orchestrated.orderservice.core.service.EventWriteBehindService.ReceivedEvent;
+import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+@ConditionalOnProperty(name = "order.event-store.write-behind.enabled", havingValue = "true")
+public class EventBatchConsumer {
+
+    private final JsonUtil jsonUtil;
+    private final EventWriteBehindService writeBehindService;
+    private final QuarantineStore quarantineStore;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.notify-ending}",
+            containerFactory = "batchListenerContainerFactory"
+    )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.notify-ending-high}",
+            containerFactory = "batchListenerContainerFactory"
+    )
+    public void consumeNotifyEndingEvents(List<ConsumerRecord<String, String>> records, Acknowledgment acknowledgment) throws InterruptedException {
+        log.info("Consuming {} notify ending events", records.size());
+        var events = new ArrayList<ReceivedEvent>(records.size());
+        for (var record : records) {
+            if (record.value() == null) {
+                continue;
+            }
+            try {
+                events.add(new ReceivedEvent(record, jsonUtil.toEvent(record.value())));
+            } catch (Exception e) {
+                var quarantined = quarantineStore.add(record.topic(), record.partition(), record.offset(), record.key(),
+                        record.value(), e.getClass().getName(), e.getMessage());
+                log.error("Quarantined unreadable notify ending event {} from topic {} offset {}",
+                        quarantined.id(), record.topic(), record.offset(), e);
+            }
+        }
+        writeBehindService.enqueue(events, acknowledgment);
+    }
+
+}
@@ -1,28 +1,39 @@
 package br.com.microservices.orchestrated.orderservice.core.consumer;
 
 import br.com.microservices.orchestrated.orderservice.core.service.EventService;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaAdmissionService;
 import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @AllArgsConstructor
+@ConditionalOnProperty(name = "order.event-store.write-behind.enabled", havingValue = "false", matchIfMissing = true)
 public class EventConsumer {
 
     private final EventService service;
     private final JsonUtil jsonUtil;
+    private final StepTimer stepTimer;
+    private final SagaAdmissionService admissionService;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.notify-ending}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.notify-ending-high}"
+    )
     public void consumeNotifyEndingEvent(String playload) {
         log.info("Consuming notify ending event {}", playload);
         var event = jsonUtil.toEvent(playload);
-        service.notifyEnding(event);
+        stepTimer.record("notify-ending", () -> service.notifyEnding(event));
+        admissionService.complete(event.getTransactionId());
     }
 
 }
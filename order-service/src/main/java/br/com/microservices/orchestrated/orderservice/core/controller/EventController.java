@@ -1,10 +1,16 @@
 package br.com.microservices.orchestrated.orderservice.core.controller;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.CriticalPathFilters;
 import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.SagaCriticalPathResponse;
+import br.com.microservices.orchestrated.orderservice.core.dto.SagaTimelineResponse;
 import br.com.microservices.orchestrated.orderservice.core.service.EventService;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaCriticalPathService;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaTimelineService;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
+import org.springframework.context.annotation.Profile;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -13,10 +19,13 @@ import java.util.List;
 
 @RestController
 @AllArgsConstructor
+@Profile("!reactive")
 @RequestMapping("/api/event")
 public class EventController {
 
     private final EventService eventService;
+    private final SagaTimelineService sagaTimelineService;
+    private final SagaCriticalPathService sagaCriticalPathService;
 
     @GetMapping
     public Event findByFilters(EventFilters filters) {
@@ -28,4 +37,14 @@ public class EventController {
         return eventService.findAll();
     }
 
+    @GetMapping("timeline")
+    public SagaTimelineResponse findTimeline(EventFilters filters) {
+        return sagaTimelineService.findByFilters(filters);
+    }
+
+    @GetMapping("critical-path")
+    public SagaCriticalPathResponse findCriticalPath(CriticalPathFilters filters) {
+        return sagaCriticalPathService.analyze(filters);
+    }
+
 }
@@ -0,0 +1,54 @@
+package br.com.microservices.orchestrated.orderservice.core.controller;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.CriticalPathFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.SagaCriticalPathResponse;
+import br.com.microservices.orchestrated.orderservice.core.dto.SagaTimelineResponse;
+import br.com.microservices.orchestrated.orderservice.core.service.ReactiveEventService;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaCriticalPathService;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaTimelineService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+@RestController
+@AllArgsConstructor
+@Profile("reactive")
+@RequestMapping("/api/event")
+public class ReactiveEventController {
+
+    private final ReactiveEventService eventService;
+    private final SagaTimelineService sagaTimelineService;
+    private final SagaCriticalPathService sagaCriticalPathService;
+
+    @GetMapping
+    public Mono<Event> findByFilters(EventFilters filters) {
+        return eventService.findByFilters(filters);
+    }
+
+    @GetMapping("all")
+    public Flux<Event> findAll() {
+        return eventService.findAll();
+    }
+
+    @GetMapping("timeline")
+    public Mono<SagaTimelineResponse> findTimeline(EventFilters filters) {
+        return Mono
+                .fromCallable(() -> sagaTimelineService.findByFilters(filters))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    @GetMapping("critical-path")
+    public Mono<SagaCriticalPathResponse> findCriticalPath(CriticalPathFilters filters) {
+        return Mono
+                .fromCallable(() -> sagaCriticalPathService.analyze(filters))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
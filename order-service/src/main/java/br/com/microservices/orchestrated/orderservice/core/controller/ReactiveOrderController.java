@@ -0,0 +1,43 @@
+package br.com.microservices.orchestrated.orderservice.core.controller;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.AdmissionSnapshot;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderResponse;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.service.ReactiveOrderService;
+import br.com.microservices.orchestrated.orderservice.core.service.SagaAdmissionService;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+@RestController
+@AllArgsConstructor
+@Profile("reactive")
+@RequestMapping("/api/order")
+public class ReactiveOrderController {
+
+    private final ReactiveOrderService orderService;
+    private final SagaAdmissionService admissionService;
+
+    @PostMapping
+    public Mono<Order> createOrder(@RequestBody OrderRequest orderRequest) {
+        return orderService.createOrder(orderRequest);
+    }
+
+    @PostMapping("batch")
+    public Mono<BatchOrderResponse> createOrders(@RequestBody BatchOrderRequest batchOrderRequest) {
+        return orderService.createOrders(batchOrderRequest);
+    }
+
+    @GetMapping("admission")
+    public AdmissionSnapshot getAdmission() {
+        return admissionService.snapshot();
+    }
+
+}
@@ -1,5 +1,6 @@
 package br.com.microservices.orchestrated.orderservice.core.document;
 
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,6 +25,7 @@ public class Event {
     private Order payload;
     private String source;
     private String status;
+    private ESagaPriority priority;
     private List<History> eventHistory;
     private LocalDateTime createdAt;
 
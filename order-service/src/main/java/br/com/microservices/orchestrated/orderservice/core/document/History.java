@@ -17,5 +17,8 @@ public class History {
     private String status;
     private String message;
     private LocalDateTime createdAt;
+    private LocalDateTime receivedAt;
+    private Long processingMicros;
+    private LocalDateTime sentAt;
 
 }
@@ -1,5 +1,6 @@
 package br.com.microservices.orchestrated.orderservice.core.document;
 
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -22,6 +23,7 @@ public class Order {
     private List<OrderProducts> products;
     private LocalDateTime createdAt;
     private String transactionId;
+    private ESagaPriority priority;
     private double totalAmount;
     private int totalItems;
 
@@ -0,0 +1,31 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Document(collection = "saga_timeline")
+public class SagaTimeline {
+
+    @Id
+    private String id;
+    private String transactionId;
+    private String orderId;
+    private int bucket;
+    private int lastSequence;
+    private Order order;
+    private List<SagaTransition> transitions;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+}
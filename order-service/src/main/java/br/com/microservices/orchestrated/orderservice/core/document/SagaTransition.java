@@ -0,0 +1,25 @@
+package br.com.microservices.orchestrated.orderservice.core.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SagaTransition {
+
+    private int sequence;
+    private String source;
+    private String status;
+    private String message;
+    private LocalDateTime createdAt;
+    private LocalDateTime receivedAt;
+    private Long processingMicros;
+    private LocalDateTime sentAt;
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdmissionSnapshot {
+
+    private String mode;
+    private int limit;
+    private int inFlight;
+    private long admitted;
+    private long rejected;
+    private long completed;
+    private long expired;
+    private double sagaLatencyMillis;
+
+}
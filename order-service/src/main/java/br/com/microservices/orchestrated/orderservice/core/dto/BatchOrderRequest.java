@@ -0,0 +1,16 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderRequest {
+
+    private List<OrderRequest> orders;
+
+}
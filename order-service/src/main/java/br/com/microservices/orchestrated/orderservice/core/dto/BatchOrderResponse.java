@@ -0,0 +1,22 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResponse {
+
+    private int total;
+    private int accepted;
+    private int rejected;
+    private int pending;
+    private List<BatchOrderResult> results;
+
+}
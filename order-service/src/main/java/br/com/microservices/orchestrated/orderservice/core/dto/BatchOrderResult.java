@@ -0,0 +1,21 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchOrderResult {
+
+    private int index;
+    private String orderId;
+    private String transactionId;
+    private boolean success;
+    private boolean pending;
+    private String message;
+
+}
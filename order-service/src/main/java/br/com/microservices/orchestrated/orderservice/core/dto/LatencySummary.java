@@ -0,0 +1,21 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class LatencySummary {
+
+    private long count;
+    private double meanMillis;
+    private double p50Millis;
+    private double p90Millis;
+    private double p99Millis;
+    private double maxMillis;
+
+}
@@ -0,0 +1,25 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaCriticalPathResponse {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private long sagas;
+    private LatencySummary total;
+    private LatencySummary queueing;
+    private LatencySummary processing;
+    private List<StepCriticalPath> steps;
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaTransition;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SagaTimelineResponse {
+
+    private String transactionId;
+    private String orderId;
+    private Order order;
+    private List<SagaTransition> transitions;
+
+}
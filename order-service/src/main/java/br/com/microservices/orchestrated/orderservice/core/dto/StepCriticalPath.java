@@ -0,0 +1,19 @@
+package br.com.microservices.orchestrated.orderservice.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StepCriticalPath {
+
+    private String step;
+    private LatencySummary queueing;
+    private LatencySummary processing;
+    private double share;
+
+}
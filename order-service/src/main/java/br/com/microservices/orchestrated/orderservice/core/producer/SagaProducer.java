@@ -1,29 +1,46 @@
 package br.com.microservices.orchestrated.orderservice.core.producer;
 
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import br.com.microservices.orchestrated.sagaruntime.producer.SagaEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class SagaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SagaEventPublisher eventPublisher;
 
     @Value("${spring.kafka.topic.start-saga}")
     private String startSagaTopic;
 
-    public void sendEvent(String playload) {
+    public void sendEvent(String playload, String key, ESagaPriority priority) {
+        var topic = ESagaPriority.topic(priority, startSagaTopic);
+        try {
+            log.info("Sending event to kafka {} with payload {}", topic, playload);
+            eventPublisher.send(topic, key, playload);
+        } catch (Exception e) {
+            log.error("Error sending event to kafka", e);
+        }
+    }
+
+    public CompletableFuture<SendResult<String, String>> sendEventAsync(String playload, String key, ESagaPriority priority) {
         try {
-            log.info("Sending event to kafka {} with payload {}", startSagaTopic, playload);
-            kafkaTemplate.send(startSagaTopic, playload);
+            return eventPublisher.send(ESagaPriority.topic(priority, startSagaTopic), key, playload);
         } catch (Exception e) {
             log.error("Error sending event to kafka", e);
+            return CompletableFuture.failedFuture(e);
         }
     }
 
+    public void flush() {
+        eventPublisher.flush();
+    }
 
 }
@@ -2,9 +2,12 @@ package br.com.microservices.orchestrated.orderservice.core.repository;
 
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface EventRepository extends MongoRepository<Event, String> {
 
@@ -14,4 +17,10 @@ public interface EventRepository extends MongoRepository<Event, String> {
 
     Optional<Event> findTop1ByTransactionIdOrderByCreatedAtDesc(String transactionId);
 
+    @Query(
+            value = "{ 'createdAt': { '$gte': ?0, '$lt': ?1 }, 'eventHistory.0': { '$exists': true } }",
+            fields = "{ 'createdAt': 1, 'payload.createdAt': 1, 'eventHistory': 1 }"
+    )
+    Stream<Event> streamFinishedBetween(LocalDateTime from, LocalDateTime to);
+
 }
@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.orderservice.core.repository;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import org.springframework.data.mongodb.repository.ReactiveMongoRepository;
+
+public interface ReactiveOrderRepository extends ReactiveMongoRepository<Order, String> {
+}
@@ -6,10 +6,18 @@ import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
 import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.mongodb.BulkOperationException;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndReplaceOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
@@ -20,6 +28,8 @@ import static org.springframework.util.ObjectUtils.isEmpty;
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final SagaTimelineService sagaTimelineService;
+    private final MongoTemplate mongoTemplate;
 
     public List<Event> findAll() {
         return eventRepository.findAllByOrderByCreatedAtDesc();
@@ -56,11 +66,52 @@ public class EventService {
         event.setOrderId(event.getOrderId());
         event.setCreatedAt(LocalDateTime.now());
         save(event);
+        sagaTimelineService.append(event);
         log.info("Notify ending event saved {} - {}", event.getOrderId(), event.getTransactionId());
     }
 
+    // The notify-ending event reuses the id of the event stored when the order was created, so the
+    // bulk replaces by id (upserting) instead of inserting; unordered lets one bad document not stop the rest.
+    // Returns the error of each document the store rejected, by its index in the list.
+    public Map<Integer, String> notifyEndingAll(List<Event> events) {
+        var now = LocalDateTime.now();
+        var bulk = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, Event.class);
+        events.forEach(event -> {
+            event.setCreatedAt(now);
+            if (isEmpty(event.getId())) {
+                bulk.insert(event);
+            } else {
+                bulk.replaceOne(Query.query(Criteria.where("_id").is(event.getId())), event, FindAndReplaceOptions.options().upsert());
+            }
+        });
+        var failed = new HashMap<Integer, String>();
+        try {
+            bulk.execute();
+        } catch (BulkOperationException e) {
+            e.getErrors().forEach(error -> {
+                failed.put(error.getIndex(), error.getMessage());
+                log.error("Notify ending event {} not saved: {}", events.get(error.getIndex()).getTransactionId(), error.getMessage());
+            });
+        }
+        for (var index = 0; index < events.size(); index++) {
+            if (!failed.containsKey(index)) {
+                sagaTimelineService.append(events.get(index));
+            }
+        }
+        log.info("Notify ending events saved in bulk: {} of {}", events.size() - failed.size(), events.size());
+        return failed;
+    }
+
     public Event save(Event event) {
         return eventRepository.save(event);
     }
 
+    public List<Event> insertAll(List<Event> events) {
+        return eventRepository.insert(events);
+    }
+
+    public void deleteAll(List<Event> events) {
+        eventRepository.deleteAll(events);
+    }
+
 }
@@ -0,0 +1,211 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Buffers the notify-ending events polled by the batch listener and writes them to the event store
+ * in unordered bulks, flushed when {@code order.event-store.write-behind.batch-size} events are
+ * waiting or every {@code flush-interval-ms}. A polled batch is acknowledged only after the bulk that
+ * carries it is written, in the order the batches were polled; a failed bulk is retried up to
+ * {@code max-attempts} times and, once {@code max-pending} events are waiting, the listener blocks
+ * until the store catches up. Events of a bulk that exhausted its attempts, and documents the store
+ * rejected, go to the quarantine with their original record, so they can be replayed later.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "order.event-store.write-behind.enabled", havingValue = "true")
+public class EventWriteBehindService implements SmartLifecycle {
+
+    private static final long RETRY_BACKOFF_MS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final String DOCUMENT_REJECTED = "DocumentRejected";
+
+    private final EventService eventService;
+    private final SagaAdmissionService admissionService;
+    private final StepTimer stepTimer;
+    private final QuarantineStore quarantineStore;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Deque<PendingBatch> pending = new ArrayDeque<>();
+    private int pendingEvents;
+
+    private ScheduledExecutorService flusher;
+
+    @Value("${order.event-store.write-behind.batch-size}")
+    private int batchSize;
+
+    @Value("${order.event-store.write-behind.flush-interval-ms}")
+    private long flushIntervalMs;
+
+    @Value("${order.event-store.write-behind.max-pending}")
+    private int maxPending;
+
+    @Value("${order.event-store.write-behind.max-attempts}")
+    private int maxAttempts;
+
+    public void enqueue(List<ReceivedEvent> events, Acknowledgment acknowledgment) throws InterruptedException {
+        boolean full;
+        lock.lock();
+        try {
+            while (pendingEvents > 0 && pendingEvents + events.size() > maxPending) {
+                notFull.await();
+            }
+            pending.add(new PendingBatch(events, acknowledgment));
+            pendingEvents += events.size();
+            full = pendingEvents >= batchSize;
+        } finally {
+            lock.unlock();
+        }
+        if (full) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    @Override
+    public void start() {
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "event-write-behind"));
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void stop() {
+        if (flusher == null) {
+            return;
+        }
+        flusher.execute(this::flush);
+        flusher.shutdown();
+        try {
+            if (!flusher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                flusher.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            flusher.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        flusher = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return flusher != null;
+    }
+
+    // Stops after the listener containers, so the batches they already handed over are still written.
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE - 200;
+    }
+
+    private void flush() {
+        List<PendingBatch> batches;
+        while (!(batches = nextBulk()).isEmpty()) {
+            if (!write(batches)) {
+                return;
+            }
+            release(batches);
+        }
+    }
+
+    private List<PendingBatch> nextBulk() {
+        lock.lock();
+        try {
+            var batches = new ArrayList<PendingBatch>();
+            var events = 0;
+            for (var batch : pending) {
+                if (!batches.isEmpty() && events + batch.events().size() > batchSize) {
+                    break;
+                }
+                batches.add(batch);
+                events += batch.events().size();
+            }
+            return batches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean write(List<PendingBatch> batches) {
+        var received = batches
+                .stream()
+                .flatMap(batch -> batch.events().stream())
+                .toList();
+        var events = received
+                .stream()
+                .map(ReceivedEvent::event)
+                .toList();
+        for (var attempt = 1; !events.isEmpty(); attempt++) {
+            try {
+                var rejected = stepTimer.measure("notify-ending-bulk", () -> eventService.notifyEndingAll(events));
+                rejected.forEach((index, error) -> quarantine(received.get(index), DOCUMENT_REJECTED, error));
+                break;
+            } catch (Exception e) {
+                if (attempt >= maxAttempts) {
+                    log.error("Giving up writing {} notify ending events after {} attempts, quarantining them: ", events.size(), attempt, e);
+                    received.forEach(event -> quarantine(event, e.getClass().getName(), e.getMessage()));
+                    break;
+                }
+                log.error("Error writing {} notify ending events, retrying: ", events.size(), e);
+                try {
+                    Thread.sleep(RETRY_BACKOFF_MS);
+                } catch (InterruptedException interrupted) {
+                    Thread.currentThread().interrupt();
+                    return false;
+                }
+            }
+        }
+        events.forEach(event -> admissionService.complete(event.getTransactionId()));
+        batches.forEach(batch -> batch.acknowledgment().acknowledge());
+        return true;
+    }
+
+    private void quarantine(ReceivedEvent event, String exception, String message) {
+        var record = event.record();
+        var quarantined = quarantineStore.add(
+                record.topic(), record.partition(), record.offset(), record.key(), record.value(), exception, message
+        );
+        log.error("Quarantined notify ending event {} of transaction {}: {}",
+                quarantined.id(), event.event().getTransactionId(), message);
+    }
+
+    private void release(List<PendingBatch> batches) {
+        lock.lock();
+        try {
+            batches.forEach(batch -> {
+                pending.poll();
+                pendingEvents -= batch.events().size();
+            });
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public record ReceivedEvent(ConsumerRecord<String, String> record, Event event) {
+    }
+
+    private record PendingBatch(List<ReceivedEvent> events, Acknowledgment acknowledgment) {
+    }
+
+}
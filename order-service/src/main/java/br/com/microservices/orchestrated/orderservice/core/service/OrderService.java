@@ -1,54 +1,245 @@
 package br.com.microservices.orchestrated.orderservice.core.service;
 
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
 import br.com.microservices.orchestrated.orderservice.core.document.Event;
 import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.document.OrderProducts;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderResponse;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderResult;
 import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
 import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
 import br.com.microservices.orchestrated.orderservice.core.repository.OrderRepository;
 import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.orderservice.core.utils.TransactionIdGenerator;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
 import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
-import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
 @Service
 @AllArgsConstructor
 public class OrderService {
 
-    private static final String TRANSACTION_ID_PATTERN = "%s_%s";
+    private static final int MAX_BATCH_SIZE = 1000;
+    private static final long BATCH_SEND_TIMEOUT_SECONDS = 30;
 
     private final JsonUtil jsonUtil;
     private final EventService eventService;
     private final SagaProducer sagaProducer;
     private final OrderRepository orderRepository;
+    private final TransactionIdGenerator transactionIdGenerator;
+    private final SagaTimelineService sagaTimelineService;
+    private final SagaAdmissionService admissionService;
 
     public Order createOrder(OrderRequest orderRequest) {
-        var order = Order
+        var order = buildOrder(orderRequest);
+        admissionService.admit(order.getTransactionId());
+        try {
+            orderRepository.save(order);
+            sagaProducer.sendEvent(jsonUtil.toJson(createPlayload(order)), order.getTransactionId(), order.getPriority());
+        } catch (RuntimeException e) {
+            admissionService.release(order.getTransactionId());
+            throw e;
+        }
+        return order;
+    }
+
+    public BatchOrderResponse createOrders(BatchOrderRequest batchRequest) {
+        validateBatch(batchRequest);
+        var requests = batchRequest.getOrders();
+        var results = new BatchOrderResult[requests.size()];
+        var orders = new ArrayList<Order>();
+        var indexes = new ArrayList<Integer>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            try {
+                validateOrderRequest(requests.get(i));
+                orders.add(buildOrder(requests.get(i)));
+                indexes.add(i);
+            } catch (ValidationException e) {
+                results[i] = rejected(i, null, e.getMessage());
+            }
+        }
+
+        if (!orders.isEmpty()) {
+            var transactionIds = orders.stream().map(Order::getTransactionId).toList();
+            admissionService.admit(transactionIds);
+            List<CompletableFuture<SendResult<String, String>>> sends;
+            List<Order> savedOrders = List.of();
+            List<Event> events = List.of();
+            try {
+                savedOrders = orderRepository.insert(orders);
+                events = eventService.insertAll(savedOrders.stream().map(this::buildPlayload).toList());
+                sagaTimelineService.startAll(events);
+                sends = events
+                        .stream()
+                        .map(event -> sagaProducer.sendEventAsync(jsonUtil.toJson(event), event.getTransactionId(), event.getPriority()))
+                        .toList();
+                sagaProducer.flush();
+            } catch (RuntimeException e) {
+                transactionIds.forEach(admissionService::release);
+                discardUnsent(savedOrders, events);
+                throw e;
+            }
+            var failedOrders = new ArrayList<Order>();
+            var failedEvents = new ArrayList<Event>();
+            for (int i = 0; i < savedOrders.size(); i++) {
+                var order = savedOrders.get(i);
+                var event = events.get(i);
+                var index = indexes.get(i);
+                try {
+                    sends.get(i).get(BATCH_SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                    results[index] = accepted(index, order);
+                } catch (TimeoutException e) {
+                    // The send may still complete, so the saga keeps its admission slot until the outcome is known.
+                    log.error("Timed out waiting for start saga event of order {}", order.getId());
+                    sends.get(i).whenCompleteAsync((result, error) -> {
+                        if (error != null) {
+                            log.error("Start saga event of order {} failed after the batch answered", order.getId(), error);
+                            admissionService.release(order.getTransactionId());
+                            discardUnsent(List.of(order), List.of(event));
+                        }
+                    });
+                    results[index] = pending(index, order, "Start saga event was not acknowledged in time, the saga may still start");
+                } catch (Exception e) {
+                    log.error("Error sending start saga event for order {}", order.getId(), e);
+                    admissionService.release(order.getTransactionId());
+                    failedOrders.add(order);
+                    failedEvents.add(event);
+                    results[index] = rejected(index, order, "Fail to publish start saga event");
+                }
+            }
+            discardUnsent(failedOrders, failedEvents);
+        }
+
+        return buildBatchResponse(List.of(results));
+    }
+
+    public Event createPlayload(Order order) {
+        var event = buildPlayload(order);
+        eventService.save(event);
+        sagaTimelineService.start(event);
+        return event;
+    }
+
+    Order buildOrder(OrderRequest orderRequest) {
+        return Order
                 .builder()
                 .products(orderRequest.getProducts())
                 .createdAt(LocalDateTime.now())
-                .transactionId(
-                        String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID())
-                )
+                .transactionId(transactionIdGenerator.generate())
+                .priority(isEmpty(orderRequest.getPriority()) ? ESagaPriority.NORMAL : orderRequest.getPriority())
                 .build();
-
-        orderRepository.save(order);
-        sagaProducer.sendEvent(jsonUtil.toJson(createPlayload(order)));
-        return order;
     }
 
-    public Event createPlayload(Order order) {
-        var event = Event.builder()
+    Event buildPlayload(Order order) {
+        return Event.builder()
                 .orderId(order.getId())
                 .transactionId(order.getTransactionId())
+                .priority(order.getPriority())
                 .payload(order)
                 .createdAt(LocalDateTime.now())
                 .build();
+    }
 
-        eventService.save(event);
-        return event;
+    /**
+     * Removes the rows written for orders whose start saga event never reached Kafka, so a failed
+     * send does not leave an order and its event behind without a saga to finish them.
+     */
+    private void discardUnsent(List<Order> orders, List<Event> events) {
+        if (orders.isEmpty() && events.isEmpty()) {
+            return;
+        }
+        try {
+            eventService.deleteAll(events);
+            sagaTimelineService.removeAll(orders.stream().map(Order::getTransactionId).toList());
+            orderRepository.deleteAll(orders);
+            log.info("Discarded {} orders whose start saga event was not published", orders.size());
+        } catch (RuntimeException e) {
+            log.error("Error discarding {} unpublished orders", orders.size(), e);
+        }
+    }
+
+    private void validateBatch(BatchOrderRequest batchRequest) {
+        if (isEmpty(batchRequest) || isEmpty(batchRequest.getOrders())) {
+            throw new ValidationException("Order list is empty");
+        }
+        if (batchRequest.getOrders().size() > MAX_BATCH_SIZE) {
+            throw new ValidationException("Order list must have at most " + MAX_BATCH_SIZE + " orders");
+        }
+    }
+
+    private void validateOrderRequest(OrderRequest orderRequest) {
+        if (isEmpty(orderRequest) || isEmpty(orderRequest.getProducts())) {
+            throw new ValidationException("Product list is empty");
+        }
+        orderRequest.getProducts().forEach(this::validateOrderProducts);
+    }
+
+    private void validateOrderProducts(OrderProducts orderProducts) {
+        if (isEmpty(orderProducts) || isEmpty(orderProducts.getProduct()) || isEmpty(orderProducts.getProduct().getCode())) {
+            throw new ValidationException("Product must be informed");
+        }
+        if (orderProducts.getQuantity() <= 0) {
+            throw new ValidationException("Quantity must be greater than zero");
+        }
+    }
+
+    private BatchOrderResult accepted(int index, Order order) {
+        return BatchOrderResult
+                .builder()
+                .index(index)
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .success(true)
+                .build();
+    }
+
+    private BatchOrderResult rejected(int index, Order order, String message) {
+        return BatchOrderResult
+                .builder()
+                .index(index)
+                .orderId(isEmpty(order) ? null : order.getId())
+                .transactionId(isEmpty(order) ? null : order.getTransactionId())
+                .success(false)
+                .message(message)
+                .build();
+    }
+
+    private BatchOrderResult pending(int index, Order order, String message) {
+        return BatchOrderResult
+                .builder()
+                .index(index)
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .pending(true)
+                .message(message)
+                .build();
+    }
+
+    private BatchOrderResponse buildBatchResponse(List<BatchOrderResult> results) {
+        var accepted = (int) results.stream().filter(BatchOrderResult::isSuccess).count();
+        var pending = (int) results.stream().filter(BatchOrderResult::isPending).count();
+        return BatchOrderResponse
+                .builder()
+                .total(results.size())
+                .accepted(accepted)
+                .rejected(results.size() - accepted - pending)
+                .pending(pending)
+                .results(results)
+                .build();
     }
 
 }
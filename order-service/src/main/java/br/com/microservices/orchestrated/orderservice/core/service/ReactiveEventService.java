@@ -0,0 +1,44 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.repository.ReactiveEventRepository;
+import lombok.AllArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveEventService {
+
+    private final ReactiveEventRepository eventRepository;
+
+    public Flux<Event> findAll() {
+        return eventRepository.findAllByOrderByCreatedAtDesc();
+    }
+
+    public Mono<Event> findByFilters(EventFilters filters) {
+        if (isEmpty(filters.getOrderId()) && isEmpty(filters.getTransactionId())) {
+            return Mono.error(new ValidationException("OrderID or TransactionID must be informed"));
+        }
+        var event = !isEmpty(filters.getOrderId())
+                ? eventRepository.findTop1ByOrderIdOrderByCreatedAtDesc(filters.getOrderId())
+                : eventRepository.findTop1ByTransactionIdOrderByCreatedAtDesc(filters.getTransactionId());
+        return event.switchIfEmpty(Mono.error(() -> new ValidationException("Evento não encontrado")));
+    }
+
+    public Mono<Event> save(Event event) {
+        return eventRepository.save(event);
+    }
+
+    public Mono<Void> delete(Event event) {
+        return eventRepository.delete(event);
+    }
+
+}
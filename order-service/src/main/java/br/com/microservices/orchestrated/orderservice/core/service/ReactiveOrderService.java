@@ -0,0 +1,88 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.dto.BatchOrderResponse;
+import br.com.microservices.orchestrated.orderservice.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.orderservice.core.producer.SagaProducer;
+import br.com.microservices.orchestrated.orderservice.core.repository.ReactiveOrderRepository;
+import br.com.microservices.orchestrated.orderservice.core.utils.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactiveOrderService {
+
+    private final JsonUtil jsonUtil;
+    private final OrderService orderService;
+    private final SagaProducer sagaProducer;
+    private final ReactiveEventService eventService;
+    private final SagaTimelineService sagaTimelineService;
+    private final ReactiveOrderRepository orderRepository;
+    private final SagaAdmissionService admissionService;
+
+    public Mono<Order> createOrder(OrderRequest orderRequest) {
+        return Mono
+                .fromSupplier(() -> orderService.buildOrder(orderRequest))
+                .doOnNext(order -> admissionService.admit(order.getTransactionId()))
+                .flatMap(order -> orderRepository
+                        .save(order)
+                        .flatMap(this::startSaga)
+                        .doOnError(e -> admissionService.release(order.getTransactionId())));
+    }
+
+    private Mono<Order> startSaga(Order order) {
+        return eventService
+                .save(orderService.buildPlayload(order))
+                .flatMap(event -> Mono
+                        .fromRunnable(() -> sagaTimelineService.start(event))
+                        .subscribeOn(Schedulers.boundedElastic())
+                        .then(sendEvent(event))
+                        .onErrorResume(e -> discardUnsent(order, event).then(Mono.error(e))))
+                .doOnError(e -> log.error("Error sending start saga event for order {}", order.getId(), e))
+                .thenReturn(order);
+    }
+
+    // Sending can block on the producer metadata or a full buffer, so it never runs on an event loop thread.
+    private Mono<Void> sendEvent(Event event) {
+        return Mono
+                .fromFuture(() -> sagaProducer.sendEventAsync(jsonUtil.toJson(event), event.getTransactionId(), event.getPriority()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+
+    /**
+     * Removes the order and event of a saga whose start event never reached Kafka, like the batch
+     * path does, so the failed request leaves nothing behind without a saga to finish it.
+     */
+    private Mono<Void> discardUnsent(Order order, Event event) {
+        return eventService
+                .delete(event)
+                .then(Mono
+                        .fromRunnable(() -> sagaTimelineService.removeAll(List.of(order.getTransactionId())))
+                        .subscribeOn(Schedulers.boundedElastic()))
+                .then(orderRepository.delete(order))
+                .doOnSuccess(ignored -> log.info("Discarded order {} whose start saga event was not published", order.getId()))
+                .onErrorResume(e -> {
+                    log.error("Error discarding unpublished order {}", order.getId(), e);
+                    return Mono.empty();
+                });
+    }
+
+    public Mono<BatchOrderResponse> createOrders(BatchOrderRequest batchOrderRequest) {
+        return Mono
+                .fromCallable(() -> orderService.createOrders(batchOrderRequest))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+}
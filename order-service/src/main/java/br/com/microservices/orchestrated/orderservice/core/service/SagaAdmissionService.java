@@ -0,0 +1,145 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.OverloadException;
+import br.com.microservices.orchestrated.orderservice.core.dto.AdmissionSnapshot;
+import br.com.microservices.orchestrated.orderservice.core.utils.AdmissionLimit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SagaAdmissionService {
+
+    private static final long SWEEP_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final double LATENCY_WEIGHT = 0.1;
+
+    private final AdmissionLimit admissionLimit;
+
+    private final Map<String, Long> inFlightSagas = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong lastSweep = new AtomicLong(System.nanoTime());
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder expired = new LongAdder();
+    private volatile double latencyNanos;
+
+    @Value("${order.admission.enabled}")
+    private boolean enabled;
+
+    @Value("${order.admission.mode}")
+    private String mode;
+
+    @Value("${order.admission.in-flight-ttl-seconds}")
+    private long inFlightTtlSeconds;
+
+    public void admit(String transactionId) {
+        admit(List.of(transactionId));
+    }
+
+    public void admit(List<String> transactionIds) {
+        if (!enabled || transactionIds.isEmpty()) {
+            return;
+        }
+        var count = transactionIds.size();
+        if (!tryReserve(count)) {
+            sweepExpired();
+            if (!tryReserve(count)) {
+                rejected.add(count);
+                throw new OverloadException("Too many sagas in progress, try again later", retryAfterSeconds());
+            }
+        }
+        var admittedAt = System.nanoTime();
+        transactionIds.forEach(transactionId -> inFlightSagas.put(transactionId, admittedAt));
+        admitted.add(count);
+    }
+
+    public void complete(String transactionId) {
+        var admittedAt = remove(transactionId);
+        if (admittedAt == null) {
+            return;
+        }
+        var latency = System.nanoTime() - admittedAt;
+        latencyNanos = latencyNanos == 0 ? latency : latencyNanos + (latency - latencyNanos) * LATENCY_WEIGHT;
+        completed.increment();
+        admissionLimit.onSample(latency, inFlight.get());
+    }
+
+    public void release(String transactionId) {
+        remove(transactionId);
+    }
+
+    public AdmissionSnapshot snapshot() {
+        return AdmissionSnapshot
+                .builder()
+                .mode(enabled ? mode : "disabled")
+                .limit(admissionLimit.getLimit())
+                .inFlight(inFlight.get())
+                .admitted(admitted.sum())
+                .rejected(rejected.sum())
+                .completed(completed.sum())
+                .expired(expired.sum())
+                .sagaLatencyMillis(latencyNanos / 1_000_000)
+                .build();
+    }
+
+    private boolean tryReserve(int count) {
+        var limit = admissionLimit.getLimit();
+        while (true) {
+            var current = inFlight.get();
+            if (current + count > limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + count)) {
+                return true;
+            }
+        }
+    }
+
+    private Long remove(String transactionId) {
+        if (transactionId == null) {
+            return null;
+        }
+        var admittedAt = inFlightSagas.remove(transactionId);
+        if (admittedAt != null) {
+            inFlight.decrementAndGet();
+        }
+        return admittedAt;
+    }
+
+    private void sweepExpired() {
+        var now = System.nanoTime();
+        var last = lastSweep.get();
+        if (now - last < SWEEP_INTERVAL_NANOS || !lastSweep.compareAndSet(last, now)) {
+            return;
+        }
+        var deadline = now - TimeUnit.SECONDS.toNanos(inFlightTtlSeconds);
+        var removed = 0;
+        for (var entry : inFlightSagas.entrySet()) {
+            if (entry.getValue() - deadline < 0 && inFlightSagas.remove(entry.getKey(), entry.getValue())) {
+                inFlight.decrementAndGet();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            expired.add(removed);
+            log.warn("Released {} sagas without notify-ending after {}s", removed, inFlightTtlSeconds);
+        }
+    }
+
+    private long retryAfterSeconds() {
+        return Math.max(1, (long) Math.ceil(latencyNanos / 1_000_000_000));
+    }
+
+}
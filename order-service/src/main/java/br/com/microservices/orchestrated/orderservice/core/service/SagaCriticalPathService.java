@@ -0,0 +1,172 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.dto.CriticalPathFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.LatencySummary;
+import br.com.microservices.orchestrated.orderservice.core.dto.SagaCriticalPathResponse;
+import br.com.microservices.orchestrated.orderservice.core.dto.StepCriticalPath;
+import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Splits where finished sagas spent their time, streaming the events of a time window instead of
+ * loading them. Queueing is the gap between the previous hop sending the event and the step
+ * receiving it (broker, consumer lag and the orchestrator hop); processing is the time the step
+ * spent between receiving the event and recording its history entry.
+ */
+@Service
+@RequiredArgsConstructor
+public class SagaCriticalPathService {
+
+    private static final Duration DEFAULT_WINDOW = Duration.ofHours(1);
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final String NOTIFY_ENDING_STEP = "ORDER_SERVICE:NOTIFY_ENDING";
+
+    private final EventRepository eventRepository;
+
+    public SagaCriticalPathResponse analyze(CriticalPathFilters filters) {
+        var to = filters.getTo() != null ? filters.getTo() : LocalDateTime.now();
+        var from = filters.getFrom() != null ? filters.getFrom() : to.minus(DEFAULT_WINDOW);
+        if (!from.isBefore(to)) {
+            throw new ValidationException("From must be before to");
+        }
+        var criticalPath = new CriticalPath();
+        try (var events = eventRepository.streamFinishedBetween(from, to)) {
+            events.forEach(criticalPath::add);
+        }
+        return criticalPath.toResponse(from, to);
+    }
+
+    private static class CriticalPath {
+
+        private final Map<String, StepStats> steps = new LinkedHashMap<>();
+        private final Histogram total = histogram();
+        private final Histogram queueing = histogram();
+        private final Histogram processing = histogram();
+        private long sagas;
+        private long totalMicros;
+
+        private void add(Event event) {
+            sagas++;
+            var previousSentAt = event.getPayload() != null ? event.getPayload().getCreatedAt() : null;
+            var sagaQueueing = 0L;
+            var sagaProcessing = 0L;
+            for (var history : event.getEventHistory()) {
+                var stats = steps.computeIfAbsent(stepOf(history), step -> new StepStats());
+                var queued = between(previousSentAt, history.getReceivedAt());
+                var processed = history.getProcessingMicros() != null
+                        ? history.getProcessingMicros()
+                        : between(history.getReceivedAt(), history.getCreatedAt());
+                sagaQueueing += stats.recordQueueing(queued);
+                sagaProcessing += stats.recordProcessing(processed);
+                previousSentAt = history.getSentAt() != null ? history.getSentAt() : history.getCreatedAt();
+            }
+            sagaQueueing += steps
+                    .computeIfAbsent(NOTIFY_ENDING_STEP, step -> new StepStats())
+                    .recordQueueing(between(previousSentAt, event.getCreatedAt()));
+
+            var sagaTotal = between(event.getPayload() != null ? event.getPayload().getCreatedAt() : null, event.getCreatedAt());
+            if (sagaTotal >= 0) {
+                record(total, sagaTotal);
+                totalMicros += sagaTotal;
+            }
+            record(queueing, sagaQueueing);
+            record(processing, sagaProcessing);
+        }
+
+        private SagaCriticalPathResponse toResponse(LocalDateTime from, LocalDateTime to) {
+            return SagaCriticalPathResponse
+                    .builder()
+                    .from(from)
+                    .to(to)
+                    .sagas(sagas)
+                    .total(summary(total))
+                    .queueing(summary(queueing))
+                    .processing(summary(processing))
+                    .steps(steps
+                            .entrySet()
+                            .stream()
+                            .map(step -> step.getValue().toStep(step.getKey(), totalMicros))
+                            .toList())
+                    .build();
+        }
+
+        private String stepOf(History history) {
+            return String.valueOf(history.getSource()).concat(":").concat(String.valueOf(history.getStatus()));
+        }
+
+        private long between(LocalDateTime start, LocalDateTime end) {
+            if (start == null || end == null) {
+                return -1;
+            }
+            return Math.max(Duration.between(start, end).toNanos() / 1000, 0);
+        }
+
+    }
+
+    private static class StepStats {
+
+        private final Histogram queueing = histogram();
+        private final Histogram processing = histogram();
+        private long spentMicros;
+
+        private long recordQueueing(long micros) {
+            return record(queueing, micros);
+        }
+
+        private long recordProcessing(long micros) {
+            return record(processing, micros);
+        }
+
+        private long record(Histogram histogram, long micros) {
+            if (micros < 0) {
+                return 0;
+            }
+            SagaCriticalPathService.record(histogram, micros);
+            spentMicros += micros;
+            return micros;
+        }
+
+        private StepCriticalPath toStep(String step, long totalMicros) {
+            return StepCriticalPath
+                    .builder()
+                    .step(step)
+                    .queueing(summary(queueing))
+                    .processing(summary(processing))
+                    .share(totalMicros == 0 ? 0 : (double) spentMicros / totalMicros)
+                    .build();
+        }
+
+    }
+
+    private static Histogram histogram() {
+        return new Histogram(HIGHEST_TRACKABLE_MICROS, 2);
+    }
+
+    private static void record(Histogram histogram, long micros) {
+        histogram.recordValue(Math.min(Math.max(micros, 1), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    private static LatencySummary summary(Histogram histogram) {
+        return LatencySummary
+                .builder()
+                .count(histogram.getTotalCount())
+                .meanMillis(histogram.getMean() / 1000.0)
+                .p50Millis(histogram.getValueAtPercentile(50) / 1000.0)
+                .p90Millis(histogram.getValueAtPercentile(90) / 1000.0)
+                .p99Millis(histogram.getValueAtPercentile(99) / 1000.0)
+                .maxMillis(histogram.getMaxValue() / 1000.0)
+                .build();
+    }
+
+}
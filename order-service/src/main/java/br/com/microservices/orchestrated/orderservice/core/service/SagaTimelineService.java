@@ -0,0 +1,200 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.document.History;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaTimeline;
+import br.com.microservices.orchestrated.orderservice.core.document.SagaTransition;
+import br.com.microservices.orchestrated.orderservice.core.dto.EventFilters;
+import br.com.microservices.orchestrated.orderservice.core.dto.SagaTimelineResponse;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SagaTimelineService {
+
+    private static final String CURRENT_SOURCE = "ORDER_SERVICE";
+    private static final String CREATED_STATUS = "CREATED";
+    private static final String TRANSACTION_ID = "transactionId";
+    private static final String ORDER_ID = "orderId";
+    private static final String BUCKET = "bucket";
+    private static final String LAST_SEQUENCE = "lastSequence";
+
+    private final MongoTemplate mongoTemplate;
+
+    @Value("${order.event-store.timeline.enabled}")
+    private boolean enabled;
+
+    @Value("${order.event-store.timeline.bucket-size}")
+    private int bucketSize;
+
+    @PostConstruct
+    public void createIndexes() {
+        if (!enabled) {
+            return;
+        }
+        var indexOps = mongoTemplate.indexOps(SagaTimeline.class);
+        indexOps.ensureIndex(new Index().on(TRANSACTION_ID, Sort.Direction.ASC).on(BUCKET, Sort.Direction.ASC).unique());
+        indexOps.ensureIndex(new Index().on(ORDER_ID, Sort.Direction.ASC));
+    }
+
+    public void start(Event event) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            mongoTemplate.insert(buildFirstBucket(event));
+        } catch (DuplicateKeyException e) {
+            log.info("Saga timeline already started for transaction {}", event.getTransactionId());
+        }
+    }
+
+    public void startAll(List<Event> events) {
+        if (!enabled || events.isEmpty()) {
+            return;
+        }
+        mongoTemplate.insert(events.stream().map(this::buildFirstBucket).toList(), SagaTimeline.class);
+    }
+
+    public void removeAll(List<String> transactionIds) {
+        if (!enabled || transactionIds.isEmpty()) {
+            return;
+        }
+        mongoTemplate.remove(new Query(Criteria.where(TRANSACTION_ID).in(transactionIds)), SagaTimeline.class);
+    }
+
+    public void append(Event event) {
+        if (!enabled || isEmpty(event.getEventHistory())) {
+            return;
+        }
+        groupByBucket(event.getEventHistory()).forEach((bucket, transitions) -> appendToBucket(event, bucket, transitions));
+    }
+
+    public SagaTimelineResponse findByFilters(EventFilters filters) {
+        if (isEmpty(filters.getOrderId()) && isEmpty(filters.getTransactionId())) {
+            throw new ValidationException("OrderID or TransactionID must be informed");
+        }
+        var criteria = !isEmpty(filters.getTransactionId())
+                ? Criteria.where(TRANSACTION_ID).is(filters.getTransactionId())
+                : Criteria.where(ORDER_ID).is(filters.getOrderId());
+        var buckets = mongoTemplate.find(new Query(criteria).with(Sort.by(TRANSACTION_ID, BUCKET)), SagaTimeline.class);
+        if (buckets.isEmpty()) {
+            throw new ValidationException("Timeline não encontrada");
+        }
+        return buildResponse(buckets);
+    }
+
+    private SagaTimeline buildFirstBucket(Event event) {
+        var now = LocalDateTime.now();
+        var created = SagaTransition
+                .builder()
+                .sequence(0)
+                .source(CURRENT_SOURCE)
+                .status(CREATED_STATUS)
+                .message("Order created")
+                .createdAt(event.getCreatedAt())
+                .build();
+
+        return SagaTimeline
+                .builder()
+                .transactionId(event.getTransactionId())
+                .orderId(event.getOrderId())
+                .bucket(0)
+                .lastSequence(0)
+                .order(event.getPayload())
+                .transitions(new ArrayList<>(List.of(created)))
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+    }
+
+    private Map<Integer, List<SagaTransition>> groupByBucket(List<History> history) {
+        var buckets = new TreeMap<Integer, List<SagaTransition>>();
+        for (int i = 0; i < history.size(); i++) {
+            var sequence = i + 1;
+            buckets
+                    .computeIfAbsent(sequence / bucketSize, bucket -> new ArrayList<>())
+                    .add(toTransition(sequence, history.get(i)));
+        }
+        return buckets;
+    }
+
+    private SagaTransition toTransition(int sequence, History history) {
+        return SagaTransition
+                .builder()
+                .sequence(sequence)
+                .source(history.getSource())
+                .status(history.getStatus())
+                .message(history.getMessage())
+                .createdAt(history.getCreatedAt())
+                .receivedAt(history.getReceivedAt())
+                .processingMicros(history.getProcessingMicros())
+                .sentAt(history.getSentAt())
+                .build();
+    }
+
+    private void appendToBucket(Event event, int bucket, List<SagaTransition> transitions) {
+        var first = transitions.get(0).getSequence();
+        var last = transitions.get(transitions.size() - 1).getSequence();
+        var query = new Query(Criteria
+                .where(TRANSACTION_ID).is(event.getTransactionId())
+                .and(BUCKET).is(bucket)
+                .and(LAST_SEQUENCE).lt(first));
+        var update = new Update()
+                .push("transitions").each(transitions.toArray())
+                .max(LAST_SEQUENCE, last)
+                .set("updatedAt", LocalDateTime.now())
+                .setOnInsert(ORDER_ID, event.getOrderId())
+                .setOnInsert("createdAt", LocalDateTime.now());
+        try {
+            mongoTemplate.upsert(query, update, SagaTimeline.class);
+        } catch (DuplicateKeyException e) {
+            log.info("Saga timeline bucket {} already recorded for transaction {}", bucket, event.getTransactionId());
+        }
+    }
+
+    private SagaTimelineResponse buildResponse(List<SagaTimeline> buckets) {
+        var first = buckets.get(0);
+        var transitions = buckets
+                .stream()
+                .filter(bucket -> bucket.getTransactionId().equals(first.getTransactionId()))
+                .flatMap(bucket -> bucket.getTransitions().stream())
+                .toList();
+        var order = buckets
+                .stream()
+                .map(SagaTimeline::getOrder)
+                .filter(Objects::nonNull)
+                .findFirst()
+                .orElse(null);
+
+        return SagaTimelineResponse
+                .builder()
+                .transactionId(first.getTransactionId())
+                .orderId(first.getOrderId())
+                .order(order)
+                .transitions(transitions)
+                .build();
+    }
+
+}
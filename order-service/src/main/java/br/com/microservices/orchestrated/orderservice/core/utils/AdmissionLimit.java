@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+public interface AdmissionLimit {
+
+    int getLimit();
+
+    void onSample(long latencyNanos, int inFlight);
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+public class FixedAdmissionLimit implements AdmissionLimit {
+
+    private final int limit;
+
+    public FixedAdmissionLimit(int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Admission limit must be greater than zero");
+        }
+        this.limit = limit;
+    }
+
+    @Override
+    public int getLimit() {
+        return limit;
+    }
+
+    @Override
+    public void onSample(long latencyNanos, int inFlight) {
+    }
+
+}
@@ -0,0 +1,64 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+/**
+ * Adaptive in-flight limit driven by saga latency, in the style of a gradient concurrency limit:
+ * a short-term latency average is compared with a slow long-term one, and the limit shrinks when the
+ * short-term latency grows beyond {@link #TOLERANCE} times the baseline (queues are building up in
+ * Kafka or in the workers) and grows by about {@code sqrt(limit)} while latency stays at the baseline.
+ * <p>
+ * The limit only grows while at least half of it is in use, so an idle service does not drift to
+ * the maximum and then admit a burst it cannot handle.
+ */
+public class GradientAdmissionLimit implements AdmissionLimit {
+
+    private static final double TOLERANCE = 1.5;
+    private static final double SMOOTHING = 0.2;
+    private static final double SHORT_WEIGHT = 0.1;
+    private static final double LONG_WEIGHT = 0.01;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double limit;
+    private double shortLatency;
+    private double longLatency;
+
+    public GradientAdmissionLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || minLimit > maxLimit) {
+            throw new IllegalArgumentException("Admission limits must satisfy 0 < min <= max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+    }
+
+    @Override
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    @Override
+    public synchronized void onSample(long latencyNanos, int inFlight) {
+        if (latencyNanos <= 0) {
+            return;
+        }
+        if (shortLatency == 0) {
+            shortLatency = latencyNanos;
+            longLatency = latencyNanos;
+            return;
+        }
+        shortLatency += (latencyNanos - shortLatency) * SHORT_WEIGHT;
+        longLatency += (latencyNanos - longLatency) * LONG_WEIGHT;
+        if (longLatency / shortLatency > 2) {
+            longLatency *= 0.95;
+        }
+
+        var gradient = Math.max(MIN_GRADIENT, Math.min(1.0, TOLERANCE * longLatency / shortLatency));
+        var newLimit = limit * gradient + Math.sqrt(limit);
+        if (newLimit > limit && inFlight < limit / 2) {
+            return;
+        }
+        limit = Math.max(minLimit, Math.min(maxLimit, limit * (1 - SMOOTHING) + newLimit * SMOOTHING));
+    }
+
+}
@@ -0,0 +1,80 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Lock-free, monotonic 64-bit id: 41 bits of milliseconds since {@link #EPOCH}, 10 bits of node id
+ * and 12 bits of sequence, rendered as 13 Crockford base32 characters so that the string order is
+ * the same as the numeric (time) order.
+ * <p>
+ * When more than 4096 ids are requested in the same millisecond, or the clock moves backwards, the
+ * sequence carries into the timestamp instead of waiting, so ids stay unique and increasing. A
+ * generator seeded with the last timestamp handed out by a previous run keeps increasing from it
+ * even if the clock went back across the restart.
+ */
+public class SnowflakeTransactionIdGenerator implements TransactionIdGenerator {
+
+    public static final long EPOCH = Instant.parse("2023-01-01T00:00:00Z").toEpochMilli();
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int ENCODED_LENGTH = 13;
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private final long nodeId;
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeTransactionIdGenerator(long nodeId) {
+        this(nodeId, EPOCH);
+    }
+
+    public SnowflakeTransactionIdGenerator(long nodeId, long lastTimestamp) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID);
+        }
+        this.nodeId = nodeId;
+        if (lastTimestamp > EPOCH) {
+            lastState.set(((lastTimestamp - EPOCH) << SEQUENCE_BITS) | SEQUENCE_MASK);
+        }
+    }
+
+    @Override
+    public String generate() {
+        return encode(nextId());
+    }
+
+    public long lastTimestamp() {
+        return (lastState.get() >>> SEQUENCE_BITS) + EPOCH;
+    }
+
+    public long nextId() {
+        var state = nextState();
+        var timestamp = state >>> SEQUENCE_BITS;
+        var sequence = state & SEQUENCE_MASK;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+    }
+
+    private long nextState() {
+        while (true) {
+            var current = lastState.get();
+            var candidate = (System.currentTimeMillis() - EPOCH) << SEQUENCE_BITS;
+            var next = candidate > current ? candidate : current + 1;
+            if (lastState.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    public static String encode(long id) {
+        var chars = new char[ENCODED_LENGTH];
+        for (int i = ENCODED_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET[(int) (id & 31)];
+            id >>>= 5;
+        }
+        return new String(chars);
+    }
+
+}
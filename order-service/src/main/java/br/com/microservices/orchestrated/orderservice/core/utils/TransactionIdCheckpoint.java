@@ -0,0 +1,99 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Persists the last timestamp handed out by the snowflake generator every {@code intervalMs} and on
+ * shutdown. On startup {@link #restore()} returns that value plus two intervals, which covers the ids
+ * issued after the last write before a crash, so a restarted instance never reuses an id even when
+ * its clock is now behind. Without a path nothing is persisted and nothing is restored.
+ */
+@Slf4j
+public class TransactionIdCheckpoint implements SmartLifecycle {
+
+    private final Path path;
+    private final long intervalMs;
+
+    private LongSupplier lastTimestamp;
+    private ScheduledExecutorService writer;
+
+    public TransactionIdCheckpoint(Path path, long intervalMs) {
+        this.path = path;
+        this.intervalMs = intervalMs;
+    }
+
+    public long restore() {
+        if (path == null || !Files.exists(path)) {
+            return 0;
+        }
+        try {
+            var persisted = Long.parseLong(Files.readString(path).trim());
+            log.info("Restored transaction id checkpoint {} from {}", persisted, path);
+            return persisted + 2 * intervalMs;
+        } catch (IOException | NumberFormatException e) {
+            throw new IllegalStateException("Unreadable transaction id checkpoint " + path, e);
+        }
+    }
+
+    public void track(LongSupplier lastTimestamp) {
+        this.lastTimestamp = lastTimestamp;
+    }
+
+    @Override
+    public synchronized void start() {
+        if (path == null || lastTimestamp == null) {
+            return;
+        }
+        write();
+        writer = Executors.newSingleThreadScheduledExecutor(runnable -> new Thread(runnable, "transaction-id-checkpoint"));
+        writer.scheduleAtFixedRate(this::writeQuietly, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (writer == null) {
+            return;
+        }
+        writer.shutdownNow();
+        writer = null;
+        writeQuietly();
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return writer != null;
+    }
+
+    private void writeQuietly() {
+        try {
+            write();
+        } catch (UncheckedIOException e) {
+            log.error("Error writing transaction id checkpoint {}", path, e);
+        }
+    }
+
+    private void write() {
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            var temp = path.resolveSibling(path.getFileName() + ".tmp");
+            Files.writeString(temp, Long.toString(lastTimestamp.getAsLong()));
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+public interface TransactionIdGenerator {
+
+    String generate();
+
+}
@@ -0,0 +1,15 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+import java.time.Instant;
+import java.util.UUID;
+
+public class UuidTransactionIdGenerator implements TransactionIdGenerator {
+
+    private static final String TRANSACTION_ID_PATTERN = "%s_%s";
+
+    @Override
+    public String generate() {
+        return String.format(TRANSACTION_ID_PATTERN, Instant.now().toEpochMilli(), UUID.randomUUID());
+    }
+
+}
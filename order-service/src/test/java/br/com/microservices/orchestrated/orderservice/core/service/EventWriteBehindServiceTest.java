@@ -0,0 +1,96 @@
+package br.com.microservices.orchestrated.orderservice.core.service;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.service.EventWriteBehindService.ReceivedEvent;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.Acknowledgment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class EventWriteBehindServiceTest {
+
+    private static final String TOPIC = "notify-ending";
+    private static final int MAX_ATTEMPTS = 2;
+    private static final long WAIT_MS = 5000;
+
+    private final EventService eventService = mock(EventService.class);
+    private final SagaAdmissionService admissionService = mock(SagaAdmissionService.class);
+    private final QuarantineStore quarantineStore = new QuarantineStore(100);
+
+    private EventWriteBehindService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new EventWriteBehindService(eventService, admissionService, new StepTimer(), quarantineStore);
+        ReflectionTestUtils.setField(service, "batchSize", 10);
+        ReflectionTestUtils.setField(service, "flushIntervalMs", 10L);
+        ReflectionTestUtils.setField(service, "maxPending", 100);
+        ReflectionTestUtils.setField(service, "maxAttempts", MAX_ATTEMPTS);
+        service.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        service.stop();
+    }
+
+    @Test
+    void quarantinesTheBulkOnceItsAttemptsAreExhausted() throws InterruptedException {
+        when(eventService.notifyEndingAll(anyList())).thenThrow(new IllegalStateException("store unavailable"));
+        var acknowledgment = mock(Acknowledgment.class);
+
+        service.enqueue(List.of(received(0, "tx-0"), received(1, "tx-1")), acknowledgment);
+
+        verify(acknowledgment, timeout(WAIT_MS)).acknowledge();
+        verify(eventService, times(MAX_ATTEMPTS)).notifyEndingAll(anyList());
+        verify(admissionService).complete("tx-0");
+        verify(admissionService).complete("tx-1");
+        var quarantined = quarantineStore.list(TOPIC, 10);
+        assertThat(quarantined).extracting(QuarantineStore.QuarantinedRecord::offset).containsExactly(0L, 1L);
+        assertThat(quarantined).allSatisfy(record -> {
+            assertThat(record.exception()).isEqualTo(IllegalStateException.class.getName());
+            assertThat(record.payload()).startsWith("{\"transactionId\":\"tx-");
+        });
+    }
+
+    @Test
+    void quarantinesOnlyTheDocumentsTheStoreRejected() throws InterruptedException {
+        when(eventService.notifyEndingAll(anyList())).thenReturn(Map.of(1, "duplicate key"));
+        var acknowledgment = mock(Acknowledgment.class);
+
+        service.enqueue(List.of(received(0, "tx-0"), received(1, "tx-1")), acknowledgment);
+
+        verify(acknowledgment, timeout(WAIT_MS)).acknowledge();
+        verify(eventService, times(1)).notifyEndingAll(anyList());
+        var quarantined = quarantineStore.list(TOPIC, 10);
+        assertThat(quarantined).singleElement().satisfies(record -> {
+            assertThat(record.key()).isEqualTo("tx-1");
+            assertThat(record.message()).isEqualTo("duplicate key");
+        });
+    }
+
+    private ReceivedEvent received(long offset, String transactionId) {
+        var payload = "{\"transactionId\":\"" + transactionId + "\"}";
+        var event = Event
+                .builder()
+                .transactionId(transactionId)
+                .build();
+        return new ReceivedEvent(new ConsumerRecord<>(TOPIC, 0, offset, transactionId, payload), event);
+    }
+
+}
@@ -0,0 +1,88 @@
+package br.com.microservices.orchestrated.orderservice.core.utils;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeTransactionIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 200_000;
+
+    @Test
+    void generatesUniqueIncreasingIdsAcrossThreads() throws Exception {
+        var generator = new SnowflakeTransactionIdGenerator(7);
+        Set<String> ids = ConcurrentHashMap.newKeySet(THREADS * IDS_PER_THREAD);
+        var ready = new CountDownLatch(THREADS);
+        var executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            var results = new ArrayList<Future<Boolean>>();
+            for (int t = 0; t < THREADS; t++) {
+                results.add(executor.submit(() -> {
+                    ready.countDown();
+                    ready.await();
+                    var previous = "";
+                    var increasing = true;
+                    for (int i = 0; i < IDS_PER_THREAD; i++) {
+                        var id = generator.generate();
+                        increasing &= id.compareTo(previous) > 0;
+                        ids.add(id);
+                        previous = id;
+                    }
+                    return increasing;
+                }));
+            }
+            for (var result : results) {
+                assertThat(result.get(60, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(ids).hasSize(THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    void continuesAfterSeededTimestampWhenClockIsBehind() {
+        var future = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1);
+        var previousRun = new SnowflakeTransactionIdGenerator(3, future);
+        var lastIssued = previousRun.nextId();
+        var restarted = new SnowflakeTransactionIdGenerator(3, previousRun.lastTimestamp());
+
+        assertThat(restarted.nextId()).isGreaterThan(lastIssued);
+        assertThat(restarted.lastTimestamp()).isGreaterThan(future);
+    }
+
+    @Test
+    void restoresCheckpointWithMargin(@TempDir Path dir) throws Exception {
+        var path = dir.resolve("transaction-id.state");
+        var generator = new SnowflakeTransactionIdGenerator(1);
+        generator.nextId();
+        var checkpoint = new TransactionIdCheckpoint(path, 1000);
+        checkpoint.track(generator::lastTimestamp);
+        checkpoint.start();
+        checkpoint.stop();
+
+        assertThat(Long.parseLong(Files.readString(path))).isEqualTo(generator.lastTimestamp());
+        assertThat(new TransactionIdCheckpoint(path, 1000).restore()).isEqualTo(generator.lastTimestamp() + 2000);
+        assertThat(new TransactionIdCheckpoint(dir.resolve("missing"), 1000).restore()).isZero();
+    }
+
+    @Test
+    void rejectsNodeIdOutOfRange() {
+        assertThatThrownBy(() -> new SnowflakeTransactionIdGenerator(-1)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new SnowflakeTransactionIdGenerator(1024)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+}
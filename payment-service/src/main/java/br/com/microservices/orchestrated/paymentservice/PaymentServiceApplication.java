@@ -1,9 +1,12 @@
 package br.com.microservices.orchestrated.paymentservice;
 
+import br.com.microservices.orchestrated.paymentservice.config.aot.PaymentRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(PaymentRuntimeHints.class)
 public class PaymentServiceApplication {
 
 	public static void main(String[] args) {
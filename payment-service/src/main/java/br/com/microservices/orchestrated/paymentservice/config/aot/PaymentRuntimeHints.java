@@ -0,0 +1,37 @@
+package br.com.microservices.orchestrated.paymentservice.config.aot;
+
+import br.com.microservices.orchestrated.paymentservice.config.exception.ExceptionDetails;
+import br.com.microservices.orchestrated.paymentservice.core.consumer.PaymentConsumer;
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
+import br.com.microservices.orchestrated.paymentservice.core.dto.History;
+import br.com.microservices.orchestrated.paymentservice.core.dto.Order;
+import br.com.microservices.orchestrated.paymentservice.core.dto.OrderProducts;
+import br.com.microservices.orchestrated.paymentservice.core.dto.Product;
+import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class PaymentRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                Event.class,
+                History.class,
+                Order.class,
+                OrderProducts.class,
+                Product.class,
+                ExceptionDetails.class
+        );
+        hints.reflection().registerType(Payment.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(PaymentConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
@@ -0,0 +1,58 @@
+package br.com.microservices.orchestrated.paymentservice.config.kafka;
+
+import br.com.microservices.orchestrated.sagaruntime.consumer.SagaKafkaConfigurer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import reactor.kafka.receiver.ReceiverOptions;
+
+import java.time.Duration;
+import java.util.List;
+
+import static br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority.HIGH;
+
+@Configuration
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveKafkaConfig {
+
+    private final SagaKafkaConfigurer kafkaConfigurer;
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapAddress;
+
+    @Value("${spring.kafka.consumer.group-id}")
+    private String groupId;
+
+    @Value("${spring.kafka.consumer.auto-offset-reset}")
+    private String autoOffsetReset;
+
+    @Value("${spring.kafka.topic.payment-fail}")
+    private String paymentFailTopic;
+
+    @Value("${spring.kafka.topic.payment-success}")
+    private String paymentSuccessTopic;
+
+    @Value("${saga.reactive.commit-interval-ms}")
+    private long commitIntervalMs;
+
+    @Value("${saga.reactive.commit-batch-size}")
+    private int commitBatchSize;
+
+    @Bean
+    public ReceiverOptions<String, String> receiverOptions() {
+        return ReceiverOptions
+                .<String, String>create(kafkaConfigurer.consumerProps(bootstrapAddress, groupId, autoOffsetReset))
+                .commitInterval(Duration.ofMillis(commitIntervalMs))
+                .commitBatchSize(commitBatchSize)
+                .subscription(List.of(
+                        paymentSuccessTopic,
+                        HIGH.topic(paymentSuccessTopic),
+                        paymentFailTopic,
+                        HIGH.topic(paymentFailTopic)
+                ));
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.microservices.orchestrated.paymentservice.config.r2dbc;
+
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+
+/**
+ * Spring Boot backs off the JDBC DataSource as soon as an R2DBC ConnectionFactory exists, but
+ * Hibernate still owns the payment schema in the reactive profile, so the DataSource is declared here.
+ */
+@Configuration
+@Profile("reactive")
+public class ReactiveDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties
+                .initializeDataSourceBuilder()
+                .build();
+    }
+
+}
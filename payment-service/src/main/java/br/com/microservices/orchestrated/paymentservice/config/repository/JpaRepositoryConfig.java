@@ -0,0 +1,20 @@
+package br.com.microservices.orchestrated.paymentservice.config.repository;
+
+import br.com.microservices.orchestrated.paymentservice.core.repository.PaymentRepository;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.FilterType;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+/**
+ * Payment is a JPA entity, so Spring Data JPA would also claim the R2DBC repository of the reactive
+ * profile and refuse it; JPA only scans the blocking repositories.
+ */
+@Configuration
+@EnableJpaRepositories(
+        basePackageClasses = PaymentRepository.class,
+        excludeFilters = @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = R2dbcRepository.class)
+)
+public class JpaRepositoryConfig {
+}
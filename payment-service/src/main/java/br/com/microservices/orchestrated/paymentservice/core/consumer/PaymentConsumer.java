@@ -1,38 +1,70 @@
 package br.com.microservices.orchestrated.paymentservice.core.consumer;
 
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
+import br.com.microservices.orchestrated.paymentservice.core.producer.KafkaProducer;
 import br.com.microservices.orchestrated.paymentservice.core.service.PaymentService;
 import br.com.microservices.orchestrated.paymentservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.idempotency.IdempotencyGuard;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
+@Profile("!reactive")
 @AllArgsConstructor
 public class PaymentConsumer {
 
     private final JsonUtil jsonUtil;
     private final PaymentService service;
+    private final StepTimer stepTimer;
+    private final IdempotencyGuard idempotencyGuard;
+    private final KafkaProducer producer;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.payment-success}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.payment-success-high}"
+    )
     public void consumeSuccessEvent(String playload) {
         log.info("Consuming notify ending event {} payment-success", playload);
         var event = jsonUtil.toEvent(playload);
-        service.realizePayment(event);
+        stepTimer.record("payment-success", () -> idempotencyGuard.runOnce(
+                "payment-success", event.getTransactionId(), () -> service.realizePayment(event),
+                reply -> publish(reply, event)
+        ));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.payment-fail}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.payment-fail-high}"
+    )
     public void consumeFailEvent(String playload) {
         log.info("Consuming notify ending event {} payment-fail", playload);
         var event = jsonUtil.toEvent(playload);
-        service.rollbackPayment(event);
+        if (event.isRepair()) {
+            stepTimer.record("payment-fail", () -> service.rollbackPayment(event));
+            return;
+        }
+        stepTimer.record("payment-fail", () -> idempotencyGuard.runOnce(
+                "payment-fail", event.getTransactionId(), () -> service.rollbackPayment(event),
+                reply -> publish(reply, event)
+        ));
+    }
+
+    private String publish(String reply, Event event) {
+        producer.sendEvent(reply, event.getTransactionId(), event.getPriority());
+        return reply;
     }
 
 }
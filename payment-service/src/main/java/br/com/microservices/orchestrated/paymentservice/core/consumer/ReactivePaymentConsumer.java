@@ -0,0 +1,144 @@
+package br.com.microservices.orchestrated.paymentservice.core.consumer;
+
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
+import br.com.microservices.orchestrated.paymentservice.core.service.ReactivePaymentService;
+import br.com.microservices.orchestrated.paymentservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.idempotency.IdempotencyGuard;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.GroupedFlux;
+import reactor.core.publisher.Mono;
+import reactor.kafka.receiver.KafkaReceiver;
+import reactor.kafka.receiver.ReceiverOptions;
+import reactor.kafka.receiver.ReceiverRecord;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority.HIGH;
+
+/**
+ * Consumes the payment topics with reactive Kafka. Each partition runs up to
+ * {@code saga.reactive.concurrency-per-partition} records at once, records with the same key
+ * (the transactionId) still run one after the other, and offsets are acknowledged in partition
+ * order so a commit never skips a record that is still in flight.
+ */
+@Slf4j
+@Component
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactivePaymentConsumer implements SmartLifecycle {
+
+    private static final Duration MIN_BACKOFF = Duration.ofSeconds(1);
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(30);
+
+    private final JsonUtil jsonUtil;
+    private final ReactivePaymentService service;
+    private final StepTimer stepTimer;
+    private final IdempotencyGuard idempotencyGuard;
+    private final ReceiverOptions<String, String> receiverOptions;
+
+    @Value("${spring.kafka.topic.payment-success}")
+    private String paymentSuccessTopic;
+
+    @Value("${saga.reactive.concurrency-per-partition}")
+    private int concurrencyPerPartition;
+
+    private Disposable subscription;
+
+    @Override
+    public synchronized void start() {
+        subscription = KafkaReceiver
+                .create(receiverOptions)
+                .receive()
+                .groupBy(record -> record.receiverOffset().topicPartition())
+                .flatMap(this::consumePartition, Integer.MAX_VALUE)
+                .retryWhen(Retry
+                        .backoff(Long.MAX_VALUE, MIN_BACKOFF)
+                        .maxBackoff(MAX_BACKOFF)
+                        .doBeforeRetry(signal -> log.error("Reactive payment pipeline failed, resubscribing", signal.failure())))
+                .subscribe();
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (subscription != null) {
+            subscription.dispose();
+            subscription = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return subscription != null;
+    }
+
+    private Flux<ReceiverRecord<String, String>> consumePartition(GroupedFlux<TopicPartition, ReceiverRecord<String, String>> partition) {
+        var inFlight = new ConcurrentHashMap<String, Mono<Void>>();
+        return partition
+                .flatMapSequential(record -> consumeInKeyOrder(record, inFlight).thenReturn(record), concurrencyPerPartition)
+                .doOnNext(record -> record.receiverOffset().acknowledge());
+    }
+
+    private Mono<Void> consumeInKeyOrder(ReceiverRecord<String, String> record, Map<String, Mono<Void>> inFlight) {
+        var key = String.valueOf(record.key());
+        var previous = inFlight.getOrDefault(key, Mono.empty());
+        var current = previous.then(Mono.defer(() -> consume(record))).cache();
+        inFlight.put(key, current);
+        return current.doFinally(signal -> inFlight.remove(key, current));
+    }
+
+    private Mono<Void> consume(ReceiverRecord<String, String> record) {
+        log.info("Consuming event {} {}", record.value(), record.topic());
+        var success = paymentSuccessTopic.equals(record.topic()) || HIGH.topic(paymentSuccessTopic).equals(record.topic());
+        var step = success ? "payment-success" : "payment-fail";
+        Function<Event, Mono<String>> action = success ? service::realizePayment : service::rollbackPayment;
+        return Mono
+                .justOrEmpty(record.value())
+                .map(jsonUtil::toEvent)
+                .onErrorResume(e -> {
+                    log.error("Discarding unreadable event from {} at offset {}", record.topic(), record.offset(), e);
+                    return Mono.empty();
+                })
+                .flatMap(event -> event.isRepair() ? timed(step, action, event) : runOnce(step, action, event))
+                .then();
+    }
+
+    // A duplicate of a step still running (on the fast lane or another delivery) waits for its reply without blocking.
+    private Mono<String> runOnce(String step, Function<Event, Mono<String>> action, Event event) {
+        var transactionId = event.getTransactionId();
+        if (!idempotencyGuard.claim(step, transactionId)) {
+            return Mono
+                    .justOrEmpty(idempotencyGuard.findRunning(step, transactionId))
+                    .flatMap(Mono::fromFuture)
+                    .switchIfEmpty(Mono.fromSupplier(() -> idempotencyGuard.findReply(step, transactionId).orElse(null)))
+                    .flatMap(reply -> service.replay(reply, event));
+        }
+        return timed(step, action, event)
+                .doOnSuccess(reply -> idempotencyGuard.complete(step, transactionId, reply))
+                .doOnError(e -> idempotencyGuard.release(step, transactionId))
+                .doOnCancel(() -> idempotencyGuard.release(step, transactionId));
+    }
+
+    private Mono<String> timed(String step, Function<Event, Mono<String>> action, Event event) {
+        return Mono.defer(() -> {
+            var start = System.nanoTime();
+            return action
+                    .apply(event)
+                    .doOnSuccess(ignored -> stepTimer.record(step, System.nanoTime() - start, true))
+                    .doOnError(e -> stepTimer.record(step, System.nanoTime() - start, false));
+        });
+    }
+
+}
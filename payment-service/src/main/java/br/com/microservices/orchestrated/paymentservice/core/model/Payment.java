@@ -20,6 +20,7 @@ import static br.com.microservices.orchestrated.paymentservice.core.enums.EPayme
 public class Payment {
 
     @Id
+    @org.springframework.data.annotation.Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
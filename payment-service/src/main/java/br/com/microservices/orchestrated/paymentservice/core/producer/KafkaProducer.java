@@ -1,29 +1,42 @@
 package br.com.microservices.orchestrated.paymentservice.core.producer;
 
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import br.com.microservices.orchestrated.sagaruntime.producer.SagaEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.CompletableFuture;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SagaEventPublisher eventPublisher;
 
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
-    public void sendEvent(String playload) {
+    public void sendEvent(String playload, String key, ESagaPriority priority) {
+        var topic = ESagaPriority.topic(priority, orchestratorTopic);
         try {
-            log.info("Sending event to kafka {} with payload {}", orchestratorTopic, playload);
-            kafkaTemplate.send(orchestratorTopic, playload);
+            log.info("Sending event to kafka {} with payload {}", topic, playload);
+            eventPublisher.send(topic, key, playload);
         } catch (Exception e) {
             log.error("Error sending event to kafka", e);
         }
     }
 
+    public CompletableFuture<SendResult<String, String>> sendEventAsync(String playload, String key, ESagaPriority priority) {
+        try {
+            return eventPublisher.send(ESagaPriority.topic(priority, orchestratorTopic), key, playload);
+        } catch (Exception e) {
+            log.error("Error sending event to kafka", e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
 
 }
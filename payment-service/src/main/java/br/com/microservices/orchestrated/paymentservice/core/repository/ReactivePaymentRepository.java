@@ -0,0 +1,13 @@
+package br.com.microservices.orchestrated.paymentservice.core.repository;
+
+import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface ReactivePaymentRepository extends R2dbcRepository<Payment, Long> {
+
+    Mono<Boolean> existsByOrderIdAndTransactionId(String orderId, String transactionId);
+
+    Mono<Payment> findByOrderIdAndTransactionId(String orderId, String transactionId);
+
+}
@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -28,11 +29,19 @@ public class PaymentService {
     private final KafkaProducer producer;
     private final PaymentRepository repository;
 
-    public void realizePayment(Event event) {
+    public String realizePayment(Event event) {
+        executePayment(event);
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        producer.sendEvent(payload, event.getTransactionId(), event.getPriority());
+        return payload;
+    }
+
+    public Event executePayment(Event event) {
         try {
-            checkCurrentValidation(event);
-            createPendingPayment(event);
-            var payment = findByOrderIdAndTransactionId(event);
+            var payment = findCurrentPayment(event).orElseGet(() -> createPendingPayment(event));
+            checkCurrentValidation(payment);
+            setEventAmountsItems(event, payment);
             validateAmount(payment.getTotalAmount());
             changePaymentToSuccess(payment);
             handleSuccess(event);
@@ -40,19 +49,20 @@ public class PaymentService {
             log.error("Error realize payment: ", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        return event;
     }
 
-    public void rollbackPayment(Event event) {
-        event.setStatus(ESagaStatus.FAIL);
-        event.setSource(CURRENT_SOURCE);
+    public String rollbackPayment(Event event) {
         try {
             changePaymentStatusToRefund(event);
-            addHistory(event, "Payment rollback");
+            handleRollback(event, "Payment rollback");
         } catch (Exception e) {
-            addHistory(event, "Payment not rollback".concat(e.getMessage()));
+            handleRollback(event, "Payment not rollback".concat(e.getMessage()));
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        producer.sendEvent(payload, event.getTransactionId(), event.getPriority());
+        return payload;
     }
 
     private void changePaymentStatusToRefund(Event event) {
@@ -62,20 +72,23 @@ public class PaymentService {
         save(payment);
     }
 
-    private void createPendingPayment(Event event) {
+    private Payment createPendingPayment(Event event) {
+        var payment = buildPendingPayment(event);
+        save(payment);
+        return payment;
+    }
+
+    public Payment buildPendingPayment(Event event) {
         var totalAmount = calculateTotalAmount(event);
         var totalItens = calculateTotalItems(event);
 
-        var payment = Payment
+        return Payment
                 .builder()
                 .orderId(event.getOrderId())
                 .transactionId(event.getTransactionId())
                 .totalAmount(totalAmount)
                 .totalItens(totalItens)
                 .build();
-
-        save(payment);
-        setEventAmountsItems(event, payment);
     }
 
     private double calculateTotalAmount(Event event) {
@@ -97,22 +110,24 @@ public class PaymentService {
     }
 
     private Payment findByOrderIdAndTransactionId(Event event) {
-        return repository
-                .findByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId())
-                .orElseThrow(() -> new ValidationException("Payment not found"));
+        return findCurrentPayment(event).orElseThrow(() -> new ValidationException("Payment not found"));
+    }
+
+    private Optional<Payment> findCurrentPayment(Event event) {
+        return repository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId());
     }
 
     private void save(Payment payment) {
         repository.save(payment);
     }
 
-    private void validateAmount(double amount) {
+    public void validateAmount(double amount) {
         if (amount < MIN_AMOUNT) {
             throw new ValidationException("Amount must be greater than ".concat(MIN_AMOUNT.toString()));
         }
     }
 
-    private void handleSuccess(Event event) {
+    public void handleSuccess(Event event) {
         event.setStatus(ESagaStatus.SUCCESS);
         event.setSource(CURRENT_SOURCE);
         addHistory(event, "Payment realized successfully");
@@ -124,6 +139,8 @@ public class PaymentService {
                 .source(event.getSource())
                 .status(event.getStatus())
                 .message(message)
+                .receivedAt(event.getReceivedAt())
+                .processingMicros(event.processingMicros())
                 .createdAt(LocalDateTime.now())
                 .build();
 
@@ -135,21 +152,32 @@ public class PaymentService {
         save(payment);
     }
 
-    private void checkCurrentValidation(Event event) {
-        if (repository.existsByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId())) {
+    /**
+     * A payment this transaction already has is picked up where it stopped: a pending one is
+     * validated and confirmed, a confirmed one replies success again, so a step re-driven after this
+     * service lost its in-memory replies gets its first outcome. Only a refunded payment is final.
+     */
+    public void checkCurrentValidation(Payment payment) {
+        if (EPaymentStatus.REFUND.equals(payment.getStatus())) {
             throw new ValidationException("Current validation already exists");
         }
     }
 
-    private void setEventAmountsItems(Event event, Payment payment) {
+    public void setEventAmountsItems(Event event, Payment payment) {
         event.getPayload().setTotalAmount(payment.getTotalAmount());
         event.getPayload().setTotalItems(payment.getTotalItens());
     }
 
-    private void handleFailCurrentNotExecuted(Event event, String message) {
+    public void handleFailCurrentNotExecuted(Event event, String message) {
         event.setStatus(ESagaStatus.ROLLBACK_PENDING);
         event.setSource(CURRENT_SOURCE);
         addHistory(event, "Fail to realize payment: ".concat(message));
     }
 
+    public void handleRollback(Event event, String message) {
+        event.setStatus(ESagaStatus.FAIL);
+        event.setSource(CURRENT_SOURCE);
+        addHistory(event, message);
+    }
+
 }
@@ -0,0 +1,98 @@
+package br.com.microservices.orchestrated.paymentservice.core.service;
+
+import br.com.microservices.orchestrated.paymentservice.config.exception.ValidationException;
+import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
+import br.com.microservices.orchestrated.paymentservice.core.enums.EPaymentStatus;
+import br.com.microservices.orchestrated.paymentservice.core.model.Payment;
+import br.com.microservices.orchestrated.paymentservice.core.producer.KafkaProducer;
+import br.com.microservices.orchestrated.paymentservice.core.repository.ReactivePaymentRepository;
+import br.com.microservices.orchestrated.paymentservice.core.utils.JsonUtil;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@AllArgsConstructor
+public class ReactivePaymentService {
+
+    private final JsonUtil jsonUtil;
+    private final KafkaProducer producer;
+    private final PaymentService paymentService;
+    private final ReactivePaymentRepository repository;
+
+    public Mono<String> realizePayment(Event event) {
+        return Mono
+                .defer(() -> findCurrentPayment(event))
+                .switchIfEmpty(Mono.defer(() -> createPendingPayment(event)))
+                .flatMap(payment -> {
+                    paymentService.checkCurrentValidation(payment);
+                    paymentService.setEventAmountsItems(event, payment);
+                    paymentService.validateAmount(payment.getTotalAmount());
+                    return changePaymentToSuccess(payment);
+                })
+                .doOnNext(payment -> paymentService.handleSuccess(event))
+                .then()
+                .onErrorResume(e -> {
+                    log.error("Error realize payment: ", e);
+                    paymentService.handleFailCurrentNotExecuted(event, e.getMessage());
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> sendEvent(event)));
+    }
+
+    public Mono<String> rollbackPayment(Event event) {
+        return Mono
+                .defer(() -> findByOrderIdAndTransactionId(event))
+                .flatMap(payment -> changePaymentStatusToRefund(event, payment))
+                .doOnNext(payment -> paymentService.handleRollback(event, "Payment rollback"))
+                .then()
+                .onErrorResume(e -> {
+                    paymentService.handleRollback(event, "Payment not rollback".concat(e.getMessage()));
+                    return Mono.empty();
+                })
+                .then(Mono.defer(() -> sendEvent(event)));
+    }
+
+    public Mono<String> replay(String payload, Event event) {
+        return Mono
+                .fromFuture(() -> producer.sendEventAsync(payload, event.getTransactionId(), event.getPriority()))
+                .thenReturn(payload);
+    }
+
+    private Mono<Payment> createPendingPayment(Event event) {
+        var payment = paymentService.buildPendingPayment(event);
+        payment.prePresist();
+        return repository.save(payment);
+    }
+
+    private Mono<Payment> changePaymentToSuccess(Payment payment) {
+        payment.setStatus(EPaymentStatus.SUCCESS);
+        payment.preUpdate();
+        return repository.save(payment);
+    }
+
+    private Mono<Payment> changePaymentStatusToRefund(Event event, Payment payment) {
+        payment.setStatus(EPaymentStatus.REFUND);
+        payment.preUpdate();
+        paymentService.setEventAmountsItems(event, payment);
+        return repository.save(payment);
+    }
+
+    private Mono<Payment> findByOrderIdAndTransactionId(Event event) {
+        return findCurrentPayment(event).switchIfEmpty(Mono.error(() -> new ValidationException("Payment not found")));
+    }
+
+    private Mono<Payment> findCurrentPayment(Event event) {
+        return repository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId());
+    }
+
+    private Mono<String> sendEvent(Event event) {
+        event.markSent();
+        return replay(jsonUtil.toJson(event), event);
+    }
+
+}
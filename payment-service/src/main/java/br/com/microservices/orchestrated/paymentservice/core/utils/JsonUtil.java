@@ -1,31 +1,66 @@
 package br.com.microservices.orchestrated.paymentservice.core.utils;
 
 import br.com.microservices.orchestrated.paymentservice.core.dto.Event;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.AllArgsConstructor;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaEventPatcher;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaJsonSerde;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
 import org.springframework.stereotype.Component;
 
 
 @Component
-@AllArgsConstructor
 public class JsonUtil {
 
-    private final ObjectMapper objectMapper;
+    private static final String EVENT_HISTORY = "eventHistory";
+
+    private final SagaJsonSerde<Event> eventSerde;
+    private final SagaJsonSerde<Event> patchSerde;
+    private final SagaEventPatcher patcher;
+    private final boolean patchEnabled;
+
+    public JsonUtil(SagaSerdeFactory serdeFactory) {
+        this.eventSerde = serdeFactory.forType(Event.class);
+        this.patchSerde = serdeFactory.forTypeIgnoring(Event.class, EVENT_HISTORY);
+        this.patcher = serdeFactory.patcher();
+        this.patchEnabled = serdeFactory.isPatch();
+    }
 
     public String toJson(Object object) {
         try {
-            return objectMapper.writeValueAsString(object);
+            if (object instanceof Event event && event.getSourceJson() != null) {
+                return patch(event);
+            }
+            return eventSerde.toJson(object);
         } catch (Exception e) {
             return "";
         }
     }
 
     public Event toEvent(String json) {
-        try {
-            return objectMapper.readValue(json, Event.class);
-        } catch (Exception e) {
-            return null;
+        if (!patchEnabled) {
+            return received(eventSerde.fromJson(json));
+        }
+        var event = patchSerde.fromJson(json);
+        event.setSourceJson(json);
+        return received(event);
+    }
+
+    private Event received(Event event) {
+        event.markReceived();
+        return event;
+    }
+
+    private String patch(Event event) {
+        var patch = SagaEventPatcher
+                .patch()
+                .set("source", event.getSource())
+                .set("status", event.getStatus())
+                .append(EVENT_HISTORY, event.getEventHistory());
+        if (event.getPayload() != null) {
+            patch.in("payload", payload -> payload
+                    .setIfPresent("totalAmount", event.getPayload().getTotalAmount())
+                    .setIfPresent("totalItems", event.getPayload().getTotalItems()));
         }
+        return patcher.apply(event.getSourceJson(), patch);
     }
 
 
@@ -1,9 +1,12 @@
 package br.com.microservices.orchestrated.productvalidationservice;
 
+import br.com.microservices.orchestrated.productvalidationservice.config.aot.ProductValidationRuntimeHints;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
 @SpringBootApplication
+@ImportRuntimeHints(ProductValidationRuntimeHints.class)
 public class ProductValidationServiceApplication {
 
 	public static void main(String[] args) {
@@ -0,0 +1,41 @@
+package br.com.microservices.orchestrated.productvalidationservice.config.aot;
+
+import br.com.microservices.orchestrated.productvalidationservice.config.exception.ExceptionDetails;
+import br.com.microservices.orchestrated.productvalidationservice.core.consumer.ProductValidationConsumer;
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.History;
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.Order;
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.OrderProducts;
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.Product;
+import br.com.microservices.orchestrated.productvalidationservice.core.model.Validation;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class ProductValidationRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                Event.class,
+                History.class,
+                Order.class,
+                OrderProducts.class,
+                Product.class,
+                ExceptionDetails.class
+        );
+        hints.reflection().registerType(br.com.microservices.orchestrated.productvalidationservice.core.model.Product.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(Validation.class,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(ProductValidationConsumer.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
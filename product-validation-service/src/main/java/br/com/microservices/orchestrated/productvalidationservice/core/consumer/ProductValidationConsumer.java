@@ -1,7 +1,11 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.consumer;
 
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.producer.KafkaProducer;
 import br.com.microservices.orchestrated.productvalidationservice.core.service.ProductValidationService;
 import br.com.microservices.orchestrated.productvalidationservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.idempotency.IdempotencyGuard;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -14,25 +18,51 @@ public class ProductValidationConsumer {
 
     private final JsonUtil jsonUtil;
     private final ProductValidationService service;
+    private final StepTimer stepTimer;
+    private final IdempotencyGuard idempotencyGuard;
+    private final KafkaProducer producer;
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.product-validation-success}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.product-validation-success-high}"
+    )
     public void consumeSuccessEvent(String playload) {
         log.info("Consuming notify ending event {} product-validation-success", playload);
         var event = jsonUtil.toEvent(playload);
-        service.validateExistingProducts(event);
+        stepTimer.record("product-validation-success", () -> idempotencyGuard.runOnce(
+                "product-validation-success", event.getTransactionId(), () -> service.validateExistingProducts(event),
+                reply -> publish(reply, event)
+        ));
     }
 
     @KafkaListener(
             groupId = "${spring.kafka.consumer.group-id}",
             topics = "${spring.kafka.topic.product-validation-fail}"
     )
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.product-validation-fail-high}"
+    )
     public void consumeFailEvent(String playload) {
         log.info("Consuming notify ending event {} product-validation-fail", playload);
         var event = jsonUtil.toEvent(playload);
-        service.rollbackEvent(event);
+        if (event.isRepair()) {
+            stepTimer.record("product-validation-fail", () -> service.rollbackEvent(event));
+            return;
+        }
+        stepTimer.record("product-validation-fail", () -> idempotencyGuard.runOnce(
+                "product-validation-fail", event.getTransactionId(), () -> service.rollbackEvent(event),
+                reply -> publish(reply, event)
+        ));
+    }
+
+    private String publish(String reply, Event event) {
+        producer.sendEvent(reply, event.getTransactionId(), event.getPriority());
+        return reply;
     }
 
 }
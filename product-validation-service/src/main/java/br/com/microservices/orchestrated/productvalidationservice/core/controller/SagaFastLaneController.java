@@ -0,0 +1,54 @@
+package br.com.microservices.orchestrated.productvalidationservice.core.controller;
+
+import br.com.microservices.orchestrated.productvalidationservice.core.dto.Event;
+import br.com.microservices.orchestrated.productvalidationservice.core.service.ProductValidationService;
+import br.com.microservices.orchestrated.productvalidationservice.core.utils.JsonUtil;
+import br.com.microservices.orchestrated.sagaruntime.idempotency.IdempotencyGuard;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Runs the product-validation-success step for the orchestrator fast lane and answers with the reply event
+ * instead of publishing it. It claims the step in the same {@link IdempotencyGuard} scope as the
+ * Kafka consumer, so a Kafka delivery of the same step publishes this reply instead of running the
+ * step again; a call for a step that is already running or ran answers 409 unless its reply is stored.
+ */
+@Slf4j
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/saga/fast-lane")
+public class SagaFastLaneController {
+
+    private static final String STEP = "product-validation-success";
+
+    private final JsonUtil jsonUtil;
+    private final ProductValidationService service;
+    private final StepTimer stepTimer;
+    private final IdempotencyGuard idempotencyGuard;
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE, produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<String> execute(@RequestBody String payload) {
+        log.info("Executing fast lane event {} {}", payload, STEP);
+        var event = jsonUtil.toEvent(payload);
+        return idempotencyGuard
+                .execute(STEP, event.getTransactionId(), () -> stepTimer.measure(
+                        STEP.concat("-fast-lane"), () -> reply(service.executeValidation(event))
+                ))
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).build());
+    }
+
+    private String reply(Event event) {
+        event.markSent();
+        return jsonUtil.toJson(event);
+    }
+
+}
@@ -1,6 +1,9 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.dto;
 
 import br.com.microservices.orchestrated.productvalidationservice.core.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -9,6 +12,7 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 
@@ -24,8 +28,18 @@ public class Event {
     private Order payload;
     private String source;
     private ESagaStatus status;
+    private ESagaPriority priority;
     private List<History> eventHistory;
     private LocalDateTime createdAt;
+    // A reconciler repair: the rollback runs even if this step was already handled, and the reply keeps the flag.
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean repair;
+    @JsonIgnore
+    private String sourceJson;
+    @JsonIgnore
+    private LocalDateTime receivedAt;
+    @JsonIgnore
+    private long receivedNanos;
 
     public void addHistory(History history) {
         if (eventHistory == null) {
@@ -37,4 +51,23 @@ public class Event {
         eventHistory.add(history);
     }
 
+    public void markReceived() {
+        receivedAt = LocalDateTime.now();
+        receivedNanos = System.nanoTime();
+    }
+
+    public Long processingMicros() {
+        return receivedNanos == 0 ? null : TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - receivedNanos);
+    }
+
+    public void markSent() {
+        if (isEmpty(eventHistory)) {
+            return;
+        }
+        var last = eventHistory.get(eventHistory.size() - 1);
+        if (last.getSentAt() == null) {
+            last.setSentAt(LocalDateTime.now());
+        }
+    }
+
 }
@@ -18,5 +18,8 @@ public class History {
     private ESagaStatus status;
     private String message;
     private LocalDateTime createdAt;
+    private LocalDateTime receivedAt;
+    private Long processingMicros;
+    private LocalDateTime sentAt;
 
 }
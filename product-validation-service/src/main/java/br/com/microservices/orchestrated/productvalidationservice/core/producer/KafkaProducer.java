@@ -1,9 +1,10 @@
 package br.com.microservices.orchestrated.productvalidationservice.core.producer;
 
+import br.com.microservices.orchestrated.sagaruntime.lane.ESagaPriority;
+import br.com.microservices.orchestrated.sagaruntime.producer.SagaEventPublisher;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 
 @Slf4j
@@ -11,15 +12,16 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class KafkaProducer {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final SagaEventPublisher eventPublisher;
 
     @Value("${spring.kafka.topic.orchestrator}")
     private String orchestratorTopic;
 
-    public void sendEvent(String playload) {
+    public void sendEvent(String playload, String key, ESagaPriority priority) {
+        var topic = ESagaPriority.topic(priority, orchestratorTopic);
         try {
-            log.info("Sending event to kafka {} with payload {}", orchestratorTopic, playload);
-            kafkaTemplate.send(orchestratorTopic, playload);
+            log.info("Sending event to kafka {} with payload {}", topic, playload);
+            eventPublisher.send(topic, key, playload);
         } catch (Exception e) {
             log.error("Error sending event to kafka", e);
         }
@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.util.Optional;
 
 import static org.springframework.util.ObjectUtils.isEmpty;
 
@@ -30,24 +31,41 @@ public class ProductValidationService {
     private final ProductRepository repository;
     private final ValidationRepository validationRepository;
 
-    public void validateExistingProducts(Event event) {
+    public String validateExistingProducts(Event event) {
+        executeValidation(event);
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        producer.sendEvent(payload, event.getTransactionId(), event.getPriority());
+        return payload;
+    }
+
+    public Event executeValidation(Event event) {
         try {
-            checkCurrentValidation(event);
+            validateProductsInformed(event);
+            var currentValidation = findCurrentValidation(event);
+            if (currentValidation.isPresent()) {
+                handleCurrentValidation(event, currentValidation.get());
+                return event;
+            }
+            checkProducts(event);
             createValidation(event, true);
             handleSuccess(event);
         } catch (Exception e) {
             log.error("Error validating existing products", e);
             handleFailCurrentNotExecuted(event, e.getMessage());
         }
-        producer.sendEvent(jsonUtil.toJson(event));
+        return event;
     }
 
-    public void rollbackEvent(Event event) {
+    public String rollbackEvent(Event event) {
         changeValidationToFail(event);
         event.setStatus(ESagaStatus.FAIL);
         event.setSource(CURRENT_SOURCE);
         addHistory(event, "Rollback executed on product validation");
-        producer.sendEvent(jsonUtil.toJson(event));
+        event.markSent();
+        var payload = jsonUtil.toJson(event);
+        producer.sendEvent(payload, event.getTransactionId(), event.getPriority());
+        return payload;
     }
 
     private void changeValidationToFail(Event event) {
@@ -87,19 +105,29 @@ public class ProductValidationService {
                 .source(event.getSource())
                 .status(event.getStatus())
                 .message(message)
+                .receivedAt(event.getReceivedAt())
+                .processingMicros(event.processingMicros())
                 .createdAt(LocalDateTime.now())
                 .build();
 
         event.addHistory(history);
     }
 
-    private void checkCurrentValidation(Event event) {
-        validateProductsInformed(event);
+    private Optional<Validation> findCurrentValidation(Event event) {
+        return validationRepository.findByOrderIdAndTransactionId(event.getPayload().getId(), event.getPayload().getTransactionId());
+    }
 
-        if (validationRepository.existsByOrderIdAndTransactionId(event.getOrderId(), event.getTransactionId())) {
+    // A step re-driven after this service lost its in-memory replies gets the outcome it stored the first time.
+    private void handleCurrentValidation(Event event, Validation validation) {
+        if (!validation.isSuccess()) {
             throw new ValidationException("Current validation already exists");
         }
+        event.setStatus(ESagaStatus.SUCCESS);
+        event.setSource(CURRENT_SOURCE);
+        addHistory(event, "Products were already validated");
+    }
 
+    private void checkProducts(Event event) {
         event.getPayload().getProducts().forEach(product -> {
             validateProductInformed(product);
             validateExistingProduct(product.getProduct().getCode());
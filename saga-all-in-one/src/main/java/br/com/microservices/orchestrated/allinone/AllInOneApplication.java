@@ -0,0 +1,24 @@
+package br.com.microservices.orchestrated.allinone;
+
+import br.com.microservices.orchestrated.allinone.config.AllInOneProperties;
+import br.com.microservices.orchestrated.allinone.config.EventBusConfig;
+import br.com.microservices.orchestrated.allinone.launcher.ServiceContextLauncher;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Import;
+
+@SpringBootConfiguration
+@Import({EventBusConfig.class, ServiceContextLauncher.class})
+@EnableConfigurationProperties(AllInOneProperties.class)
+public class AllInOneApplication {
+
+	public static void main(String[] args) {
+		var parent = new SpringApplicationBuilder(AllInOneApplication.class)
+				.web(WebApplicationType.NONE)
+				.properties("spring.config.name=all-in-one")
+				.run(args);
+		parent.getBean(ServiceContextLauncher.class).launchAll(parent);
+	}
+}
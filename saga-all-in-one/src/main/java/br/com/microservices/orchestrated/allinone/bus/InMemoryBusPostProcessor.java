@@ -0,0 +1,71 @@
+package br.com.microservices.orchestrated.allinone.bus;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.AnnotationUtils;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Method;
+import java.util.Set;
+
+@Slf4j
+public class InMemoryBusPostProcessor implements BeanPostProcessor, EnvironmentAware {
+
+    private final InMemoryEventBus eventBus;
+    private Environment environment;
+
+    public InMemoryBusPostProcessor(InMemoryEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        this.environment = environment;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof KafkaTemplate<?, ?> kafkaTemplate && !(bean instanceof InMemoryKafkaTemplate)) {
+            log.info("Replacing KafkaTemplate {} with the in-memory event bus", beanName);
+            return new InMemoryKafkaTemplate((ProducerFactory<String, String>) kafkaTemplate.getProducerFactory(), eventBus);
+        }
+        subscribeListeners(bean);
+        return bean;
+    }
+
+    private void subscribeListeners(Object bean) {
+        var targetClass = AopUtils.getTargetClass(bean);
+        if (!AnnotationUtils.isCandidateClass(targetClass, KafkaListener.class)) {
+            return;
+        }
+        var listeners = MethodIntrospector.selectMethods(targetClass,
+                (MethodIntrospector.MetadataLookup<Set<KafkaListener>>) method -> {
+                    var annotations = AnnotatedElementUtils.findMergedRepeatableAnnotations(method, KafkaListener.class);
+                    return annotations.isEmpty() ? null : annotations;
+                });
+        listeners.forEach((method, annotations) -> annotations.forEach(listener -> subscribe(bean, method, listener)));
+    }
+
+    private void subscribe(Object bean, Method method, KafkaListener listener) {
+        if (method.getParameterCount() != 1 || !String.class.equals(method.getParameterTypes()[0])) {
+            log.warn("Listener {} does not take a single String payload and will not receive bus events", method);
+            return;
+        }
+        var invocable = AopUtils.selectInvocableMethod(method, bean.getClass());
+        for (var topic : listener.topics()) {
+            var resolvedTopic = environment.resolveRequiredPlaceholders(topic);
+            eventBus.subscribe(resolvedTopic, payload -> ReflectionUtils.invokeMethod(invocable, bean, payload));
+            log.info("Subscribed {}.{} to in-memory topic {}", method.getDeclaringClass().getSimpleName(), method.getName(), resolvedTopic);
+        }
+    }
+
+}
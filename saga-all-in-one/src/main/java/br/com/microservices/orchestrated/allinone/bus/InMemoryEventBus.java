@@ -0,0 +1,108 @@
+package br.com.microservices.orchestrated.allinone.bus;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+@Slf4j
+public class InMemoryEventBus implements DisposableBean {
+
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    private final Map<String, List<Consumer<String>>> subscribers = new ConcurrentHashMap<>();
+    private final Map<String, TopicStats> topics = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor dispatcher;
+
+    public InMemoryEventBus(int capacity, int threads) {
+        var threadCount = new AtomicInteger();
+        this.dispatcher = new ThreadPoolExecutor(
+                threads,
+                threads,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(capacity),
+                runnable -> {
+                    var thread = new Thread(runnable, "event-bus-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+    }
+
+    public void subscribe(String topic, Consumer<String> listener) {
+        subscribers.computeIfAbsent(topic, key -> new CopyOnWriteArrayList<>()).add(listener);
+    }
+
+    public long publish(String topic, String payload) {
+        var stats = topics.computeIfAbsent(topic, key -> new TopicStats());
+        var offset = stats.published.getAndIncrement();
+        dispatcher.execute(() -> deliver(topic, payload, stats));
+        return offset;
+    }
+
+    private void deliver(String topic, String payload, TopicStats stats) {
+        var listeners = subscribers.getOrDefault(topic, List.of());
+        if (listeners.isEmpty()) {
+            stats.dropped.increment();
+            return;
+        }
+        for (var listener : listeners) {
+            try {
+                listener.accept(payload);
+                stats.delivered.increment();
+            } catch (Exception e) {
+                stats.failed.increment();
+                log.error("Error delivering event to {}", topic, e);
+            }
+        }
+    }
+
+    public BusSnapshot snapshot() {
+        var snapshot = new TreeMap<String, TopicSnapshot>();
+        topics.forEach((topic, stats) -> snapshot.put(topic, new TopicSnapshot(
+                stats.published.get(),
+                stats.delivered.sum(),
+                stats.failed.sum(),
+                stats.dropped.sum()
+        )));
+        return new BusSnapshot(dispatcher.getQueue().size(), snapshot);
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        dispatcher.shutdown();
+        if (!dispatcher.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            log.warn("Event bus stopped with {} pending events", dispatcher.getQueue().size());
+            dispatcher.shutdownNow();
+        }
+    }
+
+    public record TopicSnapshot(long published, long delivered, long failed, long dropped) {
+    }
+
+    public record BusSnapshot(int pending, Map<String, TopicSnapshot> topics) {
+    }
+
+    private static class TopicStats {
+
+        private final AtomicLong published = new AtomicLong();
+        private final LongAdder delivered = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+    }
+
+}
@@ -0,0 +1,51 @@
+package br.com.microservices.orchestrated.allinone.bus;
+
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+public class InMemoryKafkaTemplate extends KafkaTemplate<String, String> {
+
+    private static final int PARTITION = 0;
+    private static final int NO_SIZE = -1;
+
+    private final InMemoryEventBus eventBus;
+
+    public InMemoryKafkaTemplate(ProducerFactory<String, String> producerFactory, InMemoryEventBus eventBus) {
+        super(producerFactory);
+        this.eventBus = eventBus;
+    }
+
+    @Override
+    public CompletableFuture<SendResult<String, String>> send(String topic, String data) {
+        return send(topic, null, data);
+    }
+
+    @Override
+    public CompletableFuture<SendResult<String, String>> send(String topic, String key, String data) {
+        var offset = eventBus.publish(topic, data);
+        var metadata = new RecordMetadata(
+                new TopicPartition(topic, PARTITION),
+                offset,
+                0,
+                System.currentTimeMillis(),
+                sizeOf(key),
+                sizeOf(data)
+        );
+        return CompletableFuture.completedFuture(new SendResult<>(new ProducerRecord<>(topic, key, data), metadata));
+    }
+
+    @Override
+    public void flush() {
+    }
+
+    private int sizeOf(String value) {
+        return value == null ? NO_SIZE : value.length();
+    }
+
+}
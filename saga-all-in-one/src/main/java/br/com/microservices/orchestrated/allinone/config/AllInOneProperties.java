@@ -0,0 +1,28 @@
+package br.com.microservices.orchestrated.allinone.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "all-in-one")
+public class AllInOneProperties {
+
+    private Bus bus = new Bus();
+    private Store store = new Store();
+
+    @Data
+    public static class Bus {
+
+        private int capacity = 65536;
+        private int threads = Runtime.getRuntime().availableProcessors();
+
+    }
+
+    @Data
+    public static class Store {
+
+        private int capacity = 100_000;
+
+    }
+
+}
@@ -0,0 +1,15 @@
+package br.com.microservices.orchestrated.allinone.config;
+
+import br.com.microservices.orchestrated.allinone.bus.InMemoryEventBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class EventBusConfig {
+
+    @Bean
+    public InMemoryEventBus inMemoryEventBus(AllInOneProperties properties) {
+        return new InMemoryEventBus(properties.getBus().getCapacity(), properties.getBus().getThreads());
+    }
+
+}
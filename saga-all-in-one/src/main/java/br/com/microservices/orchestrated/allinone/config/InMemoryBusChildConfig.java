@@ -0,0 +1,16 @@
+package br.com.microservices.orchestrated.allinone.config;
+
+import br.com.microservices.orchestrated.allinone.bus.InMemoryBusPostProcessor;
+import br.com.microservices.orchestrated.allinone.bus.InMemoryEventBus;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class InMemoryBusChildConfig {
+
+    @Bean
+    public static InMemoryBusPostProcessor inMemoryBusPostProcessor(InMemoryEventBus eventBus) {
+        return new InMemoryBusPostProcessor(eventBus);
+    }
+
+}
@@ -0,0 +1,21 @@
+package br.com.microservices.orchestrated.allinone.controller;
+
+import br.com.microservices.orchestrated.allinone.bus.InMemoryEventBus;
+import lombok.AllArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/bus")
+public class EventBusController {
+
+    private final InMemoryEventBus eventBus;
+
+    @GetMapping
+    public InMemoryEventBus.BusSnapshot snapshot() {
+        return eventBus.snapshot();
+    }
+
+}
@@ -0,0 +1,33 @@
+package br.com.microservices.orchestrated.allinone.launcher;
+
+import br.com.microservices.orchestrated.allinone.order.InMemoryOrderConfig;
+import br.com.microservices.orchestrated.inventoryservice.InventoryServiceApplication;
+import br.com.microservices.orchestrated.orchestratorservice.OrchestratorServiceApplication;
+import br.com.microservices.orchestrated.orderservice.OrderServiceApplication;
+import br.com.microservices.orchestrated.paymentservice.PaymentServiceApplication;
+import br.com.microservices.orchestrated.productvalidationservice.ProductValidationServiceApplication;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.boot.WebApplicationType;
+
+@Getter
+@AllArgsConstructor
+public enum EServiceContext {
+
+    PRODUCT_VALIDATION("product-validation-service", "product-validation-group", WebApplicationType.NONE,
+            new Class<?>[]{ProductValidationServiceApplication.class}),
+    PAYMENT("payment-service", "payment-group", WebApplicationType.NONE,
+            new Class<?>[]{PaymentServiceApplication.class}),
+    INVENTORY("inventory-service", "inventory-group", WebApplicationType.NONE,
+            new Class<?>[]{InventoryServiceApplication.class}),
+    ORCHESTRATOR("orchestrator-service", "orchestrator-group", WebApplicationType.NONE,
+            new Class<?>[]{OrchestratorServiceApplication.class}),
+    ORDER("order-service", "order-group", WebApplicationType.SERVLET,
+            new Class<?>[]{OrderServiceApplication.class, InMemoryOrderConfig.class});
+
+    private final String serviceName;
+    private final String groupId;
+    private final WebApplicationType webApplicationType;
+    private final Class<?>[] sources;
+
+}
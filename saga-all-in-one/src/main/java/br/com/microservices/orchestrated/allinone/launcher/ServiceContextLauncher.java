@@ -0,0 +1,79 @@
+package br.com.microservices.orchestrated.allinone.launcher;
+
+import br.com.microservices.orchestrated.allinone.bus.InMemoryEventBus;
+import br.com.microservices.orchestrated.allinone.config.InMemoryBusChildConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.Banner;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+public class ServiceContextLauncher implements DisposableBean {
+
+    private static final String SERVICE_CONFIG = "classpath*:application.yml";
+    private static final String GROUP_ID_PROPERTY = "spring.kafka.consumer.group-id";
+    private static final String OVERRIDES = "optional:classpath:/all-in-one/common.yml,optional:classpath:/all-in-one/%s.yml";
+
+    private final InMemoryEventBus eventBus;
+    private final List<ConfigurableApplicationContext> contexts = Collections.synchronizedList(new ArrayList<>());
+
+    public void launchAll(ConfigurableApplicationContext parent) {
+        for (var service : EServiceContext.values()) {
+            contexts.add(launch(service, parent));
+            log.info("Started {} in-process", service.getServiceName());
+        }
+    }
+
+    private ConfigurableApplicationContext launch(EServiceContext service, ConfigurableApplicationContext parent) {
+        return new SpringApplicationBuilder(service.getSources())
+                .sources(InMemoryBusChildConfig.class)
+                .main(service.getSources()[0])
+                .parent(parent)
+                .web(service.getWebApplicationType())
+                .bannerMode(Banner.Mode.OFF)
+                .properties(Map.of(
+                        "spring.application.name", service.getServiceName(),
+                        "spring.config.location", findServiceConfig(service),
+                        "spring.config.additional-location", OVERRIDES.formatted(service.getServiceName())
+                ))
+                .run();
+    }
+
+    private String findServiceConfig(EServiceContext service) {
+        try {
+            var loader = new YamlPropertySourceLoader();
+            for (var resource : new PathMatchingResourcePatternResolver().getResources(SERVICE_CONFIG)) {
+                var location = resource.getURL().toString();
+                for (var source : loader.load(location, resource)) {
+                    if (service.getGroupId().equals(String.valueOf(source.getProperty(GROUP_ID_PROPERTY)))) {
+                        return location;
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        throw new IllegalStateException("application.yml of " + service.getServiceName() + " not found on the classpath");
+    }
+
+    @Override
+    public void destroy() {
+        for (var index = contexts.size() - 1; index >= 0; index--) {
+            contexts.get(index).close();
+        }
+        log.info("Event bus totals {}", eventBus.snapshot());
+    }
+
+}
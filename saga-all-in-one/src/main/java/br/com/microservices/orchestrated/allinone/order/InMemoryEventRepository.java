@@ -0,0 +1,53 @@
+package br.com.microservices.orchestrated.allinone.order;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Event;
+import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.springframework.util.ObjectUtils.isEmpty;
+
+public class InMemoryEventRepository extends InMemoryMongoRepository<Event> implements EventRepository {
+
+    private static final Comparator<Event> CREATED_AT_DESC = Comparator
+            .comparing(Event::getCreatedAt, Comparator.nullsLast(Comparator.reverseOrder()));
+
+    public InMemoryEventRepository(int capacity) {
+        super(Event::getId, Event::setId, capacity);
+    }
+
+    @Override
+    public List<Event> findAllByOrderByCreatedAtDesc() {
+        return stream()
+                .sorted(CREATED_AT_DESC)
+                .toList();
+    }
+
+    @Override
+    public Optional<Event> findTop1ByOrderIdOrderByCreatedAtDesc(String orderId) {
+        return stream()
+                .filter(event -> orderId.equals(event.getOrderId()))
+                .min(CREATED_AT_DESC);
+    }
+
+    @Override
+    public Optional<Event> findTop1ByTransactionIdOrderByCreatedAtDesc(String transactionId) {
+        return stream()
+                .filter(event -> transactionId.equals(event.getTransactionId()))
+                .min(CREATED_AT_DESC);
+    }
+
+    @Override
+    public Stream<Event> streamFinishedBetween(LocalDateTime from, LocalDateTime to) {
+        return stream()
+                .filter(event -> event.getCreatedAt() != null
+                        && !event.getCreatedAt().isBefore(from)
+                        && event.getCreatedAt().isBefore(to)
+                        && !isEmpty(event.getEventHistory()));
+    }
+
+}
@@ -0,0 +1,186 @@
+package br.com.microservices.orchestrated.allinone.order;
+
+import org.bson.types.ObjectId;
+import org.springframework.data.domain.Example;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.repository.query.FluentQuery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+public abstract class InMemoryMongoRepository<T> implements MongoRepository<T, String> {
+
+    private final Map<String, T> documents = new ConcurrentHashMap<>();
+    private final Queue<String> insertionOrder = new ConcurrentLinkedQueue<>();
+    private final Function<T, String> idGetter;
+    private final BiConsumer<T, String> idSetter;
+    private final int capacity;
+
+    protected InMemoryMongoRepository(Function<T, String> idGetter, BiConsumer<T, String> idSetter, int capacity) {
+        this.idGetter = idGetter;
+        this.idSetter = idSetter;
+        this.capacity = capacity;
+    }
+
+    protected Stream<T> stream() {
+        return documents.values().stream();
+    }
+
+    @Override
+    public <S extends T> S save(S entity) {
+        var id = idGetter.apply(entity);
+        if (id == null) {
+            id = new ObjectId().toHexString();
+            idSetter.accept(entity, id);
+        }
+        if (documents.put(id, entity) == null) {
+            insertionOrder.add(id);
+            evictOverCapacity();
+        }
+        return entity;
+    }
+
+    private void evictOverCapacity() {
+        while (documents.size() > capacity) {
+            var eldest = insertionOrder.poll();
+            if (eldest == null) {
+                return;
+            }
+            documents.remove(eldest);
+        }
+    }
+
+    @Override
+    public <S extends T> S insert(S entity) {
+        return save(entity);
+    }
+
+    @Override
+    public <S extends T> List<S> insert(Iterable<S> entities) {
+        return saveAll(entities);
+    }
+
+    @Override
+    public <S extends T> List<S> saveAll(Iterable<S> entities) {
+        var saved = new ArrayList<S>();
+        entities.forEach(entity -> saved.add(save(entity)));
+        return saved;
+    }
+
+    @Override
+    public Optional<T> findById(String id) {
+        return Optional.ofNullable(documents.get(id));
+    }
+
+    @Override
+    public boolean existsById(String id) {
+        return documents.containsKey(id);
+    }
+
+    @Override
+    public List<T> findAll() {
+        return new ArrayList<>(documents.values());
+    }
+
+    @Override
+    public List<T> findAllById(Iterable<String> ids) {
+        return StreamSupport
+                .stream(ids.spliterator(), false)
+                .map(documents::get)
+                .filter(document -> document != null)
+                .toList();
+    }
+
+    @Override
+    public long count() {
+        return documents.size();
+    }
+
+    @Override
+    public void deleteById(String id) {
+        documents.remove(id);
+    }
+
+    @Override
+    public void delete(T entity) {
+        deleteById(idGetter.apply(entity));
+    }
+
+    @Override
+    public void deleteAllById(Iterable<? extends String> ids) {
+        ids.forEach(this::deleteById);
+    }
+
+    @Override
+    public void deleteAll(Iterable<? extends T> entities) {
+        entities.forEach(this::delete);
+    }
+
+    @Override
+    public void deleteAll() {
+        documents.clear();
+        insertionOrder.clear();
+    }
+
+    @Override
+    public List<T> findAll(Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public Page<T> findAll(Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> Optional<S> findOne(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> List<S> findAll(Example<S> example, Sort sort) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> Page<S> findAll(Example<S> example, Pageable pageable) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> long count(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T> boolean exists(Example<S> example) {
+        throw unsupported();
+    }
+
+    @Override
+    public <S extends T, R> R findBy(Example<S> example, Function<FluentQuery.FetchableFluentQuery<S>, R> queryFunction) {
+        throw unsupported();
+    }
+
+    private UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException("Not supported by the in-memory repository");
+    }
+
+}
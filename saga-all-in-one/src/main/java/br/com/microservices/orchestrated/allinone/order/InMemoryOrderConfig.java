@@ -0,0 +1,25 @@
+package br.com.microservices.orchestrated.allinone.order;
+
+import br.com.microservices.orchestrated.allinone.config.AllInOneProperties;
+import br.com.microservices.orchestrated.allinone.controller.EventBusController;
+import br.com.microservices.orchestrated.orderservice.core.repository.EventRepository;
+import br.com.microservices.orchestrated.orderservice.core.repository.OrderRepository;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+
+@Configuration(proxyBeanMethods = false)
+@Import(EventBusController.class)
+public class InMemoryOrderConfig {
+
+    @Bean
+    public OrderRepository orderRepository(AllInOneProperties properties) {
+        return new InMemoryOrderRepository(properties.getStore().getCapacity());
+    }
+
+    @Bean
+    public EventRepository eventRepository(AllInOneProperties properties) {
+        return new InMemoryEventRepository(properties.getStore().getCapacity());
+    }
+
+}
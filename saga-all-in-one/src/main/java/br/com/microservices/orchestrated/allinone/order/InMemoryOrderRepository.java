@@ -0,0 +1,12 @@
+package br.com.microservices.orchestrated.allinone.order;
+
+import br.com.microservices.orchestrated.orderservice.core.document.Order;
+import br.com.microservices.orchestrated.orderservice.core.repository.OrderRepository;
+
+public class InMemoryOrderRepository extends InMemoryMongoRepository<Order> implements OrderRepository {
+
+    public InMemoryOrderRepository(int capacity) {
+        super(Order::getId, Order::setId, capacity);
+    }
+
+}
@@ -0,0 +1,4 @@
+INSERT INTO public.inventory (id, product_code, available) values (1, 'COMIC_BOOKS', 1000000000);
+INSERT INTO public.inventory (id, product_code, available) values (2, 'BOOKS', 1000000000);
+INSERT INTO public.inventory (id, product_code, available) values (3, 'MOVIES', 1000000000);
+INSERT INTO public.inventory (id, product_code, available) values (4, 'MUSIC', 1000000000);
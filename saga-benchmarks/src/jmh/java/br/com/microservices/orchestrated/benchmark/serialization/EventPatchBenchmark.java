@@ -0,0 +1,102 @@
+package br.com.microservices.orchestrated.benchmark.serialization;
+
+import br.com.microservices.orchestrated.benchmark.EventFixtures;
+import br.com.microservices.orchestrated.benchmark.ObjectMappers;
+import br.com.microservices.orchestrated.benchmark.dto.Event;
+import br.com.microservices.orchestrated.benchmark.dto.History;
+import br.com.microservices.orchestrated.benchmark.enums.ESagaStatus;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaEventPatcher;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the worker status update done as a full read/modify/write of the event against the
+ * token-level rewrite used when {@code saga.runtime.serde.patch} is enabled.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventPatchBenchmark {
+
+    private static final String SOURCE = "PAYMENT_SERVICE";
+
+    @Param({"1", "50", "1000"})
+    private int products;
+
+    @Param({"1", "6", "12"})
+    private int history;
+
+    private String json;
+
+    private ObjectReader reader;
+    private ObjectReader historyFreeReader;
+    private ObjectWriter writer;
+    private SagaEventPatcher patcher;
+
+    @Setup
+    public void setup() throws Exception {
+        var mapper = ObjectMappers.springDefault();
+        reader = mapper.readerFor(Event.class);
+        writer = mapper.writerFor(Event.class);
+        patcher = new SagaEventPatcher(mapper);
+
+        var historyFree = mapper.copy();
+        historyFree.configOverride(Event.class).setIgnorals(JsonIgnoreProperties.Value.forIgnoredProperties("eventHistory"));
+        historyFreeReader = historyFree.readerFor(Event.class);
+
+        json = mapper.writeValueAsString(EventFixtures.event(products, history));
+    }
+
+    @Benchmark
+    public String fullRoundTrip() throws Exception {
+        Event event = reader.readValue(json);
+        event.setSource(SOURCE);
+        event.setStatus(ESagaStatus.SUCCESS);
+        event.addHistory(history());
+        return writer.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String patchRoundTrip() throws Exception {
+        Event event = historyFreeReader.readValue(json);
+        return patcher.apply(json, SagaEventPatcher
+                .patch()
+                .set("source", SOURCE)
+                .set("status", ESagaStatus.SUCCESS)
+                .append("eventHistory", List.of(history()))
+                .in("payload", payload -> payload.setIfPresent("totalAmount", event.getPayload().getTotalAmount())));
+    }
+
+    @Benchmark
+    public String patchOnly() {
+        return patcher.apply(json, SagaEventPatcher
+                .patch()
+                .set("source", SOURCE)
+                .set("status", ESagaStatus.SUCCESS)
+                .append("eventHistory", List.of(history())));
+    }
+
+    private History history() {
+        return History
+                .builder()
+                .source(SOURCE)
+                .status(ESagaStatus.SUCCESS)
+                .message("Payment realized successfully")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
+}
@@ -0,0 +1,105 @@
+package br.com.microservices.orchestrated.benchmark.serialization;
+
+import br.com.microservices.orchestrated.benchmark.EventFixtures;
+import br.com.microservices.orchestrated.benchmark.ObjectMappers;
+import br.com.microservices.orchestrated.benchmark.dto.Event;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EventSerializationBenchmark {
+
+    @Param({"1", "50", "1000"})
+    private int products;
+
+    @Param({"1", "6", "12"})
+    private int history;
+
+    private Event event;
+    private String json;
+    private byte[] jsonBytes;
+
+    private ObjectMapper springDefault;
+    private ObjectReader reader;
+    private ObjectWriter writer;
+    private ObjectMapper afterburner;
+    private ObjectMapper blackbird;
+
+    @Setup
+    public void setup() throws Exception {
+        springDefault = ObjectMappers.springDefault();
+        reader = springDefault.readerFor(Event.class);
+        writer = springDefault.writerFor(Event.class);
+        afterburner = ObjectMappers.afterburner();
+        blackbird = ObjectMappers.blackbird();
+
+        event = EventFixtures.event(products, history);
+        json = springDefault.writeValueAsString(event);
+        jsonBytes = json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String toJsonDefault() throws Exception {
+        return springDefault.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String toJsonWriter() throws Exception {
+        return writer.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public byte[] toJsonWriterBytes() throws Exception {
+        return writer.writeValueAsBytes(event);
+    }
+
+    @Benchmark
+    public String toJsonAfterburner() throws Exception {
+        return afterburner.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public String toJsonBlackbird() throws Exception {
+        return blackbird.writeValueAsString(event);
+    }
+
+    @Benchmark
+    public Event toEventDefault() throws Exception {
+        return springDefault.readValue(json, Event.class);
+    }
+
+    @Benchmark
+    public Event toEventReader() throws Exception {
+        return reader.readValue(json);
+    }
+
+    @Benchmark
+    public Event toEventReaderBytes() throws Exception {
+        return reader.readValue(jsonBytes);
+    }
+
+    @Benchmark
+    public Event toEventAfterburner() throws Exception {
+        return afterburner.readValue(json, Event.class);
+    }
+
+    @Benchmark
+    public Event toEventBlackbird() throws Exception {
+        return blackbird.readValue(json, Event.class);
+    }
+
+}
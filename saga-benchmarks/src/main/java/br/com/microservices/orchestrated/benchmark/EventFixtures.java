@@ -0,0 +1,61 @@
+package br.com.microservices.orchestrated.benchmark;
+
+import br.com.microservices.orchestrated.benchmark.dto.Event;
+import br.com.microservices.orchestrated.benchmark.dto.History;
+import br.com.microservices.orchestrated.benchmark.dto.Order;
+import br.com.microservices.orchestrated.benchmark.dto.OrderProducts;
+import br.com.microservices.orchestrated.benchmark.dto.Product;
+import br.com.microservices.orchestrated.benchmark.enums.ESagaStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+public final class EventFixtures {
+
+    private static final String[] SOURCES = {
+            "ORCHESTRATOR", "PRODUCT_VALIDATION_SERVICE", "PAYMENT_SERVICE", "INVENTORY_SERVICE"
+    };
+
+    private EventFixtures() {}
+
+    public static Event event(int productCount, int historySize) {
+        var now = LocalDateTime.now();
+        var order = Order
+                .builder()
+                .id("64429e987a8b646915b3735f")
+                .transactionId("1682087576536_99d2ca6c-f074-41a6-92e0-21700148b519")
+                .products(IntStream
+                        .range(0, productCount)
+                        .mapToObj(i -> new OrderProducts(new Product("PRODUCT_" + i, 9.9 + i), 1 + i % 5))
+                        .toList())
+                .createdAt(now)
+                .totalAmount(56.4)
+                .totalItems(productCount)
+                .build();
+
+        var event = Event
+                .builder()
+                .id("64429e9a7a8b646915b37360")
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .payload(order)
+                .source("PAYMENT_SERVICE")
+                .status(ESagaStatus.SUCCESS)
+                .eventHistory(new ArrayList<>())
+                .createdAt(now)
+                .build();
+
+        for (int i = 0; i < historySize; i++) {
+            event.addHistory(History
+                    .builder()
+                    .source(SOURCES[i % SOURCES.length])
+                    .status(ESagaStatus.SUCCESS)
+                    .message("Step " + i + " executed successfully")
+                    .createdAt(now.plusNanos(i * 1_000_000L))
+                    .build());
+        }
+        return event;
+    }
+
+}
@@ -0,0 +1,35 @@
+package br.com.microservices.orchestrated.benchmark;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.module.afterburner.AfterburnerModule;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+public final class ObjectMappers {
+
+    private ObjectMappers() {}
+
+    public static ObjectMapper springDefault() {
+        return builder().build();
+    }
+
+    public static ObjectMapper afterburner() {
+        return builder().addModule(new AfterburnerModule()).build();
+    }
+
+    public static ObjectMapper blackbird() {
+        return builder().addModule(new BlackbirdModule()).build();
+    }
+
+    private static JsonMapper.Builder builder() {
+        return JsonMapper
+                .builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+}
@@ -0,0 +1,38 @@
+package br.com.microservices.orchestrated.benchmark.dto;
+
+import br.com.microservices.orchestrated.benchmark.enums.ESagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Event {
+
+    private String id;
+    private String transactionId;
+    private String orderId;
+    private Order payload;
+    private String source;
+    private ESagaStatus status;
+    private List<History> eventHistory;
+    private LocalDateTime createdAt;
+
+    public void addHistory(History history) {
+        if (eventHistory == null) {
+            eventHistory = new ArrayList<>();
+        }
+        if (history == null) {
+            eventHistory = new ArrayList<>();
+        }
+        eventHistory.add(history);
+    }
+
+}
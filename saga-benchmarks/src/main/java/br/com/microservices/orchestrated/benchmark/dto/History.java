@@ -0,0 +1,22 @@
+package br.com.microservices.orchestrated.benchmark.dto;
+
+import br.com.microservices.orchestrated.benchmark.enums.ESagaStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class History {
+
+    private String source;
+    private ESagaStatus status;
+    private String message;
+    private LocalDateTime createdAt;
+
+}
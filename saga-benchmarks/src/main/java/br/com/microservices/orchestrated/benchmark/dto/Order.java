@@ -0,0 +1,24 @@
+package br.com.microservices.orchestrated.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Order {
+
+    private String id;
+    private List<OrderProducts> products;
+    private LocalDateTime createdAt;
+    private String transactionId;
+    private double totalAmount;
+    private int totalItems;
+
+}
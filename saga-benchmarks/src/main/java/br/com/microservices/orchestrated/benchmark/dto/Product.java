@@ -0,0 +1,15 @@
+package br.com.microservices.orchestrated.benchmark.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class Product {
+
+    private String code;
+    private double unitValue;
+
+}
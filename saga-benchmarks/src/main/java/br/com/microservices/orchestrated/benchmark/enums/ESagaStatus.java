@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.benchmark.enums;
+
+public enum ESagaStatus {
+    SUCCESS,
+    ROLLBACK_PENDING,
+    FAIL
+}
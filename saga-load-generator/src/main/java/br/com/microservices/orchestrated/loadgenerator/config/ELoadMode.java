@@ -0,0 +1,6 @@
+package br.com.microservices.orchestrated.loadgenerator.config;
+
+public enum ELoadMode {
+    HTTP,
+    KAFKA
+}
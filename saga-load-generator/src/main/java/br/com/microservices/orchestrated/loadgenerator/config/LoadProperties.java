@@ -0,0 +1,26 @@
+package br.com.microservices.orchestrated.loadgenerator.config;
+
+import br.com.microservices.orchestrated.loadgenerator.core.scenario.EScenario;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "load")
+public class LoadProperties {
+
+    private ELoadMode mode;
+    private String orderServiceUrl;
+    private int ratePerSecond;
+    private int durationSeconds;
+    private int warmupSeconds;
+    private int completionTimeoutSeconds;
+    private String reportDir;
+    private boolean embeddedKafka;
+    private Map<EScenario, Integer> scenarios = new EnumMap<>(EScenario.class);
+
+}
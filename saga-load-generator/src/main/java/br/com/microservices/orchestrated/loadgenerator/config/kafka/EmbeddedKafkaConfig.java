@@ -0,0 +1,33 @@
+package br.com.microservices.orchestrated.loadgenerator.config.kafka;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+
+@Configuration
+@ConditionalOnProperty(value = "load.embedded-kafka", havingValue = "true")
+public class EmbeddedKafkaConfig {
+
+    private static final int BROKER_COUNT = 1;
+    private static final int PARTITION_COUNT = 1;
+    private static final int BROKER_PORT = 9092;
+
+    @Value("${spring.kafka.topic.start-saga}")
+    private String startSagaTopic;
+
+    @Value("${spring.kafka.topic.notify-ending}")
+    private String notifyEndingTopic;
+
+    @Bean
+    public EmbeddedKafkaBroker embeddedKafkaBroker() {
+        // A single broker can only host the transaction log with replication 1, which the
+        // exactly-once streams engine of the orchestrator needs.
+        return new EmbeddedKafkaBroker(BROKER_COUNT, false, PARTITION_COUNT, startSagaTopic, notifyEndingTopic)
+                .kafkaPorts(BROKER_PORT)
+                .brokerProperty("transaction.state.log.replication.factor", "1")
+                .brokerProperty("transaction.state.log.min.isr", "1");
+    }
+
+}
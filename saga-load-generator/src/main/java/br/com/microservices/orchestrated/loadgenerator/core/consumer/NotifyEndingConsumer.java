@@ -0,0 +1,31 @@
+package br.com.microservices.orchestrated.loadgenerator.core.consumer;
+
+import br.com.microservices.orchestrated.loadgenerator.core.report.LatencyTracker;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class NotifyEndingConsumer {
+
+    private final ObjectMapper objectMapper;
+    private final LatencyTracker tracker;
+
+    @KafkaListener(
+            groupId = "${spring.kafka.consumer.group-id}",
+            topics = "${spring.kafka.topic.notify-ending}"
+    )
+    public void consumeNotifyEndingEvent(String playload) {
+        try {
+            var event = objectMapper.readTree(playload);
+            tracker.complete(event.path("transactionId").asText(), event.path("status").asText());
+        } catch (Exception e) {
+            log.error("Error reading notify ending event", e);
+        }
+    }
+
+}
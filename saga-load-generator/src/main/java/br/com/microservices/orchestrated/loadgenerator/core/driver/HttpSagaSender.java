@@ -0,0 +1,72 @@
+package br.com.microservices.orchestrated.loadgenerator.core.driver;
+
+import br.com.microservices.orchestrated.loadgenerator.config.LoadProperties;
+import br.com.microservices.orchestrated.loadgenerator.core.dto.OrderRequest;
+import br.com.microservices.orchestrated.loadgenerator.core.report.LatencyTracker;
+import br.com.microservices.orchestrated.loadgenerator.core.scenario.EScenario;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "load.mode", havingValue = "http", matchIfMissing = true)
+public class HttpSagaSender implements SagaSender {
+
+    private static final String ORDER_PATH = "/api/order";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ObjectMapper objectMapper;
+    private final LatencyTracker tracker;
+    private final HttpClient client;
+    private final URI orderUri;
+
+    public HttpSagaSender(ObjectMapper objectMapper, LatencyTracker tracker, LoadProperties properties) {
+        this.objectMapper = objectMapper;
+        this.tracker = tracker;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        this.orderUri = URI.create(properties.getOrderServiceUrl().concat(ORDER_PATH));
+    }
+
+    @Override
+    public void send(EScenario scenario, long intendedStartNanos, boolean measured) {
+        try {
+            var request = HttpRequest
+                    .newBuilder(orderUri)
+                    .timeout(REQUEST_TIMEOUT)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(new OrderRequest(scenario.buildProducts()))))
+                    .build();
+            client
+                    .sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                    .whenComplete((response, error) -> handleResponse(scenario, intendedStartNanos, measured, response, error));
+        } catch (Exception e) {
+            log.error("Error sending order request", e);
+            tracker.sendFailed();
+        }
+    }
+
+    private void handleResponse(EScenario scenario, long intendedStartNanos, boolean measured,
+                                HttpResponse<byte[]> response, Throwable error) {
+        try {
+            if (error != null || response.statusCode() != 200) {
+                tracker.sendFailed();
+                return;
+            }
+            var transactionId = objectMapper.readTree(response.body()).path("transactionId").asText();
+            tracker.accepted(transactionId, scenario, intendedStartNanos, measured);
+        } catch (Exception e) {
+            log.error("Error reading order response", e);
+            tracker.sendFailed();
+        }
+    }
+
+}
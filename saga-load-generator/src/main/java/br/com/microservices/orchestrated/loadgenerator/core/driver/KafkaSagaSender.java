@@ -0,0 +1,74 @@
+package br.com.microservices.orchestrated.loadgenerator.core.driver;
+
+import br.com.microservices.orchestrated.loadgenerator.core.dto.Event;
+import br.com.microservices.orchestrated.loadgenerator.core.dto.Order;
+import br.com.microservices.orchestrated.loadgenerator.core.report.LatencyTracker;
+import br.com.microservices.orchestrated.loadgenerator.core.scenario.EScenario;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(value = "load.mode", havingValue = "kafka")
+public class KafkaSagaSender implements SagaSender {
+
+    private static final int ORDER_ID_BYTES = 12;
+
+    private final ObjectMapper objectMapper;
+    private final LatencyTracker tracker;
+    private final KafkaTemplate<String, String> kafkaTemplate;
+
+    @Value("${spring.kafka.topic.start-saga}")
+    private String startSagaTopic;
+
+    @Override
+    public void send(EScenario scenario, long intendedStartNanos, boolean measured) {
+        try {
+            var event = buildEvent(scenario);
+            tracker.accepted(event.getTransactionId(), scenario, intendedStartNanos, measured);
+            kafkaTemplate
+                    .send(startSagaTopic, event.getTransactionId(), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, error) -> {
+                        if (error != null) {
+                            tracker.sendFailed();
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Error sending start saga event", e);
+            tracker.sendFailed();
+        }
+    }
+
+    private Event buildEvent(EScenario scenario) {
+        var orderIdBytes = new byte[ORDER_ID_BYTES];
+        ThreadLocalRandom.current().nextBytes(orderIdBytes);
+        var now = LocalDateTime.now();
+        var order = Order
+                .builder()
+                .id(HexFormat.of().formatHex(orderIdBytes))
+                .transactionId(UUID.randomUUID().toString())
+                .products(scenario.buildProducts())
+                .createdAt(now)
+                .build();
+
+        return Event
+                .builder()
+                .orderId(order.getId())
+                .transactionId(order.getTransactionId())
+                .payload(order)
+                .createdAt(now)
+                .build();
+    }
+
+}
@@ -0,0 +1,46 @@
+package br.com.microservices.orchestrated.loadgenerator.core.driver;
+
+import br.com.microservices.orchestrated.loadgenerator.config.LoadProperties;
+import br.com.microservices.orchestrated.loadgenerator.core.scenario.ScenarioPicker;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class LoadDriver {
+
+    private final SagaSender sender;
+    private final ScenarioPicker picker;
+    private final LoadProperties properties;
+
+    public void run() {
+        var intervalNanos = TimeUnit.SECONDS.toNanos(1) / properties.getRatePerSecond();
+        var start = System.nanoTime();
+        var measureFrom = start + TimeUnit.SECONDS.toNanos(properties.getWarmupSeconds());
+        var end = measureFrom + TimeUnit.SECONDS.toNanos(properties.getDurationSeconds());
+
+        log.info("Starting open-loop load at {} sagas/s for {}s after {}s of warmup",
+                properties.getRatePerSecond(), properties.getDurationSeconds(), properties.getWarmupSeconds());
+        for (long i = 0; ; i++) {
+            var intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            parkUntil(intendedStart);
+            sender.send(picker.next(), intendedStart, intendedStart >= measureFrom);
+        }
+    }
+
+    private void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+
+}
@@ -0,0 +1,41 @@
+package br.com.microservices.orchestrated.loadgenerator.core.driver;
+
+import br.com.microservices.orchestrated.loadgenerator.config.LoadProperties;
+import br.com.microservices.orchestrated.loadgenerator.core.report.LatencyTracker;
+import br.com.microservices.orchestrated.loadgenerator.core.report.ReportWriter;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class LoadRunner implements CommandLineRunner {
+
+    private static final long DRAIN_POLL_MILLIS = 100;
+
+    private final LoadDriver driver;
+    private final LatencyTracker tracker;
+    private final ReportWriter reportWriter;
+    private final LoadProperties properties;
+
+    @Override
+    public void run(String... args) throws Exception {
+        driver.run();
+        awaitCompletions();
+        tracker.expirePending();
+        reportWriter.write();
+    }
+
+    private void awaitCompletions() throws InterruptedException {
+        var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(properties.getCompletionTimeoutSeconds());
+        while (!tracker.getPending().isEmpty() && System.nanoTime() < deadline) {
+            Thread.sleep(DRAIN_POLL_MILLIS);
+        }
+        log.info("{} sagas still pending after the completion timeout", tracker.getPending().size());
+    }
+
+}
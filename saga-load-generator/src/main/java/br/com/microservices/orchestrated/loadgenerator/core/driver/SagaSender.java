@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.loadgenerator.core.driver;
+
+import br.com.microservices.orchestrated.loadgenerator.core.scenario.EScenario;
+
+public interface SagaSender {
+
+    void send(EScenario scenario, long intendedStartNanos, boolean measured);
+
+}
@@ -0,0 +1,24 @@
+package br.com.microservices.orchestrated.loadgenerator.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Event {
+
+    private String id;
+    private String transactionId;
+    private String orderId;
+    private Order payload;
+    private String source;
+    private String status;
+    private LocalDateTime createdAt;
+
+}
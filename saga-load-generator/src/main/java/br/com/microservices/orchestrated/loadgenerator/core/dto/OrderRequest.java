@@ -0,0 +1,16 @@
+package br.com.microservices.orchestrated.loadgenerator.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderRequest {
+
+    private List<OrderProducts> products;
+
+}
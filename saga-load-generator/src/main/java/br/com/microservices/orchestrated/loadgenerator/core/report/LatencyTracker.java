@@ -0,0 +1,99 @@
+package br.com.microservices.orchestrated.loadgenerator.core.report;
+
+import br.com.microservices.orchestrated.loadgenerator.core.scenario.EScenario;
+import lombok.Getter;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+@Getter
+@Component
+public class LatencyTracker {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.HOURS.toMicros(1);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final int MAX_EARLY_COMPLETIONS = 100_000;
+
+    private final Map<String, PendingSaga> pending = new ConcurrentHashMap<>();
+    private final Map<String, CompletedSaga> earlyCompletions = new ConcurrentHashMap<>();
+    private final Map<EScenario, Histogram> scenarioLatency = new EnumMap<>(EScenario.class);
+    private final Map<String, LongAdder> finalStatus = new ConcurrentHashMap<>();
+    private final Histogram totalLatency = newHistogram();
+    private final Histogram acceptLatency = newHistogram();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder sendFailures = new LongAdder();
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+
+    public LatencyTracker() {
+        for (var scenario : EScenario.values()) {
+            scenarioLatency.put(scenario, newHistogram());
+        }
+    }
+
+    public void accepted(String transactionId, EScenario scenario, long intendedStartNanos, boolean measured) {
+        sent.increment();
+        if (measured) {
+            acceptLatency.recordValue(micros(System.nanoTime() - intendedStartNanos));
+        }
+        var saga = new PendingSaga(scenario, intendedStartNanos, measured);
+        var early = earlyCompletions.remove(transactionId);
+        if (early != null) {
+            record(saga, early);
+        } else {
+            pending.put(transactionId, saga);
+        }
+    }
+
+    public void sendFailed() {
+        sendFailures.increment();
+    }
+
+    public void complete(String transactionId, String status) {
+        var completion = new CompletedSaga(status, System.nanoTime());
+        var saga = pending.remove(transactionId);
+        if (saga != null) {
+            record(saga, completion);
+        } else if (earlyCompletions.size() < MAX_EARLY_COMPLETIONS) {
+            earlyCompletions.put(transactionId, completion);
+        }
+    }
+
+    public void expirePending() {
+        pending.values().stream().filter(PendingSaga::measured).forEach(saga -> timedOut.increment());
+        pending.clear();
+        earlyCompletions.clear();
+    }
+
+    private void record(PendingSaga saga, CompletedSaga completion) {
+        if (!saga.measured()) {
+            return;
+        }
+        var latency = micros(completion.completedAtNanos() - saga.intendedStartNanos());
+        totalLatency.recordValue(latency);
+        scenarioLatency.get(saga.scenario()).recordValue(latency);
+        finalStatus.computeIfAbsent(String.valueOf(completion.status()), status -> new LongAdder()).increment();
+        completed.increment();
+    }
+
+    private static long micros(long nanos) {
+        return Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 1), HIGHEST_TRACKABLE_MICROS);
+    }
+
+    private static Histogram newHistogram() {
+        return new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+    }
+
+    private record PendingSaga(EScenario scenario, long intendedStartNanos, boolean measured) {
+    }
+
+    private record CompletedSaga(String status, long completedAtNanos) {
+    }
+
+}
@@ -0,0 +1,81 @@
+package br.com.microservices.orchestrated.loadgenerator.core.report;
+
+import br.com.microservices.orchestrated.loadgenerator.config.LoadProperties;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class ReportWriter {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+    private static final String ROW_FORMAT = "%-16s %10s %10s %10s %10s %10s %10s%n";
+
+    private final LoadProperties properties;
+    private final LatencyTracker tracker;
+
+    public void write() throws IOException {
+        var dir = Path.of(properties.getReportDir());
+        Files.createDirectories(dir);
+
+        var summary = buildSummary();
+        Files.writeString(dir.resolve("summary.txt"), summary);
+        writeDistribution(dir.resolve("total.hgrm"), tracker.getTotalLatency());
+        writeDistribution(dir.resolve("accept.hgrm"), tracker.getAcceptLatency());
+        tracker.getScenarioLatency().forEach((scenario, histogram) ->
+                writeDistribution(dir.resolve(scenario.name().toLowerCase() + ".hgrm"), histogram));
+
+        log.info("Load report written to {}\n{}", dir.toAbsolutePath(), summary);
+    }
+
+    private String buildSummary() {
+        var report = new StringBuilder();
+        var completed = tracker.getCompleted().sum();
+        report.append(String.format(Locale.ROOT, "mode=%s rate=%d/s warmup=%ds duration=%ds%n",
+                properties.getMode(), properties.getRatePerSecond(), properties.getWarmupSeconds(), properties.getDurationSeconds()));
+        report.append(String.format(Locale.ROOT, "sent=%d sendFailures=%d completed=%d timedOut=%d%n",
+                tracker.getSent().sum(), tracker.getSendFailures().sum(), completed, tracker.getTimedOut().sum()));
+        report.append(String.format(Locale.ROOT, "throughput=%.1f sagas/s%n", (double) completed / properties.getDurationSeconds()));
+        tracker.getFinalStatus().forEach((status, count) ->
+                report.append(String.format(Locale.ROOT, "status %s=%d%n", status, count.sum())));
+        report.append(System.lineSeparator());
+        report.append(String.format(Locale.ROOT, ROW_FORMAT, "latency (ms)", "count", "p50", "p90", "p99", "p99.9", "max"));
+        report.append(row("accept", tracker.getAcceptLatency()));
+        report.append(row("end-to-end", tracker.getTotalLatency()));
+        tracker.getScenarioLatency().forEach((scenario, histogram) -> report.append(row(scenario.name(), histogram)));
+        return report.toString();
+    }
+
+    private String row(String name, Histogram histogram) {
+        return String.format(Locale.ROOT, ROW_FORMAT,
+                name,
+                histogram.getTotalCount(),
+                millis(histogram.getValueAtPercentile(50)),
+                millis(histogram.getValueAtPercentile(90)),
+                millis(histogram.getValueAtPercentile(99)),
+                millis(histogram.getValueAtPercentile(99.9)),
+                millis(histogram.getMaxValue()));
+    }
+
+    private String millis(long micros) {
+        return String.format(Locale.ROOT, "%.2f", micros / MICROS_PER_MILLI);
+    }
+
+    private void writeDistribution(Path file, Histogram histogram) {
+        try (var out = new PrintStream(Files.newOutputStream(file))) {
+            histogram.outputPercentileDistribution(out, MICROS_PER_MILLI);
+        } catch (IOException e) {
+            log.error("Error writing histogram {}", file, e);
+        }
+    }
+
+}
@@ -0,0 +1,35 @@
+package br.com.microservices.orchestrated.loadgenerator.core.scenario;
+
+import br.com.microservices.orchestrated.loadgenerator.core.dto.OrderProducts;
+import br.com.microservices.orchestrated.loadgenerator.core.dto.Product;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public enum EScenario {
+
+    SUCCESS,
+    UNKNOWN_PRODUCT,
+    OUT_OF_STOCK,
+    HOT_SKU;
+
+    private static final String[] KNOWN_PRODUCTS = { "COMIC_BOOKS", "BOOKS", "MOVIES", "MUSIC" };
+    private static final String UNKNOWN_PRODUCT_CODE = "UNKNOWN_PRODUCT";
+    private static final String HOT_PRODUCT_CODE = "COMIC_BOOKS";
+    private static final int OUT_OF_STOCK_QUANTITY = 1_000_000;
+    private static final double UNIT_VALUE = 10.0;
+
+    public List<OrderProducts> buildProducts() {
+        return switch (this) {
+            case SUCCESS -> List.of(item(KNOWN_PRODUCTS[ThreadLocalRandom.current().nextInt(KNOWN_PRODUCTS.length)], 1));
+            case UNKNOWN_PRODUCT -> List.of(item(UNKNOWN_PRODUCT_CODE, 1));
+            case OUT_OF_STOCK -> List.of(item(KNOWN_PRODUCTS[0], OUT_OF_STOCK_QUANTITY));
+            case HOT_SKU -> List.of(item(HOT_PRODUCT_CODE, 1));
+        };
+    }
+
+    private static OrderProducts item(String code, int quantity) {
+        return new OrderProducts(new Product(code, UNIT_VALUE), quantity);
+    }
+
+}
@@ -0,0 +1,40 @@
+package br.com.microservices.orchestrated.loadgenerator.core.scenario;
+
+import br.com.microservices.orchestrated.loadgenerator.config.LoadProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+@Component
+public class ScenarioPicker {
+
+    private final EScenario[] scenarios;
+    private final int[] cumulativeWeights;
+    private final int totalWeight;
+
+    public ScenarioPicker(LoadProperties properties) {
+        var weights = properties.getScenarios();
+        scenarios = weights.keySet().stream().filter(scenario -> weights.get(scenario) > 0).toArray(EScenario[]::new);
+        if (scenarios.length == 0) {
+            throw new IllegalStateException("At least one scenario must have a positive weight");
+        }
+        cumulativeWeights = new int[scenarios.length];
+        var total = 0;
+        for (int i = 0; i < scenarios.length; i++) {
+            total += weights.get(scenarios[i]);
+            cumulativeWeights[i] = total;
+        }
+        totalWeight = total;
+    }
+
+    public EScenario next() {
+        var value = ThreadLocalRandom.current().nextInt(totalWeight);
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (value < cumulativeWeights[i]) {
+                return scenarios[i];
+            }
+        }
+        return scenarios[scenarios.length - 1];
+    }
+
+}
@@ -0,0 +1,13 @@
+package br.com.microservices.orchestrated.reconciler;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReconcilerApplication {
+
+	public static void main(String[] args) {
+		System.exit(SpringApplication.exit(SpringApplication.run(ReconcilerApplication.class, args)));
+	}
+
+}
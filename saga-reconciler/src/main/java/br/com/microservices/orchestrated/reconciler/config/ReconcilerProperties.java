@@ -0,0 +1,31 @@
+package br.com.microservices.orchestrated.reconciler.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Data
+@Component
+@ConfigurationProperties(prefix = "reconciler")
+public class ReconcilerProperties {
+
+    private int chunks;
+    private int parallelism;
+    private int fetchSize;
+    private int graceSeconds;
+    private String reportDir;
+    private boolean repairEnabled;
+    private Store validation = new Store();
+    private Store payment = new Store();
+    private Store inventory = new Store();
+
+    @Data
+    public static class Store {
+
+        private String url;
+        private String username;
+        private String password;
+
+    }
+
+}
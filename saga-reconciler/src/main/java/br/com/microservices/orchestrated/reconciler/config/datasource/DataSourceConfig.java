@@ -0,0 +1,66 @@
+package br.com.microservices.orchestrated.reconciler.config.datasource;
+
+import br.com.microservices.orchestrated.reconciler.config.ReconcilerProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+@RequiredArgsConstructor
+public class DataSourceConfig {
+
+    private final ReconcilerProperties properties;
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource validationDataSource() {
+        return dataSource("validation", properties.getValidation());
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource paymentDataSource() {
+        return dataSource("payment", properties.getPayment());
+    }
+
+    @Bean(destroyMethod = "close")
+    public HikariDataSource inventoryDataSource() {
+        return dataSource("inventory", properties.getInventory());
+    }
+
+    @Bean
+    public JdbcTemplate validationJdbcTemplate() {
+        return jdbcTemplate(validationDataSource());
+    }
+
+    @Bean
+    public JdbcTemplate paymentJdbcTemplate() {
+        return jdbcTemplate(paymentDataSource());
+    }
+
+    @Bean
+    public JdbcTemplate inventoryJdbcTemplate() {
+        return jdbcTemplate(inventoryDataSource());
+    }
+
+    // The PostgreSQL driver only streams a result set through a cursor (honouring the fetch size)
+    // inside a transaction, so the connections are read-only and never auto-commit.
+    private HikariDataSource dataSource(String name, ReconcilerProperties.Store store) {
+        var dataSource = new HikariDataSource();
+        dataSource.setPoolName(name);
+        dataSource.setJdbcUrl(store.getUrl());
+        dataSource.setUsername(store.getUsername());
+        dataSource.setPassword(store.getPassword());
+        dataSource.setMaximumPoolSize(properties.getParallelism());
+        dataSource.setAutoCommit(false);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    private JdbcTemplate jdbcTemplate(HikariDataSource dataSource) {
+        var jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setFetchSize(properties.getFetchSize());
+        return jdbcTemplate;
+    }
+
+}
@@ -0,0 +1,28 @@
+package br.com.microservices.orchestrated.reconciler.core.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Event {
+
+    private String id;
+    private String transactionId;
+    private String orderId;
+    private Order payload;
+    private String source;
+    private String status;
+    private String priority;
+    private LocalDateTime createdAt;
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private boolean repair;
+
+}
@@ -0,0 +1,22 @@
+package br.com.microservices.orchestrated.reconciler.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class InventoryRow {
+
+    private String orderId;
+    private String transactionId;
+    private String productCode;
+    private int orderQuantity;
+    private LocalDateTime createdAt;
+
+}
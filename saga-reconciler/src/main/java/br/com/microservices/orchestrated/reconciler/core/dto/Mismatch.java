@@ -0,0 +1,22 @@
+package br.com.microservices.orchestrated.reconciler.core.dto;
+
+import br.com.microservices.orchestrated.reconciler.core.enums.EMismatchType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class Mismatch {
+
+    private String orderId;
+    private String transactionId;
+    private String sagaStatus;
+    private EMismatchType type;
+    private String detail;
+    private String repairTopic;
+
+}
@@ -0,0 +1,15 @@
+package br.com.microservices.orchestrated.reconciler.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class OrderProducts {
+
+    private Product product;
+    private int quantity;
+
+}
@@ -0,0 +1,23 @@
+package br.com.microservices.orchestrated.reconciler.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaymentRow {
+
+    private String orderId;
+    private String transactionId;
+    private int totalItems;
+    private double totalAmount;
+    private String status;
+    private LocalDateTime createdAt;
+
+}
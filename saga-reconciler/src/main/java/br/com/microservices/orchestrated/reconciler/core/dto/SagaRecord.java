@@ -0,0 +1,24 @@
+package br.com.microservices.orchestrated.reconciler.core.dto;
+
+import br.com.microservices.orchestrated.reconciler.core.join.SagaKey;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class SagaRecord {
+
+    private SagaKey key;
+    private Order order;
+    private Event event;
+    private List<ValidationRow> validations;
+    private List<PaymentRow> payments;
+    private List<InventoryRow> inventories;
+
+}
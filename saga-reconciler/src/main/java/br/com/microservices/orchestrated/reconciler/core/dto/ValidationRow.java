@@ -0,0 +1,21 @@
+package br.com.microservices.orchestrated.reconciler.core.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class ValidationRow {
+
+    private String orderId;
+    private String transactionId;
+    private boolean success;
+    private LocalDateTime createdAt;
+
+}
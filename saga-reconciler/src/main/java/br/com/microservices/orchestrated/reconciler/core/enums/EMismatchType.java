@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.reconciler.core.enums;
+
+public enum EMismatchType {
+    ORPHAN_ROWS,
+    EVENT_MISSING,
+    SAGA_NOT_FINISHED,
+    VALIDATION_MISSING,
+    VALIDATION_NOT_SUCCESS,
+    VALIDATION_NOT_ROLLED_BACK,
+    VALIDATION_DUPLICATED,
+    PAYMENT_MISSING,
+    PAYMENT_NOT_SUCCESS,
+    PAYMENT_AMOUNT_MISMATCH,
+    PAYMENT_NOT_REFUNDED,
+    PAYMENT_DUPLICATED,
+    INVENTORY_MISSING,
+    INVENTORY_MISMATCH
+}
@@ -0,0 +1,7 @@
+package br.com.microservices.orchestrated.reconciler.core.join;
+
+/**
+ * Half-open range {@code [from, to)} of order ids; a null bound is unbounded.
+ */
+public record KeyRange(String from, String to) {
+}
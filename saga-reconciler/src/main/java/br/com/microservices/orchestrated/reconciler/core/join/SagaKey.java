@@ -0,0 +1,23 @@
+package br.com.microservices.orchestrated.reconciler.core.join;
+
+import java.util.Comparator;
+
+import static java.util.Comparator.naturalOrder;
+import static java.util.Comparator.nullsFirst;
+
+/**
+ * Join key of every store. Compares by code point, the order MongoDB uses for strings and object
+ * ids and PostgreSQL uses under {@code COLLATE "C"}.
+ */
+public record SagaKey(String orderId, String transactionId) implements Comparable<SagaKey> {
+
+    private static final Comparator<SagaKey> ORDER = Comparator
+            .comparing(SagaKey::orderId, nullsFirst(naturalOrder()))
+            .thenComparing(SagaKey::transactionId, nullsFirst(naturalOrder()));
+
+    @Override
+    public int compareTo(SagaKey other) {
+        return ORDER.compare(this, other);
+    }
+
+}
@@ -0,0 +1,56 @@
+package br.com.microservices.orchestrated.reconciler.core.join;
+
+import br.com.microservices.orchestrated.reconciler.core.dto.Event;
+import br.com.microservices.orchestrated.reconciler.core.dto.InventoryRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.Order;
+import br.com.microservices.orchestrated.reconciler.core.dto.PaymentRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.SagaRecord;
+import br.com.microservices.orchestrated.reconciler.core.dto.ValidationRow;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Full outer merge-join of the stores on {@code (orderId, transactionId)}. Every cursor is read
+ * once, in order, and only the rows of the current key are held in memory.
+ */
+@RequiredArgsConstructor
+public class SagaMergeJoin {
+
+    private final SortedCursor<Order> orders;
+    private final SortedCursor<Event> events;
+    private final SortedCursor<ValidationRow> validations;
+    private final SortedCursor<PaymentRow> payments;
+    private final SortedCursor<InventoryRow> inventories;
+
+    public void forEach(Consumer<SagaRecord> action) {
+        SagaKey key;
+        while ((key = nextKey()) != null) {
+            action.accept(SagaRecord
+                    .builder()
+                    .key(key)
+                    .order(first(orders.take(key)))
+                    .event(first(events.take(key)))
+                    .validations(validations.take(key))
+                    .payments(payments.take(key))
+                    .inventories(inventories.take(key))
+                    .build());
+        }
+    }
+
+    private SagaKey nextKey() {
+        return Stream
+                .of(orders.peekKey(), events.peekKey(), validations.peekKey(), payments.peekKey(), inventories.peekKey())
+                .filter(Objects::nonNull)
+                .min(SagaKey::compareTo)
+                .orElse(null);
+    }
+
+    private <T> T first(List<T> rows) {
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+}
@@ -0,0 +1,56 @@
+package br.com.microservices.orchestrated.reconciler.core.join;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Reads one store stream in key order, one key group at a time. A key lower than the previous one
+ * means the store sorted with a different collation and the join would silently miss rows, so it
+ * fails the chunk instead.
+ */
+public class SortedCursor<T> {
+
+    private final String store;
+    private final Iterator<T> iterator;
+    private final Function<T, SagaKey> keyOf;
+
+    private T head;
+    private SagaKey headKey;
+
+    public SortedCursor(String store, Iterator<T> iterator, Function<T, SagaKey> keyOf) {
+        this.store = store;
+        this.iterator = iterator;
+        this.keyOf = keyOf;
+        advance();
+    }
+
+    public SagaKey peekKey() {
+        return headKey;
+    }
+
+    public List<T> take(SagaKey key) {
+        var rows = new ArrayList<T>(1);
+        while (headKey != null && headKey.equals(key)) {
+            rows.add(head);
+            advance();
+        }
+        return rows;
+    }
+
+    private void advance() {
+        if (!iterator.hasNext()) {
+            head = null;
+            headKey = null;
+            return;
+        }
+        var previousKey = headKey;
+        head = iterator.next();
+        headKey = keyOf.apply(head);
+        if (previousKey != null && headKey.compareTo(previousKey) < 0) {
+            throw new IllegalStateException("Store " + store + " is not sorted by (orderId, transactionId): " + headKey + " after " + previousKey);
+        }
+    }
+
+}
@@ -0,0 +1,55 @@
+package br.com.microservices.orchestrated.reconciler.core.producer;
+
+import br.com.microservices.orchestrated.reconciler.core.dto.Event;
+import br.com.microservices.orchestrated.reconciler.core.dto.SagaRecord;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Re-sends the final event of a failed saga to the compensation topic of a step that kept its
+ * effect, marked as a repair. The service runs its usual rollback even though it already handled
+ * that step, and its reply keeps the mark, so the orchestrator drops it instead of routing it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RepairProducer {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final ObjectMapper objectMapper;
+
+    public void sendEvent(String topic, SagaRecord saga) {
+        try {
+            var event = Event
+                    .builder()
+                    .id(saga.getEvent().getId())
+                    .transactionId(saga.getKey().transactionId())
+                    .orderId(saga.getKey().orderId())
+                    .payload(saga.getOrder())
+                    .source(saga.getEvent().getSource())
+                    .status(saga.getEvent().getStatus())
+                    .priority(saga.getEvent().getPriority())
+                    .createdAt(saga.getEvent().getCreatedAt())
+                    .repair(true)
+                    .build();
+            log.info("Sending repair event to topic {} for saga {}", topic, saga.getKey().transactionId());
+            kafkaTemplate
+                    .send(topic, saga.getKey().transactionId(), objectMapper.writeValueAsString(event))
+                    .whenComplete((result, e) -> {
+                        if (e != null) {
+                            log.error("Error sending repair event to topic {} for saga {}", topic, saga.getKey().transactionId(), e);
+                        }
+                    });
+        } catch (Exception e) {
+            log.error("Error trying to send repair event to topic {} for saga {}", topic, saga.getKey().transactionId(), e);
+        }
+    }
+
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+}
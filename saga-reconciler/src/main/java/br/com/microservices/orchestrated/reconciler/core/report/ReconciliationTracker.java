@@ -0,0 +1,94 @@
+package br.com.microservices.orchestrated.reconciler.core.report;
+
+import br.com.microservices.orchestrated.reconciler.config.ReconcilerProperties;
+import br.com.microservices.orchestrated.reconciler.core.dto.Mismatch;
+import br.com.microservices.orchestrated.reconciler.core.enums.EMismatchType;
+import br.com.microservices.orchestrated.reconciler.core.join.KeyRange;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts what the chunks found and appends every mismatch to {@code mismatches.jsonl} as it is
+ * found, so memory does not grow with the number of mismatches.
+ */
+@Getter
+@Component
+@RequiredArgsConstructor
+public class ReconciliationTracker {
+
+    private static final String MISMATCHES_FILE = "mismatches.jsonl";
+
+    private final ReconcilerProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Map<EMismatchType, LongAdder> mismatches = new EnumMap<>(EMismatchType.class);
+    private final List<KeyRange> failedChunks = Collections.synchronizedList(new ArrayList<>());
+    private final LongAdder sagas = new LongAdder();
+    private final LongAdder inconsistentSagas = new LongAdder();
+    private final LongAdder repairs = new LongAdder();
+    private final LongAdder completedChunks = new LongAdder();
+
+    private BufferedWriter writer;
+
+    public void open() throws IOException {
+        for (var type : EMismatchType.values()) {
+            mismatches.put(type, new LongAdder());
+        }
+        var dir = Path.of(properties.getReportDir());
+        Files.createDirectories(dir);
+        writer = Files.newBufferedWriter(dir.resolve(MISMATCHES_FILE));
+    }
+
+    public void checked(List<Mismatch> found) {
+        sagas.increment();
+        if (found.isEmpty()) {
+            return;
+        }
+        inconsistentSagas.increment();
+        found.forEach(mismatch -> mismatches.get(mismatch.getType()).increment());
+        try {
+            var lines = new StringBuilder();
+            for (var mismatch : found) {
+                lines.append(objectMapper.writeValueAsString(mismatch)).append(System.lineSeparator());
+            }
+            synchronized (this) {
+                writer.write(lines.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void repaired() {
+        repairs.increment();
+    }
+
+    public void chunkCompleted() {
+        completedChunks.increment();
+    }
+
+    public void chunkFailed(KeyRange range) {
+        failedChunks.add(range);
+    }
+
+    public synchronized void close() throws IOException {
+        if (writer != null) {
+            writer.close();
+        }
+    }
+
+}
@@ -0,0 +1,54 @@
+package br.com.microservices.orchestrated.reconciler.core.report;
+
+import br.com.microservices.orchestrated.reconciler.config.ReconcilerProperties;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+
+@Slf4j
+@Component
+@AllArgsConstructor
+public class ReportWriter {
+
+    private final ReconcilerProperties properties;
+    private final ReconciliationTracker tracker;
+
+    public void write(LocalDateTime cutoff, int chunks, Duration elapsed) throws IOException {
+        var dir = Path.of(properties.getReportDir());
+        Files.createDirectories(dir);
+
+        var summary = buildSummary(cutoff, chunks, elapsed);
+        Files.writeString(dir.resolve("summary.txt"), summary);
+
+        log.info("Reconciliation report written to {}\n{}", dir.toAbsolutePath(), summary);
+    }
+
+    private String buildSummary(LocalDateTime cutoff, int chunks, Duration elapsed) {
+        var report = new StringBuilder();
+        var sagas = tracker.getSagas().sum();
+        var seconds = Math.max(elapsed.toMillis(), 1) / 1000.0;
+        report.append(String.format(Locale.ROOT, "createdBefore=%s chunks=%d parallelism=%d repair=%s%n",
+                cutoff, chunks, properties.getParallelism(), properties.isRepairEnabled()));
+        report.append(String.format(Locale.ROOT, "sagas=%d inconsistent=%d repairsSent=%d%n",
+                sagas, tracker.getInconsistentSagas().sum(), tracker.getRepairs().sum()));
+        report.append(String.format(Locale.ROOT, "elapsed=%.1fs throughput=%.1f sagas/s%n", seconds, sagas / seconds));
+        report.append(String.format(Locale.ROOT, "chunks completed=%d failed=%d%n",
+                tracker.getCompletedChunks().sum(), tracker.getFailedChunks().size()));
+        tracker.getFailedChunks().forEach(range ->
+                report.append(String.format(Locale.ROOT, "failed chunk [%s, %s)%n", range.from(), range.to())));
+        tracker.getMismatches().forEach((type, count) -> {
+            if (count.sum() > 0) {
+                report.append(String.format(Locale.ROOT, "mismatch %s=%d%n", type, count.sum()));
+            }
+        });
+        return report.toString();
+    }
+
+}
@@ -0,0 +1,81 @@
+package br.com.microservices.orchestrated.reconciler.core.repository;
+
+import br.com.microservices.orchestrated.reconciler.config.ReconcilerProperties;
+import br.com.microservices.orchestrated.reconciler.core.dto.Event;
+import br.com.microservices.orchestrated.reconciler.core.dto.Order;
+import br.com.microservices.orchestrated.reconciler.core.join.KeyRange;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.springframework.data.mongodb.core.query.Criteria.where;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderStoreRepository {
+
+    private static final String ORDER_COLLECTION = "order";
+    private static final String EVENT_COLLECTION = "event";
+    private static final String ID = "_id";
+    private static final String ORDER_ID = "orderId";
+    private static final String TRANSACTION_ID = "transactionId";
+
+    private final MongoTemplate mongoTemplate;
+    private final ReconcilerProperties properties;
+
+    public List<String> sampleOrderIds(int size) {
+        var aggregation = Aggregation.newAggregation(Aggregation.sample(size), Aggregation.project(ID));
+        return mongoTemplate
+                .aggregate(aggregation, ORDER_COLLECTION, Document.class)
+                .getMappedResults()
+                .stream()
+                .map(document -> String.valueOf(document.get(ID)))
+                .toList();
+    }
+
+    // Order ids are object ids, whose order matches the order of their hex strings; the query mapper
+    // converts the string bounds back to object ids.
+    public Stream<Order> streamOrders(KeyRange range, LocalDateTime createdBefore) {
+        var criteria = inRange(where("createdAt").lt(createdBefore), ID, range);
+        var query = Query
+                .query(criteria)
+                .with(Sort.by(ID, TRANSACTION_ID))
+                .cursorBatchSize(properties.getFetchSize());
+        return mongoTemplate.stream(query, Order.class, ORDER_COLLECTION);
+    }
+
+    public Stream<Event> streamEvents(KeyRange range, LocalDateTime createdBefore) {
+        var criteria = inRange(where("payload.createdAt").lt(createdBefore), ORDER_ID, range);
+        var query = Query
+                .query(criteria)
+                .with(Sort.by(ORDER_ID, TRANSACTION_ID))
+                .cursorBatchSize(properties.getFetchSize())
+                .allowDiskUse(true);
+        query.fields().exclude("eventHistory");
+        return mongoTemplate.stream(query, Event.class, EVENT_COLLECTION);
+    }
+
+    private Criteria inRange(Criteria criteria, String field, KeyRange range) {
+        if (range.from() == null && range.to() == null) {
+            return criteria;
+        }
+        var key = criteria.and(field);
+        if (range.from() != null) {
+            key.gte(range.from());
+        }
+        if (range.to() != null) {
+            key.lt(range.to());
+        }
+        return criteria;
+    }
+
+}
@@ -0,0 +1,86 @@
+package br.com.microservices.orchestrated.reconciler.core.repository;
+
+import br.com.microservices.orchestrated.reconciler.core.dto.InventoryRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.PaymentRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.ValidationRow;
+import br.com.microservices.orchestrated.reconciler.core.join.KeyRange;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.stream.Stream;
+
+/**
+ * Streams the rows of the product-validation, payment and inventory databases. Ranges and sorting
+ * use {@code COLLATE "C"} so PostgreSQL orders the ids the same way MongoDB and the join do,
+ * whatever the collation of the database.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ServiceStoreRepository {
+
+    private static final String VALIDATION_QUERY = "SELECT order_id, transaction_id, success, created_at FROM validation";
+    private static final String PAYMENT_QUERY = "SELECT order_id, transaction_id, total_itens, total_amount, status, created_at FROM payment";
+    private static final String INVENTORY_QUERY = "SELECT oi.order_id, oi.transaction_id, i.product_code, oi.order_quantity, oi.created_at "
+            + "FROM order_inventory oi JOIN inventory i ON i.id = oi.inventory_id";
+
+    private final JdbcTemplate validationJdbcTemplate;
+    private final JdbcTemplate paymentJdbcTemplate;
+    private final JdbcTemplate inventoryJdbcTemplate;
+
+    public Stream<ValidationRow> streamValidations(KeyRange range) {
+        return stream(validationJdbcTemplate, VALIDATION_QUERY, "order_id", "transaction_id", range, (resultSet, row) -> ValidationRow
+                .builder()
+                .orderId(resultSet.getString("order_id"))
+                .transactionId(resultSet.getString("transaction_id"))
+                .success(resultSet.getBoolean("success"))
+                .createdAt(resultSet.getTimestamp("created_at").toLocalDateTime())
+                .build());
+    }
+
+    public Stream<PaymentRow> streamPayments(KeyRange range) {
+        return stream(paymentJdbcTemplate, PAYMENT_QUERY, "order_id", "transaction_id", range, (resultSet, row) -> PaymentRow
+                .builder()
+                .orderId(resultSet.getString("order_id"))
+                .transactionId(resultSet.getString("transaction_id"))
+                .totalItems(resultSet.getInt("total_itens"))
+                .totalAmount(resultSet.getDouble("total_amount"))
+                .status(resultSet.getString("status"))
+                .createdAt(resultSet.getTimestamp("created_at").toLocalDateTime())
+                .build());
+    }
+
+    public Stream<InventoryRow> streamInventories(KeyRange range) {
+        return stream(inventoryJdbcTemplate, INVENTORY_QUERY, "oi.order_id", "oi.transaction_id", range, (resultSet, row) -> InventoryRow
+                .builder()
+                .orderId(resultSet.getString("order_id"))
+                .transactionId(resultSet.getString("transaction_id"))
+                .productCode(resultSet.getString("product_code"))
+                .orderQuantity(resultSet.getInt("order_quantity"))
+                .createdAt(resultSet.getTimestamp("created_at").toLocalDateTime())
+                .build());
+    }
+
+    private <T> Stream<T> stream(JdbcTemplate jdbcTemplate, String select, String orderIdColumn, String transactionIdColumn,
+                                 KeyRange range, RowMapper<T> rowMapper) {
+        var sql = new StringBuilder(select);
+        var args = new ArrayList<Object>();
+        var clause = " WHERE ";
+        if (range.from() != null) {
+            sql.append(clause).append(orderIdColumn).append(" COLLATE \"C\" >= ?");
+            args.add(range.from());
+            clause = " AND ";
+        }
+        if (range.to() != null) {
+            sql.append(clause).append(orderIdColumn).append(" COLLATE \"C\" < ?");
+            args.add(range.to());
+        }
+        sql.append(" ORDER BY ")
+                .append(orderIdColumn).append(" COLLATE \"C\", ")
+                .append(transactionIdColumn).append(" COLLATE \"C\"");
+        return jdbcTemplate.queryForStream(sql.toString(), rowMapper, args.toArray());
+    }
+
+}
@@ -0,0 +1,47 @@
+package br.com.microservices.orchestrated.reconciler.core.service;
+
+import br.com.microservices.orchestrated.reconciler.config.ReconcilerProperties;
+import br.com.microservices.orchestrated.reconciler.core.join.KeyRange;
+import br.com.microservices.orchestrated.reconciler.core.repository.OrderStoreRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Splits the order id space into ranges of roughly the same number of orders, using the quantiles
+ * of a random sample of ids instead of counting. The first and last ranges are open, so rows whose
+ * order is missing still fall into some chunk.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChunkPlanner {
+
+    private static final int SAMPLES_PER_CHUNK = 100;
+
+    private final OrderStoreRepository orderStoreRepository;
+    private final ReconcilerProperties properties;
+
+    public List<KeyRange> plan() {
+        var chunks = Math.max(properties.getChunks(), 1);
+        var ids = orderStoreRepository
+                .sampleOrderIds(chunks * SAMPLES_PER_CHUNK)
+                .stream()
+                .sorted()
+                .distinct()
+                .toList();
+        var ranges = new ArrayList<KeyRange>(chunks);
+        String from = null;
+        for (var chunk = 1; chunk < chunks && !ids.isEmpty(); chunk++) {
+            var to = ids.get(chunk * ids.size() / chunks);
+            if (from == null || from.compareTo(to) < 0) {
+                ranges.add(new KeyRange(from, to));
+                from = to;
+            }
+        }
+        ranges.add(new KeyRange(from, null));
+        return ranges;
+    }
+
+}
@@ -0,0 +1,122 @@
+package br.com.microservices.orchestrated.reconciler.core.service;
+
+import br.com.microservices.orchestrated.reconciler.config.ReconcilerProperties;
+import br.com.microservices.orchestrated.reconciler.core.dto.Event;
+import br.com.microservices.orchestrated.reconciler.core.dto.InventoryRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.Mismatch;
+import br.com.microservices.orchestrated.reconciler.core.dto.Order;
+import br.com.microservices.orchestrated.reconciler.core.dto.PaymentRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.SagaRecord;
+import br.com.microservices.orchestrated.reconciler.core.dto.ValidationRow;
+import br.com.microservices.orchestrated.reconciler.core.join.KeyRange;
+import br.com.microservices.orchestrated.reconciler.core.join.SagaKey;
+import br.com.microservices.orchestrated.reconciler.core.join.SagaMergeJoin;
+import br.com.microservices.orchestrated.reconciler.core.join.SortedCursor;
+import br.com.microservices.orchestrated.reconciler.core.producer.RepairProducer;
+import br.com.microservices.orchestrated.reconciler.core.report.ReconciliationTracker;
+import br.com.microservices.orchestrated.reconciler.core.report.ReportWriter;
+import br.com.microservices.orchestrated.reconciler.core.repository.OrderStoreRepository;
+import br.com.microservices.orchestrated.reconciler.core.repository.ServiceStoreRepository;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Reconciles every saga created before {@code now - reconciler.grace-seconds}. Each chunk of the
+ * order id space opens one sorted cursor per store and merge-joins them, and up to
+ * {@code reconciler.parallelism} chunks run at once, so the stores are read sequentially, once, and
+ * memory is bounded by the fetch size of the cursors.
+ */
+@Slf4j
+@Component
+@AllArgsConstructor
+public class ReconciliationRunner implements CommandLineRunner {
+
+    private final ChunkPlanner chunkPlanner;
+    private final OrderStoreRepository orderStoreRepository;
+    private final ServiceStoreRepository serviceStoreRepository;
+    private final SagaConsistencyChecker checker;
+    private final RepairProducer repairProducer;
+    private final ReconciliationTracker tracker;
+    private final ReportWriter reportWriter;
+    private final ReconcilerProperties properties;
+
+    @Override
+    public void run(String... args) throws Exception {
+        var start = System.nanoTime();
+        var cutoff = LocalDateTime.now().minusSeconds(properties.getGraceSeconds());
+        var ranges = chunkPlanner.plan();
+        log.info("Reconciling sagas created before {} in {} chunks", cutoff, ranges.size());
+
+        tracker.open();
+        var threads = new AtomicInteger();
+        var executor = Executors.newFixedThreadPool(properties.getParallelism(),
+                runnable -> new Thread(runnable, "reconciler-" + threads.incrementAndGet()));
+        try {
+            CompletableFuture.allOf(ranges
+                    .stream()
+                    .map(range -> CompletableFuture
+                            .runAsync(() -> reconcile(range, cutoff), executor)
+                            .exceptionally(e -> {
+                                log.error("Error reconciling chunk [{}, {})", range.from(), range.to(), e);
+                                tracker.chunkFailed(range);
+                                return null;
+                            }))
+                    .toArray(CompletableFuture[]::new))
+                    .join();
+        } finally {
+            executor.shutdown();
+            tracker.close();
+        }
+        if (properties.isRepairEnabled()) {
+            repairProducer.flush();
+        }
+        reportWriter.write(cutoff, ranges.size(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    private void reconcile(KeyRange range, LocalDateTime cutoff) {
+        try (var orders = orderStoreRepository.streamOrders(range, cutoff);
+             var events = orderStoreRepository.streamEvents(range, cutoff);
+             var validations = serviceStoreRepository.streamValidations(range);
+             var payments = serviceStoreRepository.streamPayments(range);
+             var inventories = serviceStoreRepository.streamInventories(range)) {
+            new SagaMergeJoin(
+                    new SortedCursor<>("order", orders.iterator(), (Order order) -> new SagaKey(order.getId(), order.getTransactionId())),
+                    new SortedCursor<>("event", events.iterator(), (Event event) -> new SagaKey(event.getOrderId(), event.getTransactionId())),
+                    new SortedCursor<>("validation", validations.iterator(), (ValidationRow row) -> new SagaKey(row.getOrderId(), row.getTransactionId())),
+                    new SortedCursor<>("payment", payments.iterator(), (PaymentRow row) -> new SagaKey(row.getOrderId(), row.getTransactionId())),
+                    new SortedCursor<>("order_inventory", inventories.iterator(), (InventoryRow row) -> new SagaKey(row.getOrderId(), row.getTransactionId()))
+            ).forEach(saga -> {
+                var mismatches = checker.check(saga, cutoff);
+                tracker.checked(mismatches);
+                repair(saga, mismatches);
+            });
+        }
+        tracker.chunkCompleted();
+    }
+
+    private void repair(SagaRecord saga, List<Mismatch> mismatches) {
+        if (!properties.isRepairEnabled()) {
+            return;
+        }
+        mismatches
+                .stream()
+                .map(Mismatch::getRepairTopic)
+                .filter(Objects::nonNull)
+                .distinct()
+                .forEach(topic -> {
+                    repairProducer.sendEvent(topic, saga);
+                    tracker.repaired();
+                });
+    }
+
+}
@@ -0,0 +1,156 @@
+package br.com.microservices.orchestrated.reconciler.core.service;
+
+import br.com.microservices.orchestrated.reconciler.core.dto.InventoryRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.Mismatch;
+import br.com.microservices.orchestrated.reconciler.core.dto.PaymentRow;
+import br.com.microservices.orchestrated.reconciler.core.dto.SagaRecord;
+import br.com.microservices.orchestrated.reconciler.core.dto.ValidationRow;
+import br.com.microservices.orchestrated.reconciler.core.enums.EMismatchType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static br.com.microservices.orchestrated.reconciler.core.enums.EMismatchType.*;
+
+/**
+ * Checks the rows of one saga against its final status. A successful saga must have one successful
+ * validation, one payment in {@code SUCCESS} with the order totals and one inventory row per
+ * ordered product. A failed saga must not keep a successful validation nor an unrefunded payment;
+ * those two are the only mismatches with a repair, the compensation topic of the step. Inventory
+ * rows are not flagged on rollback, so a failed saga cannot be checked against them.
+ */
+@Component
+public class SagaConsistencyChecker {
+
+    private static final String SUCCESS = "SUCCESS";
+    private static final String FAIL = "FAIL";
+    private static final String REFUND = "REFUND";
+    private static final double AMOUNT_TOLERANCE = 0.005;
+
+    @Value("${spring.kafka.topic.product-validation-fail}")
+    private String productValidationFailTopic;
+
+    @Value("${spring.kafka.topic.payment-fail}")
+    private String paymentFailTopic;
+
+    public List<Mismatch> check(SagaRecord saga, LocalDateTime cutoff) {
+        var mismatches = new ArrayList<Mismatch>();
+        if (saga.getOrder() == null) {
+            checkOrphan(saga, cutoff, mismatches);
+            return mismatches;
+        }
+        if (saga.getValidations().size() > 1) {
+            add(mismatches, saga, VALIDATION_DUPLICATED, saga.getValidations().size() + " validations", null);
+        }
+        if (saga.getPayments().size() > 1) {
+            add(mismatches, saga, PAYMENT_DUPLICATED, saga.getPayments().size() + " payments", null);
+        }
+        if (saga.getEvent() == null) {
+            add(mismatches, saga, EVENT_MISSING, "No event stored for the order", null);
+        } else if (SUCCESS.equals(saga.getEvent().getStatus())) {
+            checkSucceeded(saga, mismatches);
+        } else if (FAIL.equals(saga.getEvent().getStatus())) {
+            checkFailed(saga, mismatches);
+        } else {
+            add(mismatches, saga, SAGA_NOT_FINISHED, "Last status " + saga.getEvent().getStatus() + " from " + saga.getEvent().getSource(), null);
+        }
+        return mismatches;
+    }
+
+    // Rows written after the cutoff belong to orders too recent to be read, not to missing ones.
+    private void checkOrphan(SagaRecord saga, LocalDateTime cutoff, List<Mismatch> mismatches) {
+        var stores = new ArrayList<String>();
+        if (saga.getEvent() != null) {
+            stores.add("event");
+        }
+        if (saga.getValidations().stream().anyMatch(row -> row.getCreatedAt().isBefore(cutoff))) {
+            stores.add("validation");
+        }
+        if (saga.getPayments().stream().anyMatch(row -> row.getCreatedAt().isBefore(cutoff))) {
+            stores.add("payment");
+        }
+        if (saga.getInventories().stream().anyMatch(row -> row.getCreatedAt().isBefore(cutoff))) {
+            stores.add("order_inventory");
+        }
+        if (!stores.isEmpty()) {
+            add(mismatches, saga, ORPHAN_ROWS, "No order for rows in " + String.join(", ", stores), null);
+        }
+    }
+
+    private void checkSucceeded(SagaRecord saga, List<Mismatch> mismatches) {
+        if (saga.getValidations().isEmpty()) {
+            add(mismatches, saga, VALIDATION_MISSING, "No validation", null);
+        } else if (!saga.getValidations().stream().allMatch(ValidationRow::isSuccess)) {
+            add(mismatches, saga, VALIDATION_NOT_SUCCESS, "Validation marked as failed", null);
+        }
+
+        if (saga.getPayments().isEmpty()) {
+            add(mismatches, saga, PAYMENT_MISSING, "No payment", null);
+        } else {
+            var payment = saga.getPayments().get(0);
+            var order = saga.getOrder();
+            if (!SUCCESS.equals(payment.getStatus())) {
+                add(mismatches, saga, PAYMENT_NOT_SUCCESS, "Payment " + payment.getStatus(), null);
+            }
+            if (Math.abs(payment.getTotalAmount() - order.getTotalAmount()) > AMOUNT_TOLERANCE || payment.getTotalItems() != order.getTotalItems()) {
+                add(mismatches, saga, PAYMENT_AMOUNT_MISMATCH, String.format(Locale.ROOT, "Expected %.2f for %d items, paid %.2f for %d items",
+                        order.getTotalAmount(), order.getTotalItems(), payment.getTotalAmount(), payment.getTotalItems()), null);
+            }
+        }
+
+        var expected = expectedInventory(saga);
+        var actual = actualInventory(saga.getInventories());
+        if (saga.getInventories().isEmpty()) {
+            add(mismatches, saga, INVENTORY_MISSING, "No inventory rows, expected " + expected, null);
+        } else if (!expected.equals(actual)) {
+            add(mismatches, saga, INVENTORY_MISMATCH, "Expected " + expected + ", found " + actual, null);
+        }
+    }
+
+    private void checkFailed(SagaRecord saga, List<Mismatch> mismatches) {
+        if (saga.getValidations().stream().anyMatch(ValidationRow::isSuccess)) {
+            add(mismatches, saga, VALIDATION_NOT_ROLLED_BACK, "Validation still marked as successful", productValidationFailTopic);
+        }
+        saga.getPayments()
+                .stream()
+                .map(PaymentRow::getStatus)
+                .filter(status -> !REFUND.equals(status))
+                .findFirst()
+                .ifPresent(status -> add(mismatches, saga, PAYMENT_NOT_REFUNDED, "Payment " + status, paymentFailTopic));
+    }
+
+    private List<String> expectedInventory(SagaRecord saga) {
+        var products = saga.getOrder().getProducts();
+        return (products == null ? Stream.<String>empty() : products
+                .stream()
+                .map(product -> product.getProduct().getCode() + "x" + product.getQuantity()))
+                .sorted()
+                .toList();
+    }
+
+    private List<String> actualInventory(List<InventoryRow> rows) {
+        return rows
+                .stream()
+                .map(row -> row.getProductCode() + "x" + row.getOrderQuantity())
+                .sorted()
+                .toList();
+    }
+
+    private void add(List<Mismatch> mismatches, SagaRecord saga, EMismatchType type, String detail, String repairTopic) {
+        mismatches.add(Mismatch
+                .builder()
+                .orderId(saga.getKey().orderId())
+                .transactionId(saga.getKey().transactionId())
+                .sagaStatus(saga.getEvent() != null ? saga.getEvent().getStatus() : null)
+                .type(type)
+                .detail(detail)
+                .repairTopic(repairTopic)
+                .build());
+    }
+
+}
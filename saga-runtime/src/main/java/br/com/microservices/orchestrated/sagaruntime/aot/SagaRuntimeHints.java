@@ -0,0 +1,36 @@
+package br.com.microservices.orchestrated.sagaruntime.aot;
+
+import br.com.microservices.orchestrated.sagaruntime.consumer.ConsumerLagInterceptor;
+import br.com.microservices.orchestrated.sagaruntime.consumer.ConsumerLagRegistry;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import br.com.microservices.orchestrated.sagaruntime.producer.DeliveryTracker;
+import br.com.microservices.orchestrated.sagaruntime.producer.StringOrBytesSerializer;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineDltHandler;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+public class SagaRuntimeHints implements RuntimeHintsRegistrar {
+
+    private final BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        bindingRegistrar.registerReflectionHints(hints.reflection(),
+                StepTimer.StepSnapshot.class,
+                DeliveryTracker.DeliverySnapshot.class,
+                DeliveryTracker.TopicSnapshot.class,
+                DeliveryTracker.DeliveryFailure.class,
+                ConsumerLagRegistry.ConsumerLagSnapshot.class,
+                ConsumerLagRegistry.PartitionLag.class,
+                QuarantineStore.QuarantineSnapshot.class,
+                QuarantineStore.QuarantinedRecord.class
+        );
+        hints.reflection().registerType(ConsumerLagInterceptor.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(StringOrBytesSerializer.class, MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        hints.reflection().registerType(QuarantineDltHandler.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+    }
+
+}
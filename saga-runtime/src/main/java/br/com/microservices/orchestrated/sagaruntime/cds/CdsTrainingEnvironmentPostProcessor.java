@@ -0,0 +1,37 @@
+package br.com.microservices.orchestrated.sagaruntime.cds;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.core.Ordered;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+public class CdsTrainingEnvironmentPostProcessor implements EnvironmentPostProcessor, Ordered {
+
+    public static final String TRAINING_PROPERTY = "saga.runtime.cds.training";
+
+    private static final String PROPERTY_SOURCE_NAME = "sagaCdsTraining";
+
+    private static final Map<String, Object> TRAINING_OVERRIDES = Map.of(
+            "spring.jpa.hibernate.ddl-auto", "none",
+            "spring.jpa.properties.hibernate.temp.use_jdbc_metadata_defaults", "false",
+            "spring.sql.init.mode", "never",
+            "spring.kafka.admin.auto-create", "false",
+            "saga.runtime.consumer.auto-startup", "false"
+    );
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (environment.getProperty(TRAINING_PROPERTY, Boolean.class, false)) {
+            environment.getPropertySources().addFirst(new MapPropertySource(PROPERTY_SOURCE_NAME, TRAINING_OVERRIDES));
+        }
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.LOWEST_PRECEDENCE;
+    }
+
+}
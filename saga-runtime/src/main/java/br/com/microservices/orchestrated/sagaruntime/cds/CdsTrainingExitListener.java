@@ -0,0 +1,22 @@
+package br.com.microservices.orchestrated.sagaruntime.cds;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+
+import static br.com.microservices.orchestrated.sagaruntime.cds.CdsTrainingEnvironmentPostProcessor.TRAINING_PROPERTY;
+
+@Slf4j
+public class CdsTrainingExitListener implements ApplicationListener<ApplicationReadyEvent> {
+
+    @Override
+    public void onApplicationEvent(ApplicationReadyEvent event) {
+        var context = event.getApplicationContext();
+        if (context.getEnvironment().getProperty(TRAINING_PROPERTY, Boolean.class, false)) {
+            log.info("CDS training run finished, exiting after {} ms", event.getTimeTaken().toMillis());
+            System.exit(SpringApplication.exit(context));
+        }
+    }
+
+}
@@ -0,0 +1,126 @@
+package br.com.microservices.orchestrated.sagaruntime.config;
+
+import br.com.microservices.orchestrated.sagaruntime.aot.SagaRuntimeHints;
+import br.com.microservices.orchestrated.sagaruntime.consumer.ConsumerLagRegistry;
+import br.com.microservices.orchestrated.sagaruntime.consumer.SagaKafkaConfigurer;
+import br.com.microservices.orchestrated.sagaruntime.idempotency.IdempotencyGuard;
+import br.com.microservices.orchestrated.sagaruntime.lane.SagaLaneCoordinator;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import br.com.microservices.orchestrated.sagaruntime.producer.DeliveryTracker;
+import br.com.microservices.orchestrated.sagaruntime.producer.SagaEventPublisher;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineDltHandler;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeFactory;
+import br.com.microservices.orchestrated.sagaruntime.web.SagaRuntimeController;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@EnableConfigurationProperties(SagaRuntimeProperties.class)
+@ImportRuntimeHints(SagaRuntimeHints.class)
+public class SagaRuntimeAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SagaSerdeFactory sagaSerdeFactory(ObjectMapper objectMapper, SagaRuntimeProperties properties) {
+        return new SagaSerdeFactory(objectMapper, properties);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public ConsumerLagRegistry consumerLagRegistry(ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry) {
+        return new ConsumerLagRegistry(endpointRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SagaKafkaConfigurer sagaKafkaConfigurer(SagaRuntimeProperties properties, ConsumerLagRegistry consumerLagRegistry) {
+        return new SagaKafkaConfigurer(properties, consumerLagRegistry);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public DeliveryTracker deliveryTracker() {
+        return new DeliveryTracker();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public SagaEventPublisher sagaEventPublisher(KafkaTemplate<String, String> kafkaTemplate, DeliveryTracker deliveryTracker) {
+        return new SagaEventPublisher(kafkaTemplate, deliveryTracker);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public StepTimer stepTimer() {
+        return new StepTimer();
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public IdempotencyGuard idempotencyGuard(SagaRuntimeProperties properties) {
+        var idempotency = properties.getIdempotency();
+        return new IdempotencyGuard(idempotency.getCapacity(), idempotency.getReplyCapacity());
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    public QuarantineStore quarantineStore(SagaRuntimeProperties properties) {
+        return new QuarantineStore(properties.getQuarantine().getCapacity());
+    }
+
+    @Bean(QuarantineDltHandler.BEAN_NAME)
+    @ConditionalOnMissingBean
+    public QuarantineDltHandler sagaQuarantineDltHandler(QuarantineStore quarantineStore) {
+        return new QuarantineDltHandler(quarantineStore);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "saga.runtime.retry", name = "enabled", matchIfMissing = true)
+    public RetryTopicConfiguration sagaRetryTopicConfiguration(SagaKafkaConfigurer kafkaConfigurer,
+                                                               KafkaTemplate<String, String> kafkaTemplate) {
+        return kafkaConfigurer.retryTopicConfiguration(kafkaTemplate);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "saga.runtime.lanes", name = "enabled", matchIfMissing = true)
+    public SagaLaneCoordinator sagaLaneCoordinator(ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry,
+                                                   ConsumerLagRegistry consumerLagRegistry,
+                                                   SagaRuntimeProperties properties) {
+        return new SagaLaneCoordinator(endpointRegistry, consumerLagRegistry, properties.getLanes());
+    }
+
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnWebApplication
+    @ConditionalOnClass(name = "org.springframework.web.bind.annotation.RestController")
+    static class SagaRuntimeWebConfiguration {
+
+        @Bean
+        public SagaRuntimeController sagaRuntimeController(StepTimer stepTimer,
+                                                           DeliveryTracker deliveryTracker,
+                                                           ConsumerLagRegistry consumerLagRegistry,
+                                                           QuarantineStore quarantineStore,
+                                                           SagaEventPublisher eventPublisher) {
+            return new SagaRuntimeController(
+                    stepTimer, deliveryTracker, consumerLagRegistry, quarantineStore, eventPublisher
+            );
+        }
+
+    }
+
+}
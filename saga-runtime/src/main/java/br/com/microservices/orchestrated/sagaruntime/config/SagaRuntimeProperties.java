@@ -0,0 +1,91 @@
+package br.com.microservices.orchestrated.sagaruntime.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Data
+@ConfigurationProperties(prefix = "saga.runtime")
+public class SagaRuntimeProperties {
+
+    private Serde serde = new Serde();
+    private Consumer consumer = new Consumer();
+    private Producer producer = new Producer();
+    private Idempotency idempotency = new Idempotency();
+    private Cds cds = new Cds();
+    private Retry retry = new Retry();
+    private Quarantine quarantine = new Quarantine();
+    private Lanes lanes = new Lanes();
+
+    @Data
+    public static class Serde {
+
+        private boolean blackbird = false;
+        private boolean patch = false;
+
+    }
+
+    @Data
+    public static class Consumer {
+
+        private int concurrency = 1;
+        private int maxPollRecords = 500;
+        private int fetchMinBytes = 1;
+        private int fetchMaxWaitMs = 500;
+        private boolean autoStartup = true;
+
+    }
+
+    @Data
+    public static class Producer {
+
+        private int lingerMs = 5;
+        private int batchSize = 65536;
+        private String compressionType = "none";
+        private String acks = "all";
+
+    }
+
+    @Data
+    public static class Idempotency {
+
+        private int capacity = 100_000;
+        private int replyCapacity = 10_000;
+
+    }
+
+    @Data
+    public static class Cds {
+
+        private boolean training = false;
+
+    }
+
+    @Data
+    public static class Retry {
+
+        private boolean enabled = true;
+        private int maxAttempts = 4;
+        private long initialIntervalMs = 1000;
+        private double multiplier = 2.0;
+        private long maxIntervalMs = 10000;
+
+    }
+
+    @Data
+    public static class Quarantine {
+
+        private int capacity = 1000;
+
+    }
+
+    @Data
+    public static class Lanes {
+
+        private boolean enabled = true;
+        private int highWeight = 4;
+        private int normalWeight = 1;
+        private long intervalMs = 100;
+
+    }
+
+}
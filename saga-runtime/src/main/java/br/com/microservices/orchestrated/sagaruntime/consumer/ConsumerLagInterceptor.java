@@ -0,0 +1,41 @@
+package br.com.microservices.orchestrated.sagaruntime.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerInterceptor;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+
+import java.util.Map;
+
+public class ConsumerLagInterceptor implements ConsumerInterceptor<Object, Object> {
+
+    private ConsumerLagRegistry registry;
+    private String groupId;
+
+    @Override
+    public void configure(Map<String, ?> configs) {
+        registry = (ConsumerLagRegistry) configs.get(ConsumerLagRegistry.CONFIG_KEY);
+        groupId = String.valueOf(configs.get(ConsumerConfig.GROUP_ID_CONFIG));
+    }
+
+    @Override
+    public ConsumerRecords<Object, Object> onConsume(ConsumerRecords<Object, Object> records) {
+        if (registry != null) {
+            registry.consumed(groupId, records);
+        }
+        return records;
+    }
+
+    @Override
+    public void onCommit(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (registry != null) {
+            registry.committed(groupId, offsets);
+        }
+    }
+
+    @Override
+    public void close() {
+    }
+
+}
@@ -0,0 +1,188 @@
+package br.com.microservices.orchestrated.sagaruntime.consumer;
+
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.Metric;
+import org.apache.kafka.common.MetricName;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ConsumerLagRegistry {
+
+    public static final String CONFIG_KEY = "saga.runtime.consumer-lag-registry";
+
+    private static final String FETCH_MANAGER_METRICS = "consumer-fetch-manager-metrics";
+    private static final String CONSUMER_METRICS = "consumer-metrics";
+    private static final String RECORDS_LAG = "records-lag";
+    private static final String LAST_POLL_SECONDS_AGO = "last-poll-seconds-ago";
+    private static final String TOPIC_TAG = "topic";
+    private static final String PARTITION_TAG = "partition";
+    private static final long UNKNOWN = -1;
+
+    private final Map<PartitionKey, PartitionStats> partitions = new ConcurrentHashMap<>();
+    private final ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry;
+
+    public ConsumerLagRegistry(ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry) {
+        this.endpointRegistry = endpointRegistry;
+    }
+
+    void consumed(String groupId, ConsumerRecords<?, ?> records) {
+        var now = System.currentTimeMillis();
+        for (var partition : records.partitions()) {
+            var partitionRecords = records.records(partition);
+            var stats = stats(new PartitionKey(groupId, partition));
+            stats.position = partitionRecords.get(partitionRecords.size() - 1).offset() + 1;
+            stats.rate.add(now, partitionRecords.size());
+        }
+    }
+
+    void committed(String groupId, Map<TopicPartition, OffsetAndMetadata> offsets) {
+        offsets.forEach((partition, offset) -> stats(new PartitionKey(groupId, partition)).committed = offset.offset());
+    }
+
+    public ConsumerLagSnapshot snapshot() {
+        var lags = new HashMap<PartitionKey, Long>();
+        var lastPolls = new HashMap<PartitionKey, Long>();
+        var registry = endpointRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.getAllListenerContainers().forEach(container -> readMetrics(container, lags, lastPolls));
+        }
+        var now = System.currentTimeMillis();
+        var keys = new ArrayList<PartitionKey>(partitions.keySet());
+        lags.keySet().stream().filter(key -> !partitions.containsKey(key)).forEach(keys::add);
+        keys.sort(Comparator
+                .comparing(PartitionKey::groupId)
+                .thenComparing(key -> key.partition().topic())
+                .thenComparingInt(key -> key.partition().partition()));
+
+        var result = new ArrayList<PartitionLag>();
+        var lagByTopic = new TreeMap<String, Long>();
+        for (var key : keys) {
+            var stats = partitions.get(key);
+            var lag = lags.getOrDefault(key, UNKNOWN);
+            var position = stats == null ? UNKNOWN : stats.position;
+            result.add(new PartitionLag(
+                    key.groupId(),
+                    key.partition().topic(),
+                    key.partition().partition(),
+                    stats == null ? UNKNOWN : stats.committed,
+                    position,
+                    lag == UNKNOWN || position == UNKNOWN ? UNKNOWN : position + lag,
+                    lag,
+                    stats == null ? 0 : stats.rate.perSecond(now),
+                    lastPolls.getOrDefault(key, UNKNOWN)
+            ));
+            if (lag != UNKNOWN) {
+                lagByTopic.merge(key.partition().topic(), lag, Long::sum);
+            }
+        }
+        return new ConsumerLagSnapshot(
+                lagByTopic.values().stream().mapToLong(Long::longValue).sum(),
+                lagByTopic,
+                result
+        );
+    }
+
+    private void readMetrics(MessageListenerContainer container,
+                             Map<PartitionKey, Long> lags,
+                             Map<PartitionKey, Long> lastPolls) {
+        var groupId = container.getGroupId();
+        var assigned = container.getAssignedPartitions();
+        if (assigned != null) {
+            assigned.forEach(partition -> lags.putIfAbsent(new PartitionKey(groupId, partition), UNKNOWN));
+        }
+        for (var clientMetrics : container.metrics().values()) {
+            var lastPollMillis = lastPollMillis(clientMetrics);
+            clientMetrics.forEach((name, metric) -> {
+                if (RECORDS_LAG.equals(name.name()) && FETCH_MANAGER_METRICS.equals(name.group())
+                        && name.tags().containsKey(PARTITION_TAG)) {
+                    var key = new PartitionKey(groupId, new TopicPartition(
+                            name.tags().get(TOPIC_TAG), Integer.parseInt(name.tags().get(PARTITION_TAG))));
+                    lags.put(key, toLong(metric));
+                    lastPolls.put(key, lastPollMillis);
+                }
+            });
+        }
+    }
+
+    private long lastPollMillis(Map<MetricName, ? extends Metric> clientMetrics) {
+        return clientMetrics.entrySet()
+                .stream()
+                .filter(entry -> LAST_POLL_SECONDS_AGO.equals(entry.getKey().name())
+                        && CONSUMER_METRICS.equals(entry.getKey().group()))
+                .findFirst()
+                .map(entry -> toLong(entry.getValue()) * 1000)
+                .orElse(UNKNOWN);
+    }
+
+    private long toLong(Metric metric) {
+        if (metric.metricValue() instanceof Number number && !Double.isNaN(number.doubleValue())) {
+            return number.longValue();
+        }
+        return UNKNOWN;
+    }
+
+    private PartitionStats stats(PartitionKey key) {
+        return partitions.computeIfAbsent(key, partition -> new PartitionStats());
+    }
+
+    private record PartitionKey(String groupId, TopicPartition partition) {
+    }
+
+    private static class PartitionStats {
+
+        private volatile long committed = UNKNOWN;
+        private volatile long position = UNKNOWN;
+        private final RateWindow rate = new RateWindow();
+
+    }
+
+    private static class RateWindow {
+
+        private static final int SECONDS = 10;
+
+        private final long[] counts = new long[SECONDS];
+        private final long[] seconds = new long[SECONDS];
+
+        private synchronized void add(long nowMillis, long count) {
+            var second = nowMillis / 1000;
+            var index = (int) (second % SECONDS);
+            if (seconds[index] != second) {
+                seconds[index] = second;
+                counts[index] = 0;
+            }
+            counts[index] += count;
+        }
+
+        private synchronized double perSecond(long nowMillis) {
+            var current = nowMillis / 1000;
+            var total = 0L;
+            for (var index = 0; index < SECONDS; index++) {
+                var age = current - seconds[index];
+                if (age >= 1 && age <= SECONDS) {
+                    total += counts[index];
+                }
+            }
+            return (double) total / SECONDS;
+        }
+
+    }
+
+    public record PartitionLag(String groupId, String topic, int partition, long committedOffset, long position,
+                               long endOffset, long lag, double recordsPerSecond, long millisSinceLastPoll) {
+    }
+
+    public record ConsumerLagSnapshot(long totalLag, Map<String, Long> lagByTopic, List<PartitionLag> partitions) {
+    }
+
+}
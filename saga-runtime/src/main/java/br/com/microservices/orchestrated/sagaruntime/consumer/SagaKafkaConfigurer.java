@@ -0,0 +1,98 @@
+package br.com.microservices.orchestrated.sagaruntime.consumer;
+
+import br.com.microservices.orchestrated.sagaruntime.config.SagaRuntimeProperties;
+import br.com.microservices.orchestrated.sagaruntime.producer.StringOrBytesSerializer;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineDltHandler;
+import br.com.microservices.orchestrated.sagaruntime.serde.SagaSerdeException;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.retrytopic.RetryTopicConfiguration;
+import org.springframework.kafka.retrytopic.RetryTopicConfigurationBuilder;
+import org.springframework.kafka.support.serializer.DeserializationException;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class SagaKafkaConfigurer {
+
+    private final SagaRuntimeProperties properties;
+    private final ConsumerLagRegistry consumerLagRegistry;
+
+    public SagaKafkaConfigurer(SagaRuntimeProperties properties, ConsumerLagRegistry consumerLagRegistry) {
+        this.properties = properties;
+        this.consumerLagRegistry = consumerLagRegistry;
+    }
+
+    public Map<String, Object> consumerProps(String bootstrapAddress, String groupId, String autoOffsetReset) {
+        var consumer = properties.getConsumer();
+        var props = new HashMap<String, Object>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, autoOffsetReset);
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, consumer.getMaxPollRecords());
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, consumer.getFetchMinBytes());
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, consumer.getFetchMaxWaitMs());
+        props.put(ConsumerConfig.INTERCEPTOR_CLASSES_CONFIG, ConsumerLagInterceptor.class.getName());
+        props.put(ConsumerLagRegistry.CONFIG_KEY, consumerLagRegistry);
+        return props;
+    }
+
+    public Map<String, Object> producerProps(String bootstrapAddress) {
+        var producer = properties.getProducer();
+        var props = new HashMap<String, Object>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapAddress);
+        props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringOrBytesSerializer.class);
+        props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, StringOrBytesSerializer.class);
+        props.put(ProducerConfig.LINGER_MS_CONFIG, producer.getLingerMs());
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, producer.getBatchSize());
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, producer.getCompressionType());
+        props.put(ProducerConfig.ACKS_CONFIG, producer.getAcks());
+        return props;
+    }
+
+    public ConcurrentKafkaListenerContainerFactory<String, String> listenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        var consumer = properties.getConsumer();
+        var factory = new ConcurrentKafkaListenerContainerFactory<String, String>();
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(consumer.getConcurrency());
+        factory.setAutoStartup(consumer.isAutoStartup());
+        return factory;
+    }
+
+    public ConcurrentKafkaListenerContainerFactory<String, String> batchListenerContainerFactory(
+            ConsumerFactory<String, String> consumerFactory) {
+        var factory = listenerContainerFactory(consumerFactory);
+        factory.setBatchListener(true);
+        return factory;
+    }
+
+    public RetryTopicConfiguration retryTopicConfiguration(KafkaOperations<String, String> kafkaTemplate) {
+        return retryTopicConfiguration(kafkaTemplate, List.of());
+    }
+
+    public RetryTopicConfiguration retryTopicConfiguration(KafkaOperations<String, String> kafkaTemplate,
+                                                           Collection<String> excludedTopics) {
+        var retry = properties.getRetry();
+        return RetryTopicConfigurationBuilder
+                .newInstance()
+                .excludeTopics(List.copyOf(excludedTopics))
+                .maxAttempts(retry.getMaxAttempts())
+                .exponentialBackoff(retry.getInitialIntervalMs(), retry.getMultiplier(), retry.getMaxIntervalMs())
+                .notRetryOn(List.of(SagaSerdeException.class, DeserializationException.class))
+                .dltHandlerMethod(QuarantineDltHandler.BEAN_NAME, QuarantineDltHandler.METHOD_NAME)
+                .create(kafkaTemplate);
+    }
+
+}
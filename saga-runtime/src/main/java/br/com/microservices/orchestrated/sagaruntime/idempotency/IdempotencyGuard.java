@@ -0,0 +1,158 @@
+package br.com.microservices.orchestrated.sagaruntime.idempotency;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Skips deliveries of a (scope, key) pair that this process already handled. The key is claimed with
+ * an atomic {@code putIfAbsent} before the action runs, so two concurrent deliveries never both run
+ * it, and a failed action releases the claim so the redelivery runs again. The reply an action
+ * published is kept for the last {@code replyCapacity} keys and published again on a duplicate
+ * delivery, so a step re-driven because its reply was lost gets the same answer instead of silence.
+ * A duplicate that arrives while the action is still running fails with {@link StepInFlightException}
+ * so its delivery is retried once there is a reply, rather than running the step a second time.
+ * <p>
+ * The Kafka consumers and the fast lane controllers share the same scopes, so a step the fast lane
+ * is running or already ran is never run again by its Kafka delivery.
+ * <p>
+ * This is a best-effort, per-process guard: the sets are bounded and lost on restart, and another
+ * instance of the service does not see them. The step outcome each service stores, and answers
+ * from when it finds one, remains the durable guard against running a step twice.
+ */
+@Slf4j
+public class IdempotencyGuard {
+
+    private final Map<String, Boolean> processed;
+    private final Map<String, String> replies;
+    private final Map<String, CompletableFuture<String>> running = new ConcurrentHashMap<>();
+
+    public IdempotencyGuard(int capacity, int replyCapacity) {
+        this.processed = Collections.synchronizedMap(bounded(capacity));
+        this.replies = Collections.synchronizedMap(bounded(replyCapacity));
+    }
+
+    public boolean runOnce(String scope, String key, Runnable action) {
+        return runOnce(scope, key, () -> {
+            action.run();
+            return null;
+        }, reply -> {
+        });
+    }
+
+    public boolean runOnce(String scope, String key, Supplier<String> action, Consumer<String> republish) {
+        if (!claim(scope, key)) {
+            duplicateReply(scope, key).ifPresent(republish);
+            return false;
+        }
+        complete(scope, key, run(scope, key, action));
+        return true;
+    }
+
+    /**
+     * Runs the action like {@link #runOnce} but hands its reply back instead of publishing it. A
+     * duplicate gets the stored reply, or nothing when the step is still running or its reply is gone.
+     */
+    public Optional<String> execute(String scope, String key, Supplier<String> action) {
+        if (!claim(scope, key)) {
+            return isRunning(scope, key) ? Optional.empty() : findReply(scope, key);
+        }
+        var reply = run(scope, key, action);
+        complete(scope, key, reply);
+        return Optional.ofNullable(reply);
+    }
+
+    public boolean claim(String scope, String key) {
+        var processedKey = processedKey(scope, key);
+        // Claiming and marking the step as running happen together, so a losing duplicate always sees one or the other.
+        synchronized (processed) {
+            if (processed.putIfAbsent(processedKey, Boolean.TRUE) != null) {
+                log.info("Skipping duplicate delivery {}", processedKey);
+                return false;
+            }
+            running.put(processedKey, new CompletableFuture<>());
+        }
+        return true;
+    }
+
+    public void release(String scope, String key) {
+        var processedKey = processedKey(scope, key);
+        CompletableFuture<String> result;
+        synchronized (processed) {
+            processed.remove(processedKey);
+            result = running.remove(processedKey);
+        }
+        if (result != null) {
+            result.completeExceptionally(new StepInFlightException(processedKey));
+        }
+    }
+
+    // The reply is stored before the step stops counting as running, so a duplicate that no longer sees it running finds it.
+    public void complete(String scope, String key, String reply) {
+        var processedKey = processedKey(scope, key);
+        if (reply != null) {
+            replies.put(processedKey, reply);
+        }
+        var result = running.remove(processedKey);
+        if (result != null) {
+            result.complete(reply);
+        }
+    }
+
+    public boolean isRunning(String scope, String key) {
+        return running.containsKey(processedKey(scope, key));
+    }
+
+    /**
+     * The reply of a step this process is still running, completed when it finishes (with
+     * {@link StepInFlightException} if it failed and was released), so a duplicate can wait for it
+     * without blocking a thread.
+     */
+    public Optional<CompletableFuture<String>> findRunning(String scope, String key) {
+        return Optional.ofNullable(running.get(processedKey(scope, key)));
+    }
+
+    public Optional<String> findReply(String scope, String key) {
+        var processedKey = processedKey(scope, key);
+        var reply = Optional.ofNullable(replies.get(processedKey));
+        reply.ifPresent(ignored -> log.info("Publishing the stored reply again for duplicate delivery {}", processedKey));
+        return reply;
+    }
+
+    private Optional<String> duplicateReply(String scope, String key) {
+        if (isRunning(scope, key)) {
+            throw new StepInFlightException(processedKey(scope, key));
+        }
+        return findReply(scope, key);
+    }
+
+    private String run(String scope, String key, Supplier<String> action) {
+        try {
+            return action.get();
+        } catch (RuntimeException | Error e) {
+            release(scope, key);
+            throw e;
+        }
+    }
+
+    private String processedKey(String scope, String key) {
+        return scope.concat(":").concat(String.valueOf(key));
+    }
+
+    private static <V> Map<String, V> bounded(int capacity) {
+        return new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > capacity;
+            }
+        };
+    }
+
+}
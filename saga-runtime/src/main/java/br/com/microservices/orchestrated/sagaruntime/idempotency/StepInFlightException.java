@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.sagaruntime.idempotency;
+
+public class StepInFlightException extends RuntimeException {
+
+    public StepInFlightException(String processedKey) {
+        super("Step " + processedKey + " is still running in this process, retry the delivery later");
+    }
+
+}
@@ -0,0 +1,28 @@
+package br.com.microservices.orchestrated.sagaruntime.lane;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public enum ESagaPriority {
+
+    NORMAL(""),
+    HIGH("-high");
+
+    private final String topicSuffix;
+
+    public String topic(String baseTopic) {
+        return baseTopic.concat(topicSuffix);
+    }
+
+    public static String topic(ESagaPriority priority, String baseTopic) {
+        return (priority == null ? NORMAL : priority).topic(baseTopic);
+    }
+
+    public static ESagaPriority fromTopic(String topic) {
+        var suffix = HIGH.getTopicSuffix();
+        return topic.endsWith(suffix) || topic.contains(suffix.concat("-")) ? HIGH : NORMAL;
+    }
+
+}
@@ -0,0 +1,113 @@
+package br.com.microservices.orchestrated.sagaruntime.lane;
+
+import br.com.microservices.orchestrated.sagaruntime.config.SagaRuntimeProperties;
+import br.com.microservices.orchestrated.sagaruntime.consumer.ConsumerLagRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+
+import java.util.Arrays;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Weighted fair polling between priority lanes. High-priority containers are never paused; while
+ * any high lane partition has lag, normal-lane containers only poll during {@code normalWeight} out
+ * of every {@code highWeight + normalWeight} ticks, so bulk traffic keeps moving without delaying
+ * interactive sagas. Lag comes from {@link ConsumerLagRegistry}, so no broker calls are made.
+ */
+@Slf4j
+public class SagaLaneCoordinator implements SmartLifecycle {
+
+    private final ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry;
+    private final ConsumerLagRegistry consumerLagRegistry;
+    private final SagaRuntimeProperties.Lanes properties;
+    private ScheduledExecutorService executor;
+    private long tick;
+    private volatile boolean throttling;
+
+    public SagaLaneCoordinator(ObjectProvider<KafkaListenerEndpointRegistry> endpointRegistry,
+                               ConsumerLagRegistry consumerLagRegistry,
+                               SagaRuntimeProperties.Lanes properties) {
+        this.endpointRegistry = endpointRegistry;
+        this.consumerLagRegistry = consumerLagRegistry;
+        this.properties = properties;
+    }
+
+    @Override
+    public synchronized void start() {
+        executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            var thread = new Thread(runnable, "saga-lane-coordinator");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(this::safeTick,
+                properties.getIntervalMs(), properties.getIntervalMs(), TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    @Override
+    public synchronized boolean isRunning() {
+        return executor != null;
+    }
+
+    @Override
+    public int getPhase() {
+        return Integer.MAX_VALUE;
+    }
+
+    private void safeTick() {
+        try {
+            tick();
+        } catch (Exception e) {
+            log.warn("Error coordinating priority lanes", e);
+        }
+    }
+
+    private void tick() {
+        var registry = endpointRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        var highBacklog = consumerLagRegistry.snapshot()
+                .partitions()
+                .stream()
+                .filter(partition -> ESagaPriority.HIGH.equals(ESagaPriority.fromTopic(partition.topic())))
+                .mapToLong(partition -> Math.max(0, partition.lag()))
+                .sum();
+        var cycle = properties.getHighWeight() + properties.getNormalWeight();
+        var normalTurn = highBacklog == 0 || tick++ % cycle < properties.getNormalWeight();
+        if (throttling == normalTurn) {
+            throttling = !normalTurn;
+            log.debug("Normal lanes {} with high lane backlog {}", normalTurn ? "resumed" : "paused", highBacklog);
+        }
+        registry.getAllListenerContainers()
+                .stream()
+                .filter(MessageListenerContainer::isRunning)
+                .filter(this::isNormalLane)
+                .forEach(container -> {
+                    if (normalTurn && container.isPauseRequested()) {
+                        container.resume();
+                    } else if (!normalTurn && !container.isPauseRequested()) {
+                        container.pause();
+                    }
+                });
+    }
+
+    private boolean isNormalLane(MessageListenerContainer container) {
+        var topics = container.getContainerProperties().getTopics();
+        return topics != null && Arrays.stream(topics)
+                .allMatch(topic -> ESagaPriority.NORMAL.equals(ESagaPriority.fromTopic(topic)));
+    }
+
+}
@@ -0,0 +1,77 @@
+package br.com.microservices.orchestrated.sagaruntime.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+public class StepTimer {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, StepStats> steps = new ConcurrentHashMap<>();
+
+    public void record(String step, Runnable action) {
+        var start = System.nanoTime();
+        var success = false;
+        try {
+            action.run();
+            success = true;
+        } finally {
+            record(step, System.nanoTime() - start, success);
+        }
+    }
+
+    public <T> T measure(String step, Supplier<T> action) {
+        var start = System.nanoTime();
+        var success = false;
+        try {
+            var result = action.get();
+            success = true;
+            return result;
+        } finally {
+            record(step, System.nanoTime() - start, success);
+        }
+    }
+
+    public void record(String step, long elapsedNanos, boolean success) {
+        var stats = steps.computeIfAbsent(step, name -> new StepStats());
+        stats.latency.recordValue(Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(elapsedNanos), 1), HIGHEST_TRACKABLE_MICROS));
+        if (!success) {
+            stats.errors.increment();
+        }
+    }
+
+    public Map<String, StepSnapshot> snapshot() {
+        var snapshot = new TreeMap<String, StepSnapshot>();
+        steps.forEach((step, stats) -> snapshot.put(step, stats.snapshot()));
+        return snapshot;
+    }
+
+    private static class StepStats {
+
+        private final Histogram latency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 2);
+        private final LongAdder errors = new LongAdder();
+
+        private StepSnapshot snapshot() {
+            return new StepSnapshot(
+                    latency.getTotalCount(),
+                    errors.sum(),
+                    latency.getMean() / 1000.0,
+                    latency.getValueAtPercentile(50) / 1000.0,
+                    latency.getValueAtPercentile(99) / 1000.0,
+                    latency.getMaxValue() / 1000.0);
+        }
+
+    }
+
+    public record StepSnapshot(long count, long errors, double meanMillis,
+                               double p50Millis, double p99Millis, double maxMillis) {
+    }
+
+}
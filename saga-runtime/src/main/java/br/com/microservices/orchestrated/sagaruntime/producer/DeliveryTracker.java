@@ -0,0 +1,81 @@
+package br.com.microservices.orchestrated.sagaruntime.producer;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DeliveryTracker {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(5);
+
+    private final Map<String, TopicDeliveries> topics = new ConcurrentHashMap<>();
+    private final AtomicReference<DeliveryFailure> lastFailure = new AtomicReference<>();
+
+    public long sent(String topic) {
+        deliveries(topic).sent.increment();
+        return System.nanoTime();
+    }
+
+    public void acknowledged(String topic, long sentAtNanos) {
+        var deliveries = deliveries(topic);
+        deliveries.acknowledged.increment();
+        deliveries.ackLatency.recordValue(Math.min(
+                Math.max(TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - sentAtNanos), 1), HIGHEST_TRACKABLE_MICROS));
+    }
+
+    public void failed(String topic, Throwable error) {
+        deliveries(topic).failed.increment();
+        lastFailure.set(new DeliveryFailure(topic, String.valueOf(error.getMessage()), Instant.now()));
+    }
+
+    public DeliverySnapshot snapshot() {
+        var perTopic = new TreeMap<String, TopicSnapshot>();
+        topics.forEach((topic, deliveries) -> perTopic.put(topic, deliveries.snapshot()));
+        return new DeliverySnapshot(perTopic, lastFailure.get());
+    }
+
+    private TopicDeliveries deliveries(String topic) {
+        return topics.computeIfAbsent(topic, name -> new TopicDeliveries());
+    }
+
+    private static class TopicDeliveries {
+
+        private final LongAdder sent = new LongAdder();
+        private final LongAdder acknowledged = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final Histogram ackLatency = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 2);
+
+        private TopicSnapshot snapshot() {
+            var sentCount = sent.sum();
+            var ackedCount = acknowledged.sum();
+            var failedCount = failed.sum();
+            return new TopicSnapshot(
+                    sentCount,
+                    ackedCount,
+                    failedCount,
+                    Math.max(sentCount - ackedCount - failedCount, 0),
+                    ackLatency.getValueAtPercentile(50) / 1000.0,
+                    ackLatency.getValueAtPercentile(99) / 1000.0,
+                    ackLatency.getMaxValue() / 1000.0);
+        }
+
+    }
+
+    public record TopicSnapshot(long sent, long acknowledged, long failed, long inFlight,
+                                double ackP50Millis, double ackP99Millis, double ackMaxMillis) {
+    }
+
+    public record DeliveryFailure(String topic, String message, Instant failedAt) {
+    }
+
+    public record DeliverySnapshot(Map<String, TopicSnapshot> topics, DeliveryFailure lastFailure) {
+    }
+
+}
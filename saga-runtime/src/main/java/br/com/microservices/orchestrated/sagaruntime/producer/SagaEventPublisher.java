@@ -0,0 +1,43 @@
+package br.com.microservices.orchestrated.sagaruntime.producer;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.concurrent.CompletableFuture;
+
+@Slf4j
+public class SagaEventPublisher {
+
+    private final KafkaTemplate<String, String> kafkaTemplate;
+    private final DeliveryTracker deliveryTracker;
+
+    public SagaEventPublisher(KafkaTemplate<String, String> kafkaTemplate, DeliveryTracker deliveryTracker) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.deliveryTracker = deliveryTracker;
+    }
+
+    public CompletableFuture<SendResult<String, String>> send(String topic, String key, String payload) {
+        var sentAt = deliveryTracker.sent(topic);
+        try {
+            return kafkaTemplate
+                    .send(topic, key, payload)
+                    .whenComplete((result, error) -> {
+                        if (error == null) {
+                            deliveryTracker.acknowledged(topic, sentAt);
+                        } else {
+                            deliveryTracker.failed(topic, error);
+                            log.error("Error delivering event to kafka {} with key {}", topic, key, error);
+                        }
+                    });
+        } catch (Exception e) {
+            deliveryTracker.failed(topic, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    public void flush() {
+        kafkaTemplate.flush();
+    }
+
+}
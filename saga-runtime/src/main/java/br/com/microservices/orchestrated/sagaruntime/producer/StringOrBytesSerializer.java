@@ -0,0 +1,18 @@
+package br.com.microservices.orchestrated.sagaruntime.producer;
+
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+
+public class StringOrBytesSerializer implements Serializer<Object> {
+
+    private final StringSerializer stringSerializer = new StringSerializer();
+
+    @Override
+    public byte[] serialize(String topic, Object data) {
+        if (data instanceof byte[] bytes) {
+            return bytes;
+        }
+        return stringSerializer.serialize(topic, data != null ? data.toString() : null);
+    }
+
+}
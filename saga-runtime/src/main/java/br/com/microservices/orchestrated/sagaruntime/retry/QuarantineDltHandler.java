@@ -0,0 +1,51 @@
+package br.com.microservices.orchestrated.sagaruntime.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.Headers;
+import org.springframework.kafka.support.KafkaHeaders;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+@Slf4j
+public class QuarantineDltHandler {
+
+    public static final String BEAN_NAME = "sagaQuarantineDltHandler";
+    public static final String METHOD_NAME = "handle";
+
+    private final QuarantineStore quarantineStore;
+
+    public QuarantineDltHandler(QuarantineStore quarantineStore) {
+        this.quarantineStore = quarantineStore;
+    }
+
+    public void handle(ConsumerRecord<String, String> record) {
+        var headers = record.headers();
+        var topic = header(headers, KafkaHeaders.ORIGINAL_TOPIC);
+        var partition = headers.lastHeader(KafkaHeaders.ORIGINAL_PARTITION);
+        var offset = headers.lastHeader(KafkaHeaders.ORIGINAL_OFFSET);
+        var quarantined = quarantineStore.add(
+                topic != null ? topic : record.topic(),
+                partition != null ? ByteBuffer.wrap(partition.value()).getInt() : record.partition(),
+                offset != null ? ByteBuffer.wrap(offset.value()).getLong() : record.offset(),
+                record.key(),
+                record.value(),
+                exception(headers),
+                header(headers, KafkaHeaders.EXCEPTION_MESSAGE)
+        );
+        log.error("Quarantined event {} from topic {} offset {}: {}",
+                quarantined.id(), quarantined.topic(), quarantined.offset(), quarantined.message());
+    }
+
+    private String exception(Headers headers) {
+        var cause = header(headers, KafkaHeaders.EXCEPTION_CAUSE_FQCN);
+        return cause != null ? cause : header(headers, KafkaHeaders.EXCEPTION_FQCN);
+    }
+
+    private String header(Headers headers, String name) {
+        var header = headers.lastHeader(name);
+        return header != null ? new String(header.value(), StandardCharsets.UTF_8) : null;
+    }
+
+}
@@ -0,0 +1,81 @@
+package br.com.microservices.orchestrated.sagaruntime.retry;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Events that exhausted their retries or could not be read, kept in memory for inspection and
+ * replay. The store is bounded and does not survive a restart: an evicted or lost record is only
+ * found again at the topic, partition and offset it was quarantined from (the {@code -dlt} topic for
+ * listener failures), until that topic's retention removes it. Evictions are logged with that
+ * position and counted in the snapshot.
+ */
+@Slf4j
+public class QuarantineStore {
+
+    private final Map<Long, QuarantinedRecord> records;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong evicted = new AtomicLong();
+
+    public QuarantineStore(int capacity) {
+        this.records = new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, QuarantinedRecord> eldest) {
+                if (size() > capacity) {
+                    var record = eldest.getValue();
+                    log.warn("Quarantine full, evicting record {} of {}-{}@{} (key {})",
+                            record.id(), record.topic(), record.partition(), record.offset(), record.key());
+                    evicted.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    public synchronized QuarantinedRecord add(String topic, int partition, long offset, String key, String payload,
+                                              String exception, String message) {
+        var record = new QuarantinedRecord(
+                sequence.incrementAndGet(), topic, partition, offset, key, payload, exception, message, Instant.now()
+        );
+        records.put(record.id(), record);
+        return record;
+    }
+
+    public synchronized List<QuarantinedRecord> list(String topic, int limit) {
+        return records.values()
+                .stream()
+                .filter(record -> topic == null || topic.equals(record.topic()))
+                .limit(limit)
+                .toList();
+    }
+
+    public synchronized Optional<QuarantinedRecord> find(long id) {
+        return Optional.ofNullable(records.get(id));
+    }
+
+    public synchronized Optional<QuarantinedRecord> take(long id) {
+        return Optional.ofNullable(records.remove(id));
+    }
+
+    public synchronized QuarantineSnapshot snapshot() {
+        return new QuarantineSnapshot(sequence.get(), records.size(), evicted.get());
+    }
+
+    public record QuarantinedRecord(long id, String topic, int partition, long offset, String key, String payload,
+                                    String exception, String message, Instant quarantinedAt) {
+    }
+
+    public record QuarantineSnapshot(long total, int stored, long evicted) {
+    }
+
+    public record ReplayResult(List<QuarantinedRecord> replayed, List<QuarantinedRecord> failed) {
+    }
+
+}
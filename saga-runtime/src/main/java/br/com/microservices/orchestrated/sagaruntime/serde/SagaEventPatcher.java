@@ -0,0 +1,148 @@
+package br.com.microservices.orchestrated.sagaruntime.serde;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Rewrites an event document token by token: untouched fields are copied straight from the
+ * parser to the generator, so only the patched values are ever bound to Java objects.
+ */
+public class SagaEventPatcher {
+
+    private static final int EXTRA_CAPACITY = 512;
+
+    private final ObjectMapper objectMapper;
+
+    public SagaEventPatcher(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    public static Patch patch() {
+        return new Patch();
+    }
+
+    public String apply(String json, Patch patch) {
+        var writer = new StringWriter(json.length() + EXTRA_CAPACITY);
+        try (var parser = objectMapper.createParser(json);
+             var generator = objectMapper.createGenerator(writer)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new SagaSerdeException("Event payload is not a JSON object", null);
+            }
+            copyObject(parser, generator, patch);
+        } catch (SagaSerdeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SagaSerdeException("Error patching event", e);
+        }
+        return writer.toString();
+    }
+
+    private void copyObject(JsonParser parser, JsonGenerator generator, Patch patch) throws IOException {
+        Set<String> written = new HashSet<>();
+        generator.writeStartObject();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            var field = parser.currentName();
+            var token = parser.nextToken();
+            if (patch.values.containsKey(field)) {
+                parser.skipChildren();
+                generator.writeObjectField(field, patch.values.get(field));
+            } else if (patch.nested.containsKey(field) && token == JsonToken.START_OBJECT) {
+                generator.writeFieldName(field);
+                copyObject(parser, generator, patch.nested.get(field));
+            } else if (patch.appends.containsKey(field) && token == JsonToken.START_ARRAY) {
+                generator.writeFieldName(field);
+                generator.writeStartArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    generator.copyCurrentStructure(parser);
+                }
+                writeValues(generator, patch.appends.get(field));
+                generator.writeEndArray();
+            } else if (patch.touches(field)) {
+                parser.skipChildren();
+                continue;
+            } else {
+                generator.writeFieldName(field);
+                generator.copyCurrentStructure(parser);
+                continue;
+            }
+            written.add(field);
+        }
+        writeMissing(generator, patch, written);
+        generator.writeEndObject();
+    }
+
+    private void writeMissing(JsonGenerator generator, Patch patch, Set<String> written) throws IOException {
+        for (var entry : patch.values.entrySet()) {
+            if (!written.contains(entry.getKey())) {
+                generator.writeObjectField(entry.getKey(), entry.getValue());
+            }
+        }
+        for (var entry : patch.nested.entrySet()) {
+            if (!written.contains(entry.getKey())) {
+                generator.writeFieldName(entry.getKey());
+                generator.writeStartObject();
+                writeMissing(generator, entry.getValue(), Set.of());
+                generator.writeEndObject();
+            }
+        }
+        for (var entry : patch.appends.entrySet()) {
+            if (!written.contains(entry.getKey())) {
+                generator.writeFieldName(entry.getKey());
+                generator.writeStartArray();
+                writeValues(generator, entry.getValue());
+                generator.writeEndArray();
+            }
+        }
+    }
+
+    private void writeValues(JsonGenerator generator, List<?> values) throws IOException {
+        for (var value : values) {
+            generator.writeObject(value);
+        }
+    }
+
+    public static class Patch {
+
+        private final Map<String, Object> values = new LinkedHashMap<>();
+        private final Map<String, Patch> nested = new LinkedHashMap<>();
+        private final Map<String, List<?>> appends = new LinkedHashMap<>();
+
+        public Patch set(String field, Object value) {
+            values.put(field, value);
+            return this;
+        }
+
+        public Patch setIfPresent(String field, Object value) {
+            return value == null ? this : set(field, value);
+        }
+
+        public Patch in(String field, Consumer<Patch> nestedPatch) {
+            nestedPatch.accept(nested.computeIfAbsent(field, ignored -> new Patch()));
+            return this;
+        }
+
+        public Patch append(String field, List<?> items) {
+            if (items != null && !items.isEmpty()) {
+                appends.put(field, items);
+            }
+            return this;
+        }
+
+        private boolean touches(String field) {
+            return nested.containsKey(field) || appends.containsKey(field);
+        }
+
+    }
+
+}
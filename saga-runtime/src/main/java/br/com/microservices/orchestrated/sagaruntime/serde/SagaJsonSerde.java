@@ -0,0 +1,68 @@
+package br.com.microservices.orchestrated.sagaruntime.serde;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+public class SagaJsonSerde<T> {
+
+    private final Class<T> type;
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final ObjectWriter genericWriter;
+
+    public SagaJsonSerde(ObjectMapper objectMapper, Class<T> type) {
+        this.type = type;
+        this.reader = objectMapper.readerFor(type);
+        this.writer = objectMapper.writerFor(type);
+        this.genericWriter = objectMapper.writer();
+    }
+
+    public String toJson(Object value) {
+        try {
+            return writerFor(value).writeValueAsString(value);
+        } catch (Exception e) {
+            throw new SagaSerdeException("Error serializing " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    public byte[] toBytes(Object value) {
+        try {
+            return writerFor(value).writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new SagaSerdeException("Error serializing " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    public T fromJson(String json) {
+        T value;
+        try {
+            value = reader.readValue(json);
+        } catch (Exception e) {
+            throw new SagaSerdeException("Error deserializing " + type.getSimpleName(), e);
+        }
+        return requireValue(value);
+    }
+
+    public T fromBytes(byte[] json) {
+        T value;
+        try {
+            value = reader.readValue(json);
+        } catch (Exception e) {
+            throw new SagaSerdeException("Error deserializing " + type.getSimpleName(), e);
+        }
+        return requireValue(value);
+    }
+
+    private T requireValue(T value) {
+        if (value == null) {
+            throw new SagaSerdeException("Empty " + type.getSimpleName() + " payload", null);
+        }
+        return value;
+    }
+
+    private ObjectWriter writerFor(Object value) {
+        return type.isInstance(value) ? writer : genericWriter;
+    }
+
+}
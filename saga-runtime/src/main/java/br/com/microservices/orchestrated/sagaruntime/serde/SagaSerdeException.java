@@ -0,0 +1,9 @@
+package br.com.microservices.orchestrated.sagaruntime.serde;
+
+public class SagaSerdeException extends RuntimeException {
+
+    public SagaSerdeException(String message, Throwable cause) {
+        super(message, cause);
+    }
+
+}
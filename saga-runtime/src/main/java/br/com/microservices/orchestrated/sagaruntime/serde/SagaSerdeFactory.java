@@ -0,0 +1,42 @@
+package br.com.microservices.orchestrated.sagaruntime.serde;
+
+import br.com.microservices.orchestrated.sagaruntime.config.SagaRuntimeProperties;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+public class SagaSerdeFactory {
+
+    private final ObjectMapper objectMapper;
+    private final boolean patch;
+
+    public SagaSerdeFactory(ObjectMapper objectMapper, SagaRuntimeProperties properties) {
+        this.objectMapper = properties.getSerde().isBlackbird()
+                ? objectMapper.copy().registerModule(new BlackbirdModule())
+                : objectMapper;
+        this.patch = properties.getSerde().isPatch();
+    }
+
+    public <T> SagaJsonSerde<T> forType(Class<T> type) {
+        return new SagaJsonSerde<>(objectMapper, type);
+    }
+
+    public <T> SagaJsonSerde<T> forTypeIgnoring(Class<T> type, String... properties) {
+        var mapper = objectMapper.copy();
+        mapper.configOverride(type).setIgnorals(JsonIgnoreProperties.Value.forIgnoredProperties(properties));
+        return new SagaJsonSerde<>(mapper, type);
+    }
+
+    public SagaEventPatcher patcher() {
+        return new SagaEventPatcher(objectMapper);
+    }
+
+    public boolean isPatch() {
+        return patch;
+    }
+
+    public ObjectMapper getObjectMapper() {
+        return objectMapper;
+    }
+
+}
@@ -0,0 +1,108 @@
+package br.com.microservices.orchestrated.sagaruntime.web;
+
+import br.com.microservices.orchestrated.sagaruntime.consumer.ConsumerLagRegistry;
+import br.com.microservices.orchestrated.sagaruntime.metrics.StepTimer;
+import br.com.microservices.orchestrated.sagaruntime.producer.DeliveryTracker;
+import br.com.microservices.orchestrated.sagaruntime.producer.SagaEventPublisher;
+import br.com.microservices.orchestrated.sagaruntime.retry.QuarantineStore;
+import lombok.AllArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+@RestController
+@AllArgsConstructor
+@RequestMapping("/api/runtime")
+public class SagaRuntimeController {
+
+    private final StepTimer stepTimer;
+    private final DeliveryTracker deliveryTracker;
+    private final ConsumerLagRegistry consumerLagRegistry;
+    private final QuarantineStore quarantineStore;
+    private final SagaEventPublisher eventPublisher;
+
+    @GetMapping("steps")
+    public Map<String, StepTimer.StepSnapshot> steps() {
+        return stepTimer.snapshot();
+    }
+
+    @GetMapping("deliveries")
+    public DeliveryTracker.DeliverySnapshot deliveries() {
+        return deliveryTracker.snapshot();
+    }
+
+    @GetMapping("consumers")
+    public ConsumerLagRegistry.ConsumerLagSnapshot consumers() {
+        return consumerLagRegistry.snapshot();
+    }
+
+    @GetMapping("quarantine")
+    public QuarantineStore.QuarantineSnapshot quarantineSnapshot() {
+        return quarantineStore.snapshot();
+    }
+
+    @GetMapping("quarantine/records")
+    public List<QuarantineStore.QuarantinedRecord> quarantinedRecords(@RequestParam(required = false) String topic,
+                                                                      @RequestParam(defaultValue = "100") int limit) {
+        return quarantineStore.list(topic, limit);
+    }
+
+    @PostMapping("quarantine/records/{id}/replay")
+    public CompletableFuture<ResponseEntity<QuarantineStore.QuarantinedRecord>> replay(@PathVariable long id) {
+        return quarantineStore
+                .find(id)
+                .map(record -> replay(record).handle((replayed, error) -> error == null
+                        ? ResponseEntity.ok(record)
+                        : ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(record)))
+                .orElseGet(() -> CompletableFuture.completedFuture(ResponseEntity.notFound().build()));
+    }
+
+    @PostMapping("quarantine/replay")
+    public CompletableFuture<ResponseEntity<QuarantineStore.ReplayResult>> replayAll(@RequestParam(required = false) String topic) {
+        var records = quarantineStore.list(topic, Integer.MAX_VALUE);
+        var replays = records.stream().map(this::replay).toList();
+        eventPublisher.flush();
+        return CompletableFuture
+                .allOf(replays.stream().map(replay -> replay.exceptionally(error -> false)).toArray(CompletableFuture[]::new))
+                .thenApply(ignored -> {
+                    var replayed = new ArrayList<QuarantineStore.QuarantinedRecord>();
+                    var failed = new ArrayList<QuarantineStore.QuarantinedRecord>();
+                    for (int i = 0; i < records.size(); i++) {
+                        (replays.get(i).isCompletedExceptionally() ? failed : replayed).add(records.get(i));
+                    }
+                    var result = new QuarantineStore.ReplayResult(replayed, failed);
+                    return failed.isEmpty()
+                            ? ResponseEntity.ok(result)
+                            : ResponseEntity.status(HttpStatus.BAD_GATEWAY).body(result);
+                });
+    }
+
+    @DeleteMapping("quarantine/records/{id}")
+    public ResponseEntity<Void> discard(@PathVariable long id) {
+        return quarantineStore.take(id).isPresent()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Sends the record back to its original topic and removes it from the quarantine only once the
+     * broker acknowledges it, so a failed replay leaves the record in place to be replayed again.
+     */
+    private CompletableFuture<Boolean> replay(QuarantineStore.QuarantinedRecord record) {
+        return eventPublisher
+                .send(record.topic(), record.key(), record.payload())
+                .thenApply(result -> quarantineStore.take(record.id()).isPresent());
+    }
+
+}